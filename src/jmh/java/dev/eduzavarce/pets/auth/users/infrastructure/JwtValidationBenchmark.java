@@ -0,0 +1,76 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.CreateUserDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of the previous JWT validation (key rebuilt and token parsed three
+ * times) with the current one (one verification against a prebuilt key, optionally cached).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+    private static final String SECRET = "ce5e82685b90de63d1548054beab3b5e691d257c07799db1d073002d34b6ac09";
+
+    private JwtService jwtService;
+    private JwtService cachedJwtService;
+    private UserPostgresEntity user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000,
+                new VerifiedClaimsCache(new SimpleMeterRegistry(), false, 0, Duration.ZERO));
+        cachedJwtService = new JwtService(SECRET, 3_600_000,
+                new VerifiedClaimsCache(new SimpleMeterRegistry(), true, 10_000, Duration.ofSeconds(30)));
+        user = new UserPostgresEntity(new CreateUserDto("11111111-1111-1111-1111-111111111111", "johnny", "john@doe.com", "hash"));
+        HashMap<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        token = jwtService.generateToken(claims, user);
+    }
+
+    @Benchmark
+    public boolean legacyParseThreeTimes() {
+        // extractUsername in the filter, then isTokenValid: extractUsername + extractExpiration
+        String username = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(user.getUsername())
+                && username != null
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        Claims claims = jwtService.verify(token);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean parseOnceWithClaimsCache() {
+        Claims claims = cachedJwtService.verify(token);
+        return cachedJwtService.isTokenValid(claims, user);
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(legacySecretKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey legacySecretKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
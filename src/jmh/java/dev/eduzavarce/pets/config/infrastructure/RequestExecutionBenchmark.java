@@ -0,0 +1,119 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load model of the servlet path under {@code spring.threads.virtual.enabled=false|true}: bursts of
+ * concurrent requests, each blocking on other I/O (auth, broker confirms) and then on a query that needs
+ * one of the ten Hikari connections. Platform mode runs them on Tomcat's 200 worker threads, virtual mode
+ * on one virtual thread each. With {@code pinnedQuery} the query runs inside {@code synchronized}, as it
+ * did in the loading user-details cache, so a waiting virtual thread holds its carrier.
+ * <p>
+ * The score is requests per second; the p99 latency of each iteration, measured from the start of the
+ * burst as a client would see it, is printed after it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestExecutionBenchmark {
+    private static final int IN_FLIGHT = 2_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int HIKARI_POOL_SIZE = 10;
+    private static final long OTHER_IO_MILLIS = 20;
+    private static final long QUERY_MILLIS = 1;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"false", "true"})
+    public boolean pinnedQuery;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+    private Object[] locks;
+    private final List<long[]> iterationLatencies = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        connections = new Semaphore(HIKARI_POOL_SIZE);
+        // One monitor per request, like distinct cache keys: no contention, only pinning
+        locks = new Object[IN_FLIGHT];
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    @TearDown(Level.Iteration)
+    public void printP99() {
+        long[] all = iterationLatencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        iterationLatencies.clear();
+        if (all.length == 0) return;
+        long p99 = all[(int) Math.ceil(all.length * 0.99) - 1];
+        System.out.printf("%n%s pinnedQuery=%s p99=%.1f ms over %d requests%n",
+                mode, pinnedQuery, p99 / 1_000_000.0, all.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public void burst() throws InterruptedException {
+        long[] latencies = new long[IN_FLIGHT];
+        CountDownLatch done = new CountDownLatch(IN_FLIGHT);
+        long start = System.nanoTime();
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            int request = i;
+            executor.execute(() -> {
+                try {
+                    handle(request);
+                } finally {
+                    latencies[request] = System.nanoTime() - start;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        iterationLatencies.add(latencies);
+    }
+
+    private void handle(int request) {
+        sleep(OTHER_IO_MILLIS);
+        if (pinnedQuery) {
+            synchronized (locks[request]) {
+                query();
+            }
+        } else {
+            query();
+        }
+    }
+
+    private void query() {
+        connections.acquireUninterruptibly();
+        try {
+            sleep(QUERY_MILLIS);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.auth.users.infrastructure.UserDtoEventSchema;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetDtoEventSchema;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetUserDtoEventSchema;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of one event on the previous JSON path (Jackson, body decoded to a map and
+ * hand-mapped by the consumer), the current JSON path (body decoded to its type) and the binary format.
+ * Bytes per event of each format are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventWireFormatBenchmark {
+
+    @Param({"user.created", "pet.created"})
+    public String eventName;
+
+    private Jackson2JsonMessageConverter legacyJson;
+    private DomainEventMessageConverter json;
+    private DomainEventMessageConverter binary;
+    private DomainEventDto event;
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @Setup
+    public void setUp() {
+        EventBodySchemas schemas = new EventBodySchemas(
+                List.of(new UserDtoEventSchema(), new PetDtoEventSchema(), new PetUserDtoEventSchema()));
+        DomainEventCodec codec = new DomainEventCodec(schemas);
+        legacyJson = new Jackson2JsonMessageConverter();
+        json = new DomainEventMessageConverter(legacyJson, codec, schemas, new ObjectMapper(),
+                DomainEventMessageConverter.WireFormat.JSON);
+        binary = new DomainEventMessageConverter(legacyJson, codec, schemas, new ObjectMapper(),
+                DomainEventMessageConverter.WireFormat.BINARY);
+
+        String userId = "3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e";
+        Object body = "user.created".equals(eventName)
+                ? new UserDto(userId, "john.doe", "john.doe@example.com", "USER")
+                : new PetDto("a1b2c3d4-e5f6-7890-abcd-ef0123456789", "Fluffy", userId, 80, 20, 60, PetType.CAT);
+        event = new DomainEventDto("5b1f0d7e-2c1a-4e0b-9d55-0c8f7a3e2b91", eventName, "2025-01-01", userId, body);
+        jsonMessage = json.toMessage(event, new MessageProperties());
+        binaryMessage = binary.toMessage(event, new MessageProperties());
+        System.out.printf("%n%s bytes per event: json=%d binary=%d%n",
+                eventName, jsonMessage.getBody().length, binaryMessage.getBody().length);
+    }
+
+    @Benchmark
+    public Message encodeJson() {
+        return json.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message encodeBinary() {
+        return binary.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decodeJsonUntyped() {
+        return legacyJson.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Object decodeJsonTyped() {
+        return json.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return binary.fromMessage(binaryMessage);
+    }
+}
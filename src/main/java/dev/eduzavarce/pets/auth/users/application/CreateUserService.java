@@ -9,6 +9,8 @@ import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
 import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.AlreadyExistsException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -17,13 +19,20 @@ public class CreateUserService {
     private final PasswordHasher passwordHasher;
     private final AuthUserRepository authUserRepository;
     private final EventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
 
-    public CreateUserService(PasswordHasher passwordHasher, AuthUserRepository authUserRepository, EventBus eventBus) {
+    public CreateUserService(PasswordHasher passwordHasher, AuthUserRepository authUserRepository, EventBus eventBus,
+                             PlatformTransactionManager transactionManager) {
         this.authUserRepository = authUserRepository;
         this.passwordHasher = passwordHasher;
         this.eventBus = eventBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Hashes the password before the transaction opens, so no pooled connection is held while BCrypt
+     * runs or waits for a hasher thread.
+     */
     public void createUser(CreateUserRequest createUserRequest) {
         String hashedPassword = passwordHasher.hash(createUserRequest.password());
         CreateUserDto createUserDto = new CreateUserDto(
@@ -32,11 +41,13 @@ public class CreateUserService {
                 createUserRequest.email(),
                 hashedPassword
         );
-        ensureUserDosNotExist(createUserDto);
+        transactionTemplate.executeWithoutResult(status -> {
+            ensureUserDosNotExist(createUserDto);
 
-        User user = User.create(createUserDto);
-        authUserRepository.save(new UserPostgresEntity(createUserDto));
-        eventBus.publish(user.pullDomainEvents());
+            User user = User.create(createUserDto);
+            authUserRepository.save(new UserPostgresEntity(createUserDto));
+            eventBus.publish(user.pullDomainEvents());
+        });
     }
 
     private void ensureUserDosNotExist(CreateUserDto createUserDto) {
@@ -0,0 +1,11 @@
+package dev.eduzavarce.pets.auth.users.domain;
+
+/**
+ * The caller of an authenticated request, whether it was loaded from the database or rebuilt
+ * from verified token claims. {@code getUsername()} is the login email, as in Spring's UserDetails.
+ */
+public interface AuthenticatedUser {
+    String getId();
+
+    String getUsername();
+}
@@ -0,0 +1,65 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.User;
+import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn.Type;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyTable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.required;
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.timestamp;
+
+/**
+ * Users are imported with their password hashes as exported; hashing plain passwords row by row would
+ * dominate the import, so they are rejected.
+ */
+@Component
+public class AuthUserCopyTable implements CopyTable {
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final List<CopyColumn> COLUMNS = List.of(
+            new CopyColumn("id", Type.UUID),
+            new CopyColumn("username", Type.TEXT),
+            new CopyColumn("email", Type.TEXT),
+            new CopyColumn("password", Type.TEXT),
+            new CopyColumn("role", Type.TEXT),
+            new CopyColumn("created_at", Type.TIMESTAMP),
+            new CopyColumn("updated_at", Type.TIMESTAMP));
+    private static final String INSERT_FROM_STAGE = """
+            INSERT INTO auth_users (id, username, email, password, role, created_at, updated_at)
+            SELECT s.id, s.username, s.email, s.password, s.role,
+                   COALESCE(s.created_at, LOCALTIMESTAMP), COALESCE(s.updated_at, LOCALTIMESTAMP)
+            FROM copy_stage s
+            ON CONFLICT DO NOTHING
+            """;
+
+    @Override
+    public String name() {
+        return "auth_users";
+    }
+
+    @Override
+    public List<CopyColumn> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public String[] validate(String[] row) {
+        UserDto user = User.fromPrimitives(new UserDto(required(row[0], "id"), required(row[1], "username"),
+                required(row[2], "email"), required(row[4], "role").trim())).toPrimitives();
+        String password = required(row[3], "password");
+        if (!BCRYPT_HASH.matcher(password).matches()) {
+            throw new IllegalArgumentException("password must be a bcrypt hash");
+        }
+        return new String[]{user.id(), user.username(), user.email(), password, user.role(),
+                timestamp(row[5], "created_at"), timestamp(row[6], "updated_at")};
+    }
+
+    @Override
+    public String insertFromStage() {
+        return INSERT_FROM_STAGE;
+    }
+}
@@ -9,8 +9,8 @@ import org.springframework.stereotype.Service;
 public class BcryptUtils implements PasswordHasher {
     private final PasswordEncoder passwordEncoder;
 
-    public BcryptUtils() {
-        this.passwordEncoder = new BCryptPasswordEncoder(10);
+    public BcryptUtils(PasswordHashingExecutor passwordHashingExecutor) {
+        this.passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(10), passwordHashingExecutor);
     }
 
     public String hash(String password) {
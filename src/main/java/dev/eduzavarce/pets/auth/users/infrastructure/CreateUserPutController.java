@@ -49,6 +49,9 @@ public class CreateUserPutController {
     @ApiResponse(responseCode = "409", description = "User with same username or email already exists",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class),
                     examples = @ExampleObject(value = "{\n  \"message\": \"User already exists\"\n}")))
+    @ApiResponse(responseCode = "503", description = "Password hashing capacity exhausted, retry after the Retry-After header",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+                    examples = @ExampleObject(value = "{\n  \"message\": \"Authentication is temporarily overloaded, please retry\"\n}")))
     @ApiResponse(responseCode = "500", description = "Unexpected server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class),
                     examples = @ExampleObject(value = "{\n  \"message\": \"Internal server error\"\n}")))
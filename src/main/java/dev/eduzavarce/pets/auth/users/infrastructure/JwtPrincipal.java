@@ -0,0 +1,49 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lightweight principal built from verified JWT claims ({@code sub}, {@code userId}, {@code roles})
+ * without touching the database. It carries no password.
+ */
+public record JwtPrincipal(String id, String email, List<GrantedAuthority> authorities)
+        implements AuthenticatedUser, UserDetails {
+
+    public static Optional<JwtPrincipal> fromClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        if (userId == null || claims.getSubject() == null) return Optional.empty();
+        List<?> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return Optional.of(new JwtPrincipal(userId, claims.getSubject(), authorities));
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.eduzavarce.pets.auth.users.infrastructure;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -18,11 +19,30 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
-    @Value("${security.jwt.secret-key}")
-    private String secretKeyB64;
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final VerifiedClaimsCache claimsCache;
+
+    public JwtService(@Value("${security.jwt.secret-key}") String secretKeyB64,
+                      @Value("${security.jwt.expiration-time}") long jwtExpiration,
+                      VerifiedClaimsCache claimsCache) {
+        // Decoded and built once: the key and the parser are immutable and thread-safe
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKeyB64));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)                      // same SecretKey for HS256 verify
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.claimsCache = claimsCache;
+    }
 
-    @Value("${security.jwt.expiration-time}")
-    private long jwtExpiration;
+    /**
+     * Verifies the signature and expiration of the token and returns its claims, parsing it only once.
+     * Throws a {@link io.jsonwebtoken.JwtException} when the token is malformed, tampered or expired.
+     */
+    public Claims verify(String token) {
+        return claimsCache.get(token, parser::parseSignedClaims);
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -33,8 +53,7 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token));
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -67,34 +86,23 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSecretKey(), Jwts.SIG.HS256)   // HS256 (HMAC-SHA256)
+                .signWith(secretKey, Jwts.SIG.HS256)   // HS256 (HMAC-SHA256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSecretKey())                 // same SecretKey for HS256 verify
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Checks already verified claims against the loaded user without touching the token again.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
 
-    private SecretKey getSecretKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKeyB64);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isExpired(Claims claims) {
+        // The parser rejects expired tokens; this covers claims served from the cache
+        return claims.getExpiration().before(new Date());
     }
 }
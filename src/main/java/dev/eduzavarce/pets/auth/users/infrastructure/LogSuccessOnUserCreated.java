@@ -4,17 +4,35 @@ import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
 import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import dev.eduzavarce.pets.shared.core.infrastructure.RabbitConsumerMetrics;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
+
 @Component
 public class LogSuccessOnUserCreated implements DomainEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(LogSuccessOnUserCreated.class);
 
-    @RabbitListener(queues = "${app.rabbitmq.queues.user-created-log:user-created-log.q}")
-    public void onMessage(@Payload DomainEventDto event) {
+    private final RabbitConsumerMetrics consumerMetrics;
+    private final String queue;
+
+    public LogSuccessOnUserCreated(RabbitConsumerMetrics consumerMetrics,
+                                   @Value("${app.rabbitmq.queues.user-created-log:user-created-log.q}") String queue) {
+        this.consumerMetrics = consumerMetrics;
+        this.queue = queue;
+    }
+
+    @RabbitListener(queues = "${app.rabbitmq.queues.user-created-log:user-created-log.q}",
+            autoStartup = "#{'${app.events.transport:rabbitmq}' == 'rabbitmq'}")
+    public void onMessage(@Payload DomainEventDto event,
+                          @Header(name = AmqpHeaders.TIMESTAMP, required = false) Date publishedAt) {
+        consumerMetrics.recordLag(queue, publishedAt);
         onEvent(event);
     }
 
@@ -34,7 +52,7 @@ public class LogSuccessOnUserCreated implements DomainEventListener {
                     event.aggregateId(), event.occurredOn(), event.body());
         } catch (Exception e) {
             log.error("Error processing UserCreated event: {}", e.getMessage(), e);
-            throw e; // Let listener infrastructure handle retries/DLQ if configured
+            throw e; // The transport retries it with backoff and finally dead-letters it
         }
     }
 }
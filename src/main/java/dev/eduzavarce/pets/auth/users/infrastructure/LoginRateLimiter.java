@@ -0,0 +1,89 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.eduzavarce.pets.shared.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client-IP and per-account token buckets checked before a login reaches BCrypt, so credential
+ * stuffing from one address and guessing against one account are both turned away cheaply with a 429.
+ * Buckets live in bounded Caffeine caches and expire once they would have refilled completely, which
+ * is indistinguishable from a fresh bucket. Refusals are counted as {@code auth.login.throttled}.
+ */
+@Component
+public class LoginRateLimiter {
+    static final String THROTTLED_COUNTER = "auth.login.throttled";
+
+    private final Limit ipLimit;
+    private final Limit accountLimit;
+
+    @Autowired
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${app.security.login-rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${app.security.login-rate-limit.ip.capacity:20}") long ipCapacity,
+                            @Value("${app.security.login-rate-limit.ip.refill-every:PT3S}") Duration ipRefill,
+                            @Value("${app.security.login-rate-limit.account.capacity:5}") long accountCapacity,
+                            @Value("${app.security.login-rate-limit.account.refill-every:PT12S}") Duration accountRefill) {
+        this(meterRegistry, maxKeys, ipCapacity, ipRefill, accountCapacity, accountRefill, System::nanoTime);
+    }
+
+    LoginRateLimiter(MeterRegistry meterRegistry, long maxKeys,
+                     long ipCapacity, Duration ipRefill,
+                     long accountCapacity, Duration accountRefill,
+                     LongSupplier ticker) {
+        this.ipLimit = new Limit(maxKeys, ipCapacity, ipRefill, ticker,
+                Counter.builder(THROTTLED_COUNTER).tag("scope", "ip").register(meterRegistry));
+        this.accountLimit = new Limit(maxKeys, accountCapacity, accountRefill, ticker,
+                Counter.builder(THROTTLED_COUNTER).tag("scope", "account").register(meterRegistry));
+    }
+
+    /**
+     * Consumes one token from the client's bucket and one from the account's bucket.
+     *
+     * @throws TooManyRequestsException when either bucket is empty
+     */
+    public void acquire(String clientIp, String account) {
+        ipLimit.acquire(clientIp);
+        accountLimit.acquire(account.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static final class Limit {
+        private final Cache<String, TokenBucket> buckets;
+        private final long capacity;
+        private final long refillNanos;
+        private final LongSupplier ticker;
+        private final Counter throttled;
+
+        Limit(long maxKeys, long capacity, Duration refill, LongSupplier ticker, Counter throttled) {
+            this.capacity = capacity;
+            this.refillNanos = refill.toNanos();
+            this.ticker = ticker;
+            this.throttled = throttled;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(refill.multipliedBy(capacity))
+                    .ticker(ticker::getAsLong)
+                    .build();
+        }
+
+        void acquire(String key) {
+            long now = ticker.getAsLong();
+            TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillNanos, now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                throttled.increment();
+                throw new TooManyRequestsException("Too many login attempts, please retry later",
+                        Duration.ofNanos(waitNanos));
+            }
+        }
+    }
+}
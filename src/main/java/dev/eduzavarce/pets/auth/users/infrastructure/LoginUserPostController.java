@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -22,10 +23,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Users", description = "Operations related to users")
 public class LoginUserPostController {
     private final LoginUserService service;
+    private final LoginRateLimiter rateLimiter;
 
-    public LoginUserPostController(LoginUserService service) {
+    public LoginUserPostController(LoginUserService service, LoginRateLimiter rateLimiter) {
         this.service = service;
-
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping
@@ -58,10 +60,18 @@ public class LoginUserPostController {
     @ApiResponse(responseCode = "401", description = "Invalid credentials",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class),
                     examples = @ExampleObject(value = "{\n  \"message\": \"Invalid username or password\"\n}")))
+    @ApiResponse(responseCode = "429", description = "Too many login attempts from this client or for this account",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+                    examples = @ExampleObject(value = "{\n  \"message\": \"Too many login attempts, please retry later\"\n}")))
+    @ApiResponse(responseCode = "503", description = "Password hashing capacity exhausted, retry after the Retry-After header",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+                    examples = @ExampleObject(value = "{\n  \"message\": \"Authentication is temporarily overloaded, please retry\"\n}")))
     @ApiResponse(responseCode = "500", description = "Unexpected server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class),
                     examples = @ExampleObject(value = "{\n  \"message\": \"Internal server error\"\n}")))
-    public ResponseEntity<ResponseDto<LoginResponse>> execute(@RequestBody @Valid LoginUserRequest request) {
+    public ResponseEntity<ResponseDto<LoginResponse>> execute(@RequestBody @Valid LoginUserRequest request,
+                                                            HttpServletRequest httpRequest) {
+        rateLimiter.acquire(httpRequest.getRemoteAddr(), request.email());
         String token = service.login(request.email(), request.password());
         return ResponseEntity.ok(new ResponseDto<>("success", new LoginResponse(token)));
     }
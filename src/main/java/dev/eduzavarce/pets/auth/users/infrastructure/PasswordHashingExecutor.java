@@ -0,0 +1,90 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt work on a small dedicated pool instead of the Tomcat request threads, so a login burst
+ * is capped at {@code threads} busy cores and cannot starve the rest of the API. Callers wait at most
+ * {@code timeout}; when the queue is full or the wait runs out the request fails fast with a 503.
+ * Latency is exported as {@code auth.password.hash} and refusals as {@code auth.password.hash.rejected}.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    static final String HASH_TIMER = "auth.password.hash";
+    static final String REJECTED_COUNTER = "auth.password.hash.rejected";
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer latency;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${app.security.password-hashing.threads:0}") int threads,
+                                   @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.security.password-hashing.timeout:PT5S}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.latency = Timer.builder(HASH_TIMER)
+                .description("Time spent hashing or verifying a password, excluding queueing")
+                .register(meterRegistry);
+        this.queueFull = Counter.builder(REJECTED_COUNTER).tag("reason", "queue-full").register(meterRegistry);
+        this.timedOut = Counter.builder(REJECTED_COUNTER).tag("reason", "timeout").register(meterRegistry);
+        meterRegistry.gauge("auth.password.hash.queue", executor, e -> e.getQueue().size());
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> latency.record(task));
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            throw overloaded();
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Authentication is temporarily overloaded, please retry", timeout);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,37 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+/**
+ * Classic token bucket: holds up to {@code capacity} tokens and regains one every {@code refillNanos}.
+ * Time is passed in by the caller so the bucket stays free of clocks.
+ */
+final class TokenBucket {
+    private final long capacity;
+    private final long refillNanos;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(long capacity, long refillNanos, long now) {
+        this.capacity = capacity;
+        this.refillNanos = refillNanos;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until the next token
+     */
+    synchronized long tryConsume(long now) {
+        long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + (double) elapsed / refillNanos);
+            lastRefill = now;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * refillNanos);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated users keyed by email, so the JWT filter does not hit
+ * {@code auth_users} on every request. Entries are dropped as soon as the row changes (see
+ * {@link UserDetailsCacheInvalidator}); the TTL only bounds staleness for changes made outside JPA.
+ * Hits, misses and evictions are exported under {@code cache.*} with {@code cache=auth.user-details}.
+ * <p>
+ * Misses are loaded outside the cache's map lock: a loading {@code get} would run the query inside a
+ * {@code synchronized} block, pinning a virtual thread to its carrier while it waits for a connection.
+ */
+@Component
+public class UserDetailsCache {
+    static final String CACHE_NAME = "auth.user-details";
+
+    private final Cache<String, UserPostgresEntity> cache;
+    // Bumped before every invalidation, so a load that raced with one is returned but not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${app.security.user-cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserPostgresEntity get(String email, Function<String, UserPostgresEntity> loader) {
+        UserPostgresEntity cached = cache.getIfPresent(email);
+        if (cached != null) return cached;
+        // Concurrent misses on one email may both load; that costs a query, never a stale entry
+        long generation = invalidations.get();
+        UserPostgresEntity loaded = loader.apply(email);
+        cache.asMap().compute(email, (key, current) -> invalidations.get() == generation ? loaded : current);
+        return loaded;
+    }
+
+    public void invalidate(String email) {
+        invalidations.incrementAndGet();
+        cache.invalidate(email);
+    }
+
+    /**
+     * Drops the entries of a user by id, which also covers an email that changed since it was cached.
+     */
+    public void invalidateUser(String userId) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(user -> user.getId().equals(userId));
+    }
+}
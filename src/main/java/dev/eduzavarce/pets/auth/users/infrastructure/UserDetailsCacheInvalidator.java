@@ -0,0 +1,27 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener that evicts a user from {@link UserDetailsCache} whenever its row is updated or
+ * deleted, so role and password changes take effect on the next request. Hibernate instantiates it
+ * through Spring; the cache is optional so JPA slices without it still bootstrap.
+ */
+public class UserDetailsCacheInvalidator {
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    public UserDetailsCacheInvalidator(ObjectProvider<UserDetailsCache> userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void evict(UserPostgresEntity user) {
+        userDetailsCache.ifAvailable(cache -> {
+            cache.invalidate(user.getUsername());
+            cache.invalidateUser(user.getId());
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.BinaryEventReader;
+import dev.eduzavarce.pets.shared.core.infrastructure.BinaryEventWriter;
+import dev.eduzavarce.pets.shared.core.infrastructure.EventBodySchema;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class UserDtoEventSchema implements EventBodySchema<UserDto> {
+
+    @Override
+    public int id() {
+        return 1;
+    }
+
+    @Override
+    public Class<UserDto> type() {
+        return UserDto.class;
+    }
+
+    @Override
+    public Set<String> eventNames() {
+        return Set.of("user.created");
+    }
+
+    @Override
+    public void write(UserDto body, BinaryEventWriter out) {
+        out.writeId(body.id());
+        out.writeString(body.username());
+        out.writeString(body.email());
+        out.writeString(body.role());
+    }
+
+    @Override
+    public UserDto read(BinaryEventReader in) {
+        return new UserDto(in.readId(), in.readString(), in.readString(), in.readString());
+    }
+}
@@ -13,8 +13,10 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity(name = "auth_users")
-public class UserPostgresEntity implements UserEntity, UserDetails {
+@EntityListeners(UserDetailsCacheInvalidator.class)
+public class UserPostgresEntity implements UserEntity, UserDetails, AuthenticatedUser {
     @Id
+    @Column(columnDefinition = "uuid")
     private String id;
     @Column(unique = true, nullable = false)
     private String username;
@@ -59,6 +61,7 @@ public class UserPostgresEntity implements UserEntity, UserDetails {
         return email;
     }
 
+    @Override
     public String getId() {
         return id;
     }
@@ -0,0 +1,66 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Optional short-lived cache of verified token claims keyed by the SHA-256 of the token, so a
+ * client reusing its token skips the signature check and JSON parse. Only verified claims are
+ * stored, never past the token's own expiration. Disabled by default.
+ */
+@Component
+public class VerifiedClaimsCache {
+    static final String CACHE_NAME = "auth.jwt-claims";
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedClaimsCache(MeterRegistry meterRegistry,
+                               @Value("${security.jwt.claims-cache.enabled:false}") boolean enabled,
+                               @Value("${security.jwt.claims-cache.max-size:10000}") long maxSize,
+                               @Value("${security.jwt.claims-cache.ttl:PT30S}") Duration ttl) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Claims>creating((token, claims) -> untilExpiration(claims, ttl)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Claims get(String token, Function<String, Jws<Claims>> verifier) {
+        if (cache == null) return verifier.apply(token).getPayload();
+        return cache.get(sha256(token), hash -> verifier.apply(token).getPayload());
+    }
+
+    private static Duration untilExpiration(Claims claims, Duration ttl) {
+        Duration remaining = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
+        if (remaining.isNegative()) return Duration.ZERO;
+        return remaining.compareTo(ttl) < 0 ? remaining : ttl;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package dev.eduzavarce.pets.config.infrastructure;
 
 import dev.eduzavarce.pets.auth.users.infrastructure.AuthUserRepository;
+import dev.eduzavarce.pets.auth.users.infrastructure.BoundedPasswordEncoder;
+import dev.eduzavarce.pets.auth.users.infrastructure.PasswordHashingExecutor;
+import dev.eduzavarce.pets.auth.users.infrastructure.UserDetailsCache;
 import dev.eduzavarce.pets.config.domain.AuthenticationManagerException;
 import dev.eduzavarce.pets.shared.exceptions.AuthenticationException;
 import org.springframework.context.annotation.Bean;
@@ -17,20 +20,23 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class ApplicationConfiguration {
 
     private final AuthUserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public ApplicationConfiguration(AuthUserRepository userRepository) {
+    public ApplicationConfiguration(AuthUserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Bean
     UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(() -> new AuthenticationException("Invalid username or password"));
+        // Unknown emails are not cached: the loader throws and nothing is stored
+        return username -> userDetailsCache.get(username, email -> userRepository.findByEmail(email)
+                .orElseThrow(() -> new AuthenticationException("Invalid username or password")));
     }
 
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     @Bean
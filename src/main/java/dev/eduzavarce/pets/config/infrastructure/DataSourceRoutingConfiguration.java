@@ -0,0 +1,106 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to read replicas when
+ * {@code app.datasource.routing.enabled} is set; without it the single auto-configured pool is used.
+ * <p>
+ * The application {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: it only picks a pool on
+ * the first statement of a transaction, once the transaction is known to be read-only, and takes
+ * read-only connections from the {@link ReplicaDataSource}. Everything else, and Flyway, uses the primary
+ * pool configured by {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfiguration implements WebMvcConfigurer {
+    private static final long READ_YOUR_WRITES_MAX_USERS = 100_000;
+
+    private final DataSourceRoutingProperties properties;
+
+    public DataSourceRoutingConfiguration(DataSourceRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(properties.getReadYourWritesWindow(), READ_YOUR_WRITES_MAX_USERS);
+    }
+
+    @Bean
+    ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                        DataSourceProperties dataSourceProperties,
+                                        ReadYourWrites readYourWrites,
+                                        MeterRegistry meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("app.datasource.routing.enabled requires at least one app.datasource.routing.replicas entry");
+        }
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            replicas.add(new ReplicaDataSource.Replica(name,
+                    replicaPool(name, replica, dataSourceProperties, meterRegistry)));
+        }
+        return new ReplicaDataSource(primaryDataSource, replicas, readYourWrites, properties.getMaxLag(), meterRegistry);
+    }
+
+    private static HikariDataSource replicaPool(String name, DataSourceRoutingProperties.Replica replica,
+                                                DataSourceProperties primary, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("HikariCP-" + name);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+        config.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        config.setDriverClassName(primary.determineDriverClassName());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        config.setMinimumIdle(replica.getMinimumIdle());
+        config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        config.setIdleTimeout(replica.getIdleTimeout().toMillis());
+        config.setMaxLifetime(replica.getMaxLifetime().toMillis());
+        config.setReadOnly(true);
+        // Starts even while the replica is down; it joins the rotation once the health check reaches it
+        config.setInitializationFailTimeout(-1);
+        config.setMetricRegistry(meterRegistry);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWrites()))
+                .addPathPatterns("/api/v1/pets/**", "/api/v1/backoffice/pets/**");
+    }
+}
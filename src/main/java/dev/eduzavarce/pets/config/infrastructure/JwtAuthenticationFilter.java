@@ -1,11 +1,14 @@
 package dev.eduzavarce.pets.config.infrastructure;
 
+import dev.eduzavarce.pets.auth.users.infrastructure.JwtPrincipal;
 import dev.eduzavarce.pets.auth.users.infrastructure.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,21 +20,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final boolean statelessPrincipal;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
             UserDetailsService userDetailsService,
-            HandlerExceptionResolver handlerExceptionResolver
+            HandlerExceptionResolver handlerExceptionResolver,
+            @Value("${security.jwt.stateless-principal:false}") boolean statelessPrincipal
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
         this.handlerExceptionResolver = handlerExceptionResolver;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -48,13 +55,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         try {
             final String token = header.replace("Bearer ", "");
-            final String userEmail = jwtService.extractUsername(token);
+            // Single signature verification and claims parse per request
+            final Claims claims = jwtService.verify(token);
+            final String userEmail = claims.getSubject();
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
             if (userEmail != null && authentication == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.isTokenValid(token, userDetails)) {
+                UserDetails userDetails = loadPrincipal(claims);
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -71,4 +80,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
     }
+
+    private UserDetails loadPrincipal(Claims claims) {
+        // Stateless mode trusts the signed userId/roles claims; tokens without them still hit the database
+        if (statelessPrincipal) {
+            Optional<JwtPrincipal> principal = JwtPrincipal.fromClaims(claims);
+            if (principal.isPresent()) return principal.get();
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
 }
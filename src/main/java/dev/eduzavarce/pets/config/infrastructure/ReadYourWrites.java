@@ -0,0 +1,49 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Users who changed a pet within the last {@code window}: their read-only transactions stay on the primary,
+ * so they never read a replica that has not replayed their own write yet. The window should exceed the
+ * replication lag that {@code max-lag} tolerates. Kept per instance: behind a load balancer without
+ * sticky routing, the next request may land on an instance that has not seen the write.
+ */
+public class ReadYourWrites {
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite(String userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isRecentWriter(String userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /**
+     * Whether the caller of the current request wrote recently; false outside authenticated requests.
+     */
+    public boolean currentUserIsRecentWriter() {
+        return isRecentWriter(currentUserId());
+    }
+
+    static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Marks the caller of a pet-changing request as a recent writer. This happens before the handler runs,
+ * so the mark is in place by the time the client can send its next read; a failed write only costs a few
+ * reads on the primary.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesInterceptor(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!READ_METHODS.contains(request.getMethod())) {
+            String userId = ReadYourWrites.currentUserId();
+            if (userId != null) readYourWrites.recordWrite(userId);
+        }
+        return true;
+    }
+}
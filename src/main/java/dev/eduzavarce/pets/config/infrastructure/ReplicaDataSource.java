@@ -0,0 +1,213 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions: round-robin over the healthy replicas, or the primary when the
+ * caller {@link ReadYourWrites wrote recently} or no replica is usable.
+ * <p>
+ * A replica is taken out of rotation when it cannot be connected to, when the periodic check cannot reach
+ * it, when its WAL receiver is not streaming from the primary, or when it lags more than {@code maxLag}
+ * behind the primary; the check puts it back once it streams and answers within the limit again. A replica
+ * whose pool has no free connection stays in rotation and only that read goes to the primary.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+    private static final String PRIMARY_LSN_QUERY = "SELECT CAST(pg_current_wal_lsn() AS text) AS lsn";
+    // Lag is zero once the replica has replayed up to the primary's current position, so an idle primary is
+    // not lag; a replica whose receiver is disconnected never gets there and its lag keeps growing
+    private static final String LAG_QUERY = """
+            SELECT NOT pg_is_in_recovery()
+                       OR EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') AS streaming,
+                   CASE
+                       WHEN NOT pg_is_in_recovery()
+                           OR pg_wal_lsn_diff(CAST(? AS pg_lsn), pg_last_wal_replay_lsn()) <= 0 THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END AS lag_seconds
+            """;
+    private static final int QUERY_TIMEOUT_SECONDS = 5;
+
+    /**
+     * One replica pool and whether it is in rotation.
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public boolean healthy() {
+            return healthy;
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter recentWriterReads;
+    private final Counter fallbackReads;
+
+    public ReplicaDataSource(DataSource primary, List<Replica> replicas, ReadYourWrites readYourWrites,
+                             Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.recentWriterReads = readCounter(meterRegistry, "primary-recent-writer");
+        this.fallbackReads = readCounter(meterRegistry, "primary-fallback");
+        meterRegistry.gauge("datasource.replicas.healthy", this.replicas,
+                list -> list.stream().filter(Replica::healthy).count());
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.read-only.connections")
+                .description("Connections handed to read-only transactions, by where they were routed")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWrites.currentUserIsRecentWriter()) {
+            recentWriterReads.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) continue;
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                if (!isConnectionFailure(e)) {
+                    // E.g. the replica's pool is exhausted: the replica is fine, only this read goes elsewhere
+                    log.debug("No connection from replica {}, reading from the primary: {}", replica.name, e.getMessage());
+                    break;
+                }
+                markDown(replica, e.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Whether the replica could not be reached. Hikari reports a pool timeout as a
+     * {@link java.sql.SQLTransientConnectionException} that carries the SQL state of the last failed connection
+     * attempt, if any, so an exhausted pool of a reachable replica has no {@code 08} state.
+     */
+    static boolean isConnectionFailure(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLNonTransientConnectionException || (state != null && state.startsWith("08"));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica pools connect with their configured credentials");
+    }
+
+    /**
+     * Probes every replica, including those out of rotation, against the primary's current WAL position and
+     * updates the rotation. Without that position lag cannot be measured, so the rotation is left as it is.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        if (replicas.isEmpty()) return;
+        String primaryLsn;
+        try {
+            primaryLsn = primaryLsn();
+        } catch (SQLException e) {
+            log.warn("Skipping replica health check, cannot read the primary WAL position: {}", e.getMessage());
+            return;
+        }
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_QUERY)) {
+                statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                statement.setString(1, primaryLsn);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    if (!rs.getBoolean("streaming")) {
+                        markDown(replica, "WAL receiver not streaming");
+                        continue;
+                    }
+                    Duration lag = Duration.ofMillis(Math.round(rs.getDouble("lag_seconds") * 1000));
+                    if (!maxLag.isZero() && lag.compareTo(maxLag) > 0) {
+                        markDown(replica, "lagging " + lag);
+                    } else {
+                        markUp(replica);
+                    }
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private String primaryLsn() throws SQLException {
+        try (Connection connection = primary.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PRIMARY_LSN_QUERY)) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getString("lsn");
+            }
+        }
+    }
+
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", replica.name, reason);
+        }
+    }
+
+    private static void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("Replica {} back in rotation", replica.name);
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
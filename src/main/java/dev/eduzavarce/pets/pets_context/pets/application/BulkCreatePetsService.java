@@ -0,0 +1,119 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import com.google.common.collect.Lists;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult.RejectedPet;
+import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetBatchRepository;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates many pets, for any owners, in JDBC batches. Each pet is validated by the domain like a single
+ * creation; pets that fail validation, whose owner does not exist or whose id is already taken are
+ * reported back and skipped instead of failing the whole request.
+ */
+@Service
+public class BulkCreatePetsService {
+    private final PetBatchRepository petBatchRepository;
+    private final PetsUserRepository petsUserRepository;
+    private final EventBus eventBus;
+    private final int batchSize;
+    private final int maxItems;
+
+    public BulkCreatePetsService(PetBatchRepository petBatchRepository,
+                                 PetsUserRepository petsUserRepository,
+                                 EventBus eventBus,
+                                 @Value("${app.pets.bulk.batch-size:500}") int batchSize,
+                                 @Value("${app.pets.bulk.max-items:100000}") int maxItems) {
+        this.petBatchRepository = petBatchRepository;
+        this.petsUserRepository = petsUserRepository;
+        this.eventBus = eventBus;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxItems = maxItems;
+    }
+
+    public record NewPet(String id, String name, String ownerId, PetType type) {
+    }
+
+    /**
+     * {@code pets} may be a lazily mapped view of the request: its size is checked before any entry is read.
+     */
+    @Transactional
+    public BulkPetResult execute(List<NewPet> pets) {
+        if (pets.size() > maxItems) {
+            throw new CustomException("At most " + maxItems + " pets per request");
+        }
+        List<RejectedPet> rejected = new ArrayList<>();
+        Map<String, Pet> valid = new LinkedHashMap<>();
+        for (NewPet newPet : pets) {
+            if (newPet == null) throw new CustomException("Pet entries cannot be null");
+            String missing = missingField(newPet);
+            if (missing != null) {
+                rejected.add(new RejectedPet(newPet.id(), missing + " is required"));
+                continue;
+            }
+            try {
+                Pet pet = Pet.create(new PetDto(newPet.id(), newPet.name(), newPet.ownerId(), 50, 50, 50, newPet.type()));
+                if (valid.putIfAbsent(pet.getId(), pet) != null) {
+                    rejected.add(new RejectedPet(newPet.id(), "Duplicate id in request"));
+                }
+            } catch (IllegalArgumentException | CustomException e) {
+                rejected.add(new RejectedPet(newPet.id(), e.getMessage() == null ? "Invalid pet" : e.getMessage()));
+            }
+        }
+
+        Set<String> owners = existingOwners(valid.values().stream().map(Pet::getOwnerId).distinct().toList());
+        List<PetDto> insertable = new ArrayList<>(valid.size());
+        for (Pet pet : valid.values()) {
+            if (owners.contains(pet.getOwnerId())) {
+                insertable.add(pet.toPrimitives());
+            } else {
+                rejected.add(new RejectedPet(pet.getId(), "Owner (pets user) not found: " + pet.getOwnerId()));
+            }
+        }
+
+        List<PetDto> inserted = petBatchRepository.insertAll(insertable, batchSize);
+        Set<String> insertedIds = new HashSet<>();
+        List<DomainEvent> events = new ArrayList<>(inserted.size());
+        for (PetDto dto : inserted) {
+            insertedIds.add(dto.id());
+            events.addAll(valid.get(dto.id()).pullDomainEvents());
+        }
+        for (PetDto dto : insertable) {
+            if (!insertedIds.contains(dto.id())) rejected.add(new RejectedPet(dto.id(), "Pet already exists"));
+        }
+        eventBus.publish(events);
+        return new BulkPetResult(inserted.size(), rejected);
+    }
+
+    private static String missingField(NewPet newPet) {
+        if (newPet.id() == null) return "Pet id";
+        if (newPet.name() == null) return "Pet name";
+        if (newPet.ownerId() == null) return "Owner id";
+        if (newPet.type() == null) return "Pet type";
+        return null;
+    }
+
+    private Set<String> existingOwners(List<String> ownerIds) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : Lists.partition(ownerIds, batchSize)) {
+            existing.addAll(petsUserRepository.findExistingIds(chunk));
+        }
+        return existing;
+    }
+}
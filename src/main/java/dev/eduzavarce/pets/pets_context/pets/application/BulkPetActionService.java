@@ -0,0 +1,96 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import com.google.common.collect.Lists;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult.RejectedPet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetFed;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetId;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetPlayed;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetSlept;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetActionRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Feeds, plays with or puts to sleep a list of pets of any owners. Ids go to the database
+ * {@code batch-size} at a time, each chunk as one guarded update (see {@link PetActionRepository#applyAll}),
+ * and every updated pet publishes the same event as the single-pet action. Ids are sorted before they
+ * are chunked, so every chunk locks after the previous one in the same global order and two overlapping
+ * requests cannot deadlock.
+ */
+@Service
+public class BulkPetActionService {
+    private final PetActionRepository petActionRepository;
+    private final EventBus eventBus;
+    private final int batchSize;
+    private final int maxItems;
+
+    public BulkPetActionService(PetActionRepository petActionRepository,
+                                EventBus eventBus,
+                                @Value("${app.pets.bulk.batch-size:500}") int batchSize,
+                                @Value("${app.pets.bulk.max-items:100000}") int maxItems) {
+        this.petActionRepository = petActionRepository;
+        this.eventBus = eventBus;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxItems = maxItems;
+    }
+
+    @Transactional
+    public BulkPetResult execute(PetAction action, List<String> petIds) {
+        if (petIds.size() > maxItems) {
+            throw new CustomException("At most " + maxItems + " pets per request");
+        }
+        List<RejectedPet> rejected = new ArrayList<>();
+        // Canonical UUID strings sort the same as Postgres orders uuid values
+        Set<String> ids = new TreeSet<>();
+        for (String petId : petIds) {
+            if (petId == null) {
+                rejected.add(new RejectedPet(null, "Pet id is required"));
+                continue;
+            }
+            try {
+                ids.add(new PetId(petId).value());
+            } catch (IllegalArgumentException e) {
+                rejected.add(new RejectedPet(petId, "Invalid pet id"));
+            }
+        }
+
+        List<PetWithOwnerDto> updated = new ArrayList<>(ids.size());
+        for (List<String> chunk : Lists.partition(new ArrayList<>(ids), batchSize)) {
+            updated.addAll(petActionRepository.applyAll(chunk, action));
+        }
+
+        Set<String> updatedIds = new HashSet<>();
+        List<DomainEvent> events = new ArrayList<>(updated.size());
+        for (PetWithOwnerDto pet : updated) {
+            updatedIds.add(pet.id());
+            events.add(event(action, pet));
+        }
+        String reason = action.requiresEnergy() ? "Pet not found, out of stamina or too hungry" : "Pet not found";
+        for (String id : ids) {
+            if (!updatedIds.contains(id)) rejected.add(new RejectedPet(id, reason));
+        }
+        eventBus.publish(events);
+        return new BulkPetResult(updated.size(), rejected);
+    }
+
+    private static DomainEvent event(PetAction action, PetWithOwnerDto pet) {
+        return switch (action) {
+            case FEED -> new PetFed(pet.id(), pet.toPetDto());
+            case PLAY -> new PetPlayed(pet.id(), pet.toPetDto());
+            case SLEEP -> new PetSlept(pet.id(), pet.toPetDto());
+        };
+    }
+}
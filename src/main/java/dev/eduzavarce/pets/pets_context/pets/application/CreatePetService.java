@@ -7,6 +7,7 @@ import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,10 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreatePetService {
     private final PetRepository petRepository;
     private final PetsUserRepository petsUserRepository;
+    private final EventBus eventBus;
 
-    public CreatePetService(PetRepository petRepository, PetsUserRepository petsUserRepository) {
+    public CreatePetService(PetRepository petRepository, PetsUserRepository petsUserRepository, EventBus eventBus) {
         this.petRepository = petRepository;
         this.petsUserRepository = petsUserRepository;
+        this.eventBus = eventBus;
     }
 
     @Transactional
@@ -29,6 +32,7 @@ public class CreatePetService {
                 .orElseThrow(() -> new NotFoundException("Owner (pets user) not found: " + ownerId));
         PetPostgresEntity entity = new PetPostgresEntity(pet, owner);
         petRepository.save(entity);
+        eventBus.publish(pet.pullDomainEvents());
         return pet;
     }
 }
@@ -1,7 +1,9 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
+import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,15 +11,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class DeletePetService {
     private final PetRepository petRepository;
+    private final EventBus eventBus;
 
-    public DeletePetService(PetRepository petRepository) {
+    public DeletePetService(PetRepository petRepository, EventBus eventBus) {
         this.petRepository = petRepository;
+        this.eventBus = eventBus;
     }
 
     @Transactional
     public void execute(String petId, String ownerId) {
         PetPostgresEntity entity = petRepository.findByIdAndOwner_Id(petId, ownerId)
                 .orElseThrow(() -> new NotFoundException("Pet not found"));
+        Pet pet = entity.toDomain();
+        pet.delete();
         petRepository.delete(entity);
+        eventBus.publish(pet.pullDomainEvents());
     }
 }
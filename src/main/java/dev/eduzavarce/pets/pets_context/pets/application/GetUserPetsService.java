@@ -1,11 +1,11 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 @Service
@@ -18,19 +18,9 @@ public class GetUserPetsService {
 
     @Transactional(readOnly = true)
     public List<PetWithOwnerDto> execute(String userId) {
-        List<PetPostgresEntity> pets = petRepository.findByOwner_IdOrderByCreatedAtDesc(userId);
-        return pets.stream().map(p -> {
-            var domain = p.toDomain();
-            return new PetWithOwnerDto(
-                    p.getId(),
-                    domain.getName(),
-                    p.getOwner().getId(),
-                    p.getOwner().getUsername(),
-                    domain.getHealth(),
-                    domain.getHunger(),
-                    domain.getStamina(),
-                    domain.getType()
-            );
-        }).toList();
+        Instant now = Instant.now();
+        return petRepository.findWithOwnerByOwnerId(userId).stream()
+                .map(view -> view.toDto(now))
+                .toList();
     }
 }
@@ -1,36 +1,61 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetStreamRepository;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView;
+import dev.eduzavarce.pets.shared.core.domain.PaginatedResponseDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class ListAllPetsService {
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final PetRepository petRepository;
+    private final PetStreamRepository petStreamRepository;
 
-    public ListAllPetsService(PetRepository petRepository) {
+    public ListAllPetsService(PetRepository petRepository, PetStreamRepository petStreamRepository) {
         this.petRepository = petRepository;
+        this.petStreamRepository = petStreamRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public PaginatedResponseDto<List<PetWithOwnerDto>> execute(String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        PetPageCursor after = cursor == null || cursor.isBlank() ? null : PetPageCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without counting
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<PetWithOwnerView> rows = after == null
+                ? petRepository.findFirstPage(window)
+                : petRepository.findPageAfter(after.createdAt(), after.id(), window);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PetWithOwnerView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        int currentPage = after == null ? 1 : after.page() + 1;
+        long totalItems = after == null ? petRepository.count() : after.totalItems();
+        int totalPages = (int) ((totalItems + pageSize - 1) / pageSize);
+
+        String nextCursor = null;
+        if (hasMore) {
+            PetWithOwnerView last = page.getLast();
+            nextCursor = new PetPageCursor(last.createdAt(), last.id(), currentPage, totalItems).encode();
+        }
+
+        Instant now = Instant.now();
+        List<PetWithOwnerDto> pets = page.stream().map(view -> view.toDto(now)).toList();
+        return new PaginatedResponseDto<>("success", pets, currentPage, totalPages, totalItems, pageSize, nextCursor);
     }
 
     @Transactional(readOnly = true)
-    public List<PetWithOwnerDto> execute() {
-        List<PetPostgresEntity> pets = petRepository.findAllByOrderByCreatedAtDesc();
-        return pets.stream().map(p -> {
-            var domain = p.toDomain();
-            return new PetWithOwnerDto(
-                    p.getId(),
-                    domain.getName(),
-                    p.getOwner().getId(),
-                    p.getOwner().getUsername(),
-                    domain.getHealth(),
-                    domain.getHunger(),
-                    domain.getStamina(),
-                    domain.getType()
-            );
-        }).toList();
+    public void stream(Consumer<PetWithOwnerDto> consumer) {
+        petStreamRepository.forEachWithOwner(consumer);
     }
 }
@@ -0,0 +1,44 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import dev.eduzavarce.pets.shared.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for pet listings ordered by (created_at DESC, id DESC).
+ * It also carries the page number and the total item count taken when the traversal started,
+ * so following pages never need to count the table again.
+ */
+public record PetPageCursor(Timestamp createdAt, String id, int page, long totalItems) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                createdAt.toInstant().toString(), id, String.valueOf(page), String.valueOf(totalItems));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PetPageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new PetPageCursor(
+                    Timestamp.from(Instant.parse(parts[0])),
+                    // Compared against the uuid id column, where a malformed value is a database error
+                    UUID.fromString(parts[1]).toString(),
+                    Integer.parseInt(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contiguous id range of the pets table, split on the first byte of the UUID. A pet belongs to the
+ * partition when {@code lowerBound < id < upperBound}. The bounds are UUIDs themselves, as the id column
+ * is {@code uuid}: the last UUID before the range and the first one of the next. The ranges leave out only
+ * the nil and max UUIDs, which are reserved and never pet ids.
+ */
+public record PetTickPartition(int number, String lowerBound, String upperBound) {
+    static final int PREFIXES = 256;
+    static final String NIL = "00000000-0000-0000-0000-000000000000";
+    static final String MAX = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+
+    public static List<PetTickPartition> split(int count) {
+        int partitions = Math.clamp(count, 1, PREFIXES);
+        List<PetTickPartition> ranges = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            String lower = i == 0 ? NIL : lastWithPrefix(i * PREFIXES / partitions - 1);
+            String upper = i == partitions - 1 ? MAX : firstWithPrefix((i + 1) * PREFIXES / partitions);
+            ranges.add(new PetTickPartition(i, lower, upper));
+        }
+        return ranges;
+    }
+
+    private static String firstWithPrefix(int value) {
+        return "%02x".formatted(value) + NIL.substring(2);
+    }
+
+    private static String lastWithPrefix(int value) {
+        return "%02x".formatted(value) + MAX.substring(2);
+    }
+}
@@ -1,31 +1,49 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
 import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetPlayed;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetActionRepository;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+
 @Service
 public class PlayWithPetService {
+    private final PetActionRepository petActionRepository;
     private final PetRepository petRepository;
+    private final EventBus eventBus;
 
-    public PlayWithPetService(PetRepository petRepository) {
+    public PlayWithPetService(PetActionRepository petActionRepository, PetRepository petRepository, EventBus eventBus) {
+        this.petActionRepository = petActionRepository;
         this.petRepository = petRepository;
+        this.eventBus = eventBus;
     }
 
     @Transactional
-    public Pet execute(String petId, String ownerId) {
-        PetPostgresEntity entity = petRepository.findByIdAndOwner_Id(petId, ownerId)
-                .orElseThrow(() -> new NotFoundException("Pet not found"));
+    public PetWithOwnerDto execute(String petId, String ownerId) {
+        PetWithOwnerDto updated = petActionRepository.apply(petId, ownerId, PetAction.PLAY)
+                .orElseGet(() -> explainRejection(petId, ownerId));
+        eventBus.publish(List.of(new PetPlayed(updated.id(), updated.toPetDto())));
+        return updated;
+    }
 
-        Pet pet = entity.toDomain();
+    private PetWithOwnerDto explainRejection(String petId, String ownerId) {
+        // Only the rejected path pays for a read: replay the rule on the loaded pet to raise its exception
+        Pet pet = petRepository.findByIdAndOwner_Id(petId, ownerId)
+                .orElseThrow(() -> new NotFoundException("Pet not found"))
+                .toDomain();
+        pet.evaluateAt(Instant.now());
         pet.play();
 
-        PetPostgresEntity updated = new PetPostgresEntity(pet, entity.getOwner());
-        petRepository.save(updated);
-
-        return pet;
+        // The rule passes now, so the stats changed between both statements; try once more
+        return petActionRepository.apply(petId, ownerId, PetAction.PLAY)
+                .orElseThrow(() -> new NotFoundException("Pet not found"));
     }
 }
@@ -3,6 +3,7 @@ package dev.eduzavarce.pets.pets_context.pets.application;
 import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,9 +11,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class RenamePetService {
     private final PetRepository petRepository;
+    private final EventBus eventBus;
 
-    public RenamePetService(PetRepository petRepository) {
+    public RenamePetService(PetRepository petRepository, EventBus eventBus) {
         this.petRepository = petRepository;
+        this.eventBus = eventBus;
     }
 
     @Transactional
@@ -28,5 +31,6 @@ public class RenamePetService {
 
 
         petRepository.save(updatedEntity);
+        eventBus.publish(current.pullDomainEvents());
     }
 }
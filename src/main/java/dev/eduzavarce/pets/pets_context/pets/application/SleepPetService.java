@@ -1,31 +1,32 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
-import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetSlept;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetActionRepository;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class SleepPetService {
-    private final PetRepository petRepository;
+    private final PetActionRepository petActionRepository;
+    private final EventBus eventBus;
 
-    public SleepPetService(PetRepository petRepository) {
-        this.petRepository = petRepository;
+    public SleepPetService(PetActionRepository petActionRepository, EventBus eventBus) {
+        this.petActionRepository = petActionRepository;
+        this.eventBus = eventBus;
     }
 
     @Transactional
-    public Pet execute(String petId, String ownerId) {
-        PetPostgresEntity entity = petRepository.findByIdAndOwner_Id(petId, ownerId)
+    public PetWithOwnerDto execute(String petId, String ownerId) {
+        // Sleeping has no guard, so an empty result can only mean the pet is missing
+        PetWithOwnerDto updated = petActionRepository.apply(petId, ownerId, PetAction.SLEEP)
                 .orElseThrow(() -> new NotFoundException("Pet not found"));
-
-        Pet pet = entity.toDomain();
-        pet.sleep();
-
-        PetPostgresEntity updated = new PetPostgresEntity(pet, entity.getOwner());
-        petRepository.save(updated);
-
-        return pet;
+        eventBus.publish(List.of(new PetSlept(updated.id(), updated.toPetDto())));
+        return updated;
     }
 }
@@ -0,0 +1,132 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetStarving;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetTickBatch;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetTickCheckpointPostgresEntity;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetTickCheckpointRepository;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetTickProperties;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetTickRepository;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.SettledPet;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sweeps the pets table in id-range partitions, materializing idle decay in keyset batches and
+ * publishing {@link PetStarving} for every pet that lost health. Each batch stores its partition
+ * checkpoint, so a sweep interrupted by a restart resumes where each partition stopped. Settling
+ * is idempotent, so replaying a batch whose checkpoint was lost applies nothing twice.
+ */
+@Service
+public class TickPetsService {
+    private final PetTickRepository petTickRepository;
+    private final PetTickCheckpointRepository checkpointRepository;
+    private final EventBus eventBus;
+    private final TaskExecutor petTickExecutor;
+    private final PetTickProperties properties;
+
+    private final Timer tickTimer;
+    private final Counter settledCounter;
+    private final Counter eventsCounter;
+    private final AtomicReference<Instant> lastCompletedSweepStart = new AtomicReference<>();
+
+    public TickPetsService(PetTickRepository petTickRepository,
+                           PetTickCheckpointRepository checkpointRepository,
+                           EventBus eventBus,
+                           @Qualifier("petTickExecutor") TaskExecutor petTickExecutor,
+                           PetTickProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.petTickRepository = petTickRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.eventBus = eventBus;
+        this.petTickExecutor = petTickExecutor;
+        this.properties = properties;
+        this.tickTimer = Timer.builder("pets.tick.duration")
+                .description("Time spent running one tick over all pending partitions")
+                .register(meterRegistry);
+        this.settledCounter = Counter.builder("pets.tick.settled")
+                .description("Pets whose decay was materialized by the tick engine")
+                .register(meterRegistry);
+        this.eventsCounter = Counter.builder("pets.tick.events")
+                .description("Domain events published by the tick engine")
+                .register(meterRegistry);
+        Gauge.builder("pets.tick.lag", this, TickPetsService::lagSeconds)
+                .description("Seconds since the start of the last fully completed sweep")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void execute() {
+        tickTimer.record(() -> {
+            List<PetTickPartition> partitions = PetTickPartition.split(properties.getPartitions());
+            List<PetTickCheckpointPostgresEntity> checkpoints = pendingCheckpoints(partitions);
+            Map<Integer, PetTickPartition> byNumber = partitions.stream()
+                    .collect(Collectors.toMap(PetTickPartition::number, Function.identity()));
+
+            CompletableFuture.allOf(checkpoints.stream()
+                    .filter(checkpoint -> !checkpoint.isCompleted())
+                    .map(checkpoint -> CompletableFuture.runAsync(
+                            () -> sweep(byNumber.get(checkpoint.getPartitionNo()), checkpoint), petTickExecutor))
+                    .toArray(CompletableFuture[]::new)).join();
+
+            lastCompletedSweepStart.set(checkpoints.getFirst().getSweepStartedAt().toInstant());
+        });
+    }
+
+    private List<PetTickCheckpointPostgresEntity> pendingCheckpoints(List<PetTickPartition> partitions) {
+        List<PetTickCheckpointPostgresEntity> stored = checkpointRepository.findAll();
+        boolean resumable = stored.size() == partitions.size()
+                && stored.stream().anyMatch(checkpoint -> !checkpoint.isCompleted());
+        if (resumable) return stored;
+
+        // Previous sweep finished (or the partitioning changed): start a new one from every lower bound
+        checkpointRepository.deleteAllInBatch();
+        Timestamp sweepStartedAt = Timestamp.from(Instant.now());
+        return checkpointRepository.saveAll(partitions.stream()
+                .map(partition -> new PetTickCheckpointPostgresEntity(partition.number(), sweepStartedAt, partition.lowerBound()))
+                .toList());
+    }
+
+    private void sweep(PetTickPartition partition, PetTickCheckpointPostgresEntity checkpoint) {
+        while (true) {
+            PetTickBatch batch = petTickRepository.settleBatch(checkpoint.getLastId(), partition.upperBound(), properties.getBatchSize());
+            if (batch.lastScannedId() == null) {
+                checkpoint.complete();
+                checkpointRepository.save(checkpoint);
+                return;
+            }
+
+            List<DomainEvent> events = batch.settled().stream()
+                    .filter(SettledPet::lostHealth)
+                    .<DomainEvent>map(settled -> new PetStarving(settled.pet().id(), settled.pet()))
+                    .toList();
+            eventBus.publish(events);
+
+            checkpoint.advanceTo(batch.lastScannedId());
+            checkpointRepository.save(checkpoint);
+            settledCounter.increment(batch.settled().size());
+            eventsCounter.increment(events.size());
+        }
+    }
+
+    private double lagSeconds() {
+        Instant start = lastCompletedSweepStart.get();
+        return start == null ? Double.NaN : Duration.between(start, Instant.now()).toMillis() / 1000.0;
+    }
+}
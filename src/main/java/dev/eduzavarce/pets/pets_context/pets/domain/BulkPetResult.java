@@ -0,0 +1,12 @@
+package dev.eduzavarce.pets.pets_context.pets.domain;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk pet operation: how many pets it applied to, and which ids it skipped and why.
+ */
+public record BulkPetResult(int applied, List<RejectedPet> rejected) {
+
+    public record RejectedPet(String id, String reason) {
+    }
+}
@@ -3,6 +3,9 @@ package dev.eduzavarce.pets.pets_context.pets.domain;
 import dev.eduzavarce.pets.auth.users.domain.UserId;
 import dev.eduzavarce.pets.shared.core.domain.AggregateRoot;
 
+import java.time.Duration;
+import java.time.Instant;
+
 public class Pet extends AggregateRoot {
     private final PetId id;
     private final UserId ownerId;
@@ -11,6 +14,8 @@ public class Pet extends AggregateRoot {
     private PetHealth health;
     private PetHunger hunger;
     private PetStamina stamina;
+    // Instant up to which time-based decay is already reflected in the stats; null disables decay
+    private Instant lastEvaluatedAt;
 
     private Pet(String id, String name, String ownerId, int health, int hunger, int stamina, PetType type) {
         this.id = new PetId(id);
@@ -23,7 +28,7 @@ public class Pet extends AggregateRoot {
     }
 
     public static Pet create(PetDto dto) {
-        var pet = fromPrimitives(dto);
+        var pet = fromPrimitives(dto, Instant.now());
         pet.record(new PetCreated(pet.id.value(), pet.toPrimitives()));
         return pet;
     }
@@ -32,6 +37,12 @@ public class Pet extends AggregateRoot {
         return new Pet(dto.id(), dto.name(), dto.ownerId(), dto.health(), dto.hunger(), dto.stamina(), dto.type());
     }
 
+    public static Pet fromPrimitives(PetDto dto, Instant lastEvaluatedAt) {
+        var pet = fromPrimitives(dto);
+        pet.lastEvaluatedAt = lastEvaluatedAt;
+        return pet;
+    }
+
     public PetDto toPrimitives() {
         return new PetDto(id.value(), name.value(), ownerId.value(), health.value(), hunger.value(), stamina.value(), type);
     }
@@ -72,9 +83,32 @@ public class Pet extends AggregateRoot {
         return type;
     }
 
+    public Instant getLastEvaluatedAt() {
+        return lastEvaluatedAt;
+    }
+
+    /**
+     * Brings the stats up to {@code now} by applying every whole decay period of the pet's type
+     * elapsed since the last evaluation. The unconsumed remainder is kept for the next call, so
+     * evaluating often or rarely ends in the same state.
+     */
+    public void evaluateAt(Instant now) {
+        if (lastEvaluatedAt == null || !now.isAfter(lastEvaluatedAt)) return;
+        long periods = Duration.between(lastEvaluatedAt, now).getSeconds() / type.decayPeriod().getSeconds();
+        if (periods == 0) return;
+
+        long periodsUntilStarving = Math.ceilDiv(PetHunger.MAX - hunger.value(), type.hungerPerPeriod());
+        long starvingPeriods = Math.max(0, periods - periodsUntilStarving);
+
+        this.hunger = new PetHunger((int) Math.min(PetHunger.MAX, hunger.value() + periods * type.hungerPerPeriod()));
+        this.stamina = new PetStamina((int) Math.max(PetStamina.MIN, stamina.value() - periods * type.staminaPerPeriod()));
+        this.health = new PetHealth((int) Math.max(PetHealth.MIN, health.value() - starvingPeriods * type.healthPerStarvingPeriod()));
+        this.lastEvaluatedAt = lastEvaluatedAt.plus(type.decayPeriod().multipliedBy(periods));
+    }
+
     public void feed() {
-        this.hunger = this.hunger.feed();
-        // No new event defined; if desired, a PetFed event could be added in the future
+        apply(PetAction.FEED);
+        this.record(new PetFed(this.id.value(), this.toPrimitives()));
     }
 
     public void play() {
@@ -84,11 +118,25 @@ public class Pet extends AggregateRoot {
         if (this.hunger.isMaxed()) {
             throw new TooHungryException("Pet is too hungry to play");
         }
-        this.stamina = this.stamina.decreaseBy(10);
-        this.hunger = this.hunger.increaseBy(10);
+        apply(PetAction.PLAY);
+        this.record(new PetPlayed(this.id.value(), this.toPrimitives()));
     }
 
     public void sleep() {
-        this.stamina = this.stamina.increaseBy(30);
+        apply(PetAction.SLEEP);
+        this.record(new PetSlept(this.id.value(), this.toPrimitives()));
+    }
+
+    public void delete() {
+        this.record(new PetDeleted(this.id.value(), this.toPrimitives()));
+    }
+
+    private void apply(PetAction action) {
+        this.hunger = action.hungerDelta() < 0
+                ? this.hunger.decreaseBy(-action.hungerDelta())
+                : this.hunger.increaseBy(action.hungerDelta());
+        this.stamina = action.staminaDelta() < 0
+                ? this.stamina.decreaseBy(-action.staminaDelta())
+                : this.stamina.increaseBy(action.staminaDelta());
     }
 }
@@ -0,0 +1,37 @@
+package dev.eduzavarce.pets.pets_context.pets.domain;
+
+/**
+ * Stat changes applied by each pet action, mirroring {@link Pet#feed()}, {@link Pet#play()}
+ * and {@link Pet#sleep()} so they can also be applied as a single guarded update.
+ * Results are clamped to the {@link PetHunger} and {@link PetStamina} ranges.
+ */
+public enum PetAction {
+    FEED(-10, 0, false),
+    PLAY(10, -10, true),
+    SLEEP(0, 30, false);
+
+    private final int hungerDelta;
+    private final int staminaDelta;
+    private final boolean requiresEnergy;
+
+    PetAction(int hungerDelta, int staminaDelta, boolean requiresEnergy) {
+        this.hungerDelta = hungerDelta;
+        this.staminaDelta = staminaDelta;
+        this.requiresEnergy = requiresEnergy;
+    }
+
+    public int hungerDelta() {
+        return hungerDelta;
+    }
+
+    public int staminaDelta() {
+        return staminaDelta;
+    }
+
+    /**
+     * Whether the pet must have stamina left and not be starving, see {@link Pet#play()}.
+     */
+    public boolean requiresEnergy() {
+        return requiresEnergy;
+    }
+}
@@ -3,6 +3,9 @@ package dev.eduzavarce.pets.pets_context.pets.domain;
 import dev.eduzavarce.pets.shared.core.domain.IntValueObject;
 
 public class PetHealth extends IntValueObject {
+    public static final int MIN = 0;
+    public static final int MAX = 100;
+
     public PetHealth(Integer value) {
         super(value);
         ensureRange(value);
@@ -10,6 +13,6 @@ public class PetHealth extends IntValueObject {
 
     private void ensureRange(Integer v) {
         if (v == null) throw new IllegalArgumentException("Health cannot be null");
-        if (v < 0 || v > 100) throw new IllegalArgumentException("Health must be between 0 and 100");
+        if (v < MIN || v > MAX) throw new IllegalArgumentException("Health must be between 0 and 100");
     }
 }
@@ -0,0 +1,26 @@
+package dev.eduzavarce.pets.pets_context.pets.domain;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+
+public class PetPlayed extends DomainEvent {
+    private static final String EVENT_NAME = "pet.played";
+
+    public PetPlayed(String aggregateId, PetDto primitives) {
+        super(aggregateId, EVENT_NAME, primitives);
+    }
+
+    @Override
+    public String eventName() {
+        return EVENT_NAME;
+    }
+
+    @Override
+    public DomainEvent fromPrimitives(String aggregateId, Object body, String eventId, String occurredOn) {
+        return new PetPlayed(aggregateId, (PetDto) body);
+    }
+
+    @Override
+    public boolean isStateSnapshot() {
+        return true;
+    }
+}
@@ -1,8 +1,43 @@
 package dev.eduzavarce.pets.pets_context.pets.domain;
 
+import java.time.Duration;
+
+/**
+ * Pet species with their idle decay rates: every {@code decayPeriod} a pet gets
+ * {@code hungerPerPeriod} hungrier and loses {@code staminaPerPeriod} stamina, and once
+ * hunger is maxed it also loses {@code healthPerStarvingPeriod} health.
+ */
 public enum PetType {
-    CAT,
-    RABBIT,
-    DOG,
-    CANARY;
+    CAT(Duration.ofMinutes(30), 1, 1, 1),
+    RABBIT(Duration.ofMinutes(20), 1, 1, 1),
+    DOG(Duration.ofMinutes(15), 1, 1, 1),
+    CANARY(Duration.ofMinutes(10), 1, 1, 2);
+
+    private final Duration decayPeriod;
+    private final int hungerPerPeriod;
+    private final int staminaPerPeriod;
+    private final int healthPerStarvingPeriod;
+
+    PetType(Duration decayPeriod, int hungerPerPeriod, int staminaPerPeriod, int healthPerStarvingPeriod) {
+        this.decayPeriod = decayPeriod;
+        this.hungerPerPeriod = hungerPerPeriod;
+        this.staminaPerPeriod = staminaPerPeriod;
+        this.healthPerStarvingPeriod = healthPerStarvingPeriod;
+    }
+
+    public Duration decayPeriod() {
+        return decayPeriod;
+    }
+
+    public int hungerPerPeriod() {
+        return hungerPerPeriod;
+    }
+
+    public int staminaPerPeriod() {
+        return staminaPerPeriod;
+    }
+
+    public int healthPerStarvingPeriod() {
+        return healthPerStarvingPeriod;
+    }
 }
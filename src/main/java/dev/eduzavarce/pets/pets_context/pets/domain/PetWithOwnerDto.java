@@ -10,4 +10,7 @@ public record PetWithOwnerDto(
         int stamina,
         PetType type
 ) {
+    public PetDto toPetDto() {
+        return new PetDto(id, name, ownerId, health, hunger, stamina, type);
+    }
 }
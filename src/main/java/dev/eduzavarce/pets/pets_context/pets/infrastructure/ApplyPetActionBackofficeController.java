@@ -0,0 +1,62 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.application.BulkPetActionService;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/pets")
+@Tag(name = "Backoffice - Pets", description = "Admin operations related to all pets")
+public class ApplyPetActionBackofficeController {
+    private final BulkPetActionService bulkPetActionService;
+
+    public ApplyPetActionBackofficeController(BulkPetActionService bulkPetActionService) {
+        this.bulkPetActionService = bulkPetActionService;
+    }
+
+    @PostMapping("/actions")
+    @Operation(
+            summary = "Feed, play with or put to sleep many pets",
+            description = "Applies one action to every listed pet, whoever owns it, with the same rules as the single-pet endpoints: playing needs stamina and a pet that is not starving. Pets that do not exist or that the rules reject are listed in rejected; the rest are updated. At most app.pets.bulk.max-items ids per request. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Action applied",
+            content = @Content(
+                    schema = @Schema(implementation = ResponseDto.class),
+                    examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                            name = "ApplyPetActionSuccessExample",
+                            value = "{\n  \"status\": \"success\",\n  \"data\": {\n    \"applied\": 2,\n    \"rejected\": [\n      {\n        \"id\": \"a1b2c3d4-e5f6-7890-abcd-ef0123456789\",\n        \"reason\": \"Pet not found\"\n      }\n    ]\n  }\n}"
+                    )
+            ))
+    @ApiResponse(responseCode = "400", description = "Too many pets in one request", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<BulkPetResult>> apply(@Valid @RequestBody ApplyPetActionRequest request) {
+        return ResponseEntity.ok(new ResponseDto<>("success",
+                bulkPetActionService.execute(request.action(), request.petIds())));
+    }
+
+    public record ApplyPetActionRequest(
+            @NotNull @Schema(description = "Action to apply", example = "FEED", allowableValues = {"FEED", "PLAY", "SLEEP"}) PetAction action,
+            @NotNull @Schema(example = "[\"a1b2c3d4-e5f6-7890-abcd-ef0123456789\"]") List<String> petIds
+    ) {
+    }
+}
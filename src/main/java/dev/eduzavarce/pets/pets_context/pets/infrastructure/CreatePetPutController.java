@@ -1,6 +1,6 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
-import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
 import dev.eduzavarce.pets.pets_context.pets.application.CreatePetService;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
@@ -49,7 +49,7 @@ public class CreatePetPutController {
     @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "409", description = "Conflict", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<ResponseDto<PetWithOwnerDto>> create(@AuthenticationPrincipal UserPostgresEntity principal,
+    public ResponseEntity<ResponseDto<PetWithOwnerDto>> create(@AuthenticationPrincipal AuthenticatedUser principal,
                                                                @RequestBody CreatePetRequest request) {
         String ownerId = principal.getId();
         var pet = createPetService.execute(request.id(), request.name(), ownerId, request.type());
@@ -0,0 +1,69 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import com.google.common.collect.Lists;
+import dev.eduzavarce.pets.pets_context.pets.application.BulkCreatePetsService;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/pets")
+@Tag(name = "Backoffice - Pets", description = "Admin operations related to all pets")
+public class CreatePetsBackofficeController {
+    private final BulkCreatePetsService bulkCreatePetsService;
+
+    public CreatePetsBackofficeController(BulkCreatePetsService bulkCreatePetsService) {
+        this.bulkCreatePetsService = bulkCreatePetsService;
+    }
+
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Create many pets",
+            description = "Creates pets for any existing owners in batched inserts, e.g. for imports and load-test seeding. Health, hunger and stamina start at 50. Pets that fail validation, whose owner does not exist or whose id is taken are skipped and listed in rejected; the rest are created. At most app.pets.bulk.max-items pets per request. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Pets created",
+            content = @Content(
+                    schema = @Schema(implementation = ResponseDto.class),
+                    examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                            name = "CreatePetsSuccessExample",
+                            value = "{\n  \"status\": \"success\",\n  \"data\": {\n    \"applied\": 2,\n    \"rejected\": [\n      {\n        \"id\": \"a1b2c3d4-e5f6-7890-abcd-ef0123456789\",\n        \"reason\": \"Pet already exists\"\n      }\n    ]\n  }\n}"
+                    )
+            ))
+    @ApiResponse(responseCode = "400", description = "Too many pets in one request or a null pet entry", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<BulkPetResult>> create(@Valid @RequestBody CreatePetsRequest request) {
+        // A lazy view: the service checks max-items before any item is mapped
+        List<BulkCreatePetsService.NewPet> pets = Lists.transform(request.pets(),
+                pet -> new BulkCreatePetsService.NewPet(pet.id(), pet.name(), pet.ownerId(), pet.type()));
+        return ResponseEntity.ok(new ResponseDto<>("success", bulkCreatePetsService.execute(pets)));
+    }
+
+    public record CreatePetsRequest(@NotNull List<@NotNull Item> pets) {
+        public record Item(
+                @Schema(example = "a1b2c3d4-e5f6-7890-abcd-ef0123456789") String id,
+                @Schema(example = "Fluffy") String name,
+                @Schema(example = "3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e") String ownerId,
+                @Schema(description = "Pet type", example = "CAT", allowableValues = {"CAT", "RABBIT", "DOG", "CANARY"}) PetType type
+        ) {
+        }
+    }
+}
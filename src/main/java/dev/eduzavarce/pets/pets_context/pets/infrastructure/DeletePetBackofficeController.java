@@ -1,6 +1,7 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
 import dev.eduzavarce.pets.pets_context.pets.application.AdminDeletePetService;
+import dev.eduzavarce.pets.shared.core.infrastructure.ValidUUID;
 import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -35,7 +36,7 @@ public class DeletePetBackofficeController {
     @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Pet not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<Void> delete(@PathVariable("id") String petId) {
+    public ResponseEntity<Void> delete(@PathVariable("id") @ValidUUID String petId) {
         adminDeletePetService.execute(petId);
         return ResponseEntity.noContent().build();
     }
@@ -1,7 +1,8 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
-import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
 import dev.eduzavarce.pets.pets_context.pets.application.DeletePetService;
+import dev.eduzavarce.pets.shared.core.infrastructure.ValidUUID;
 import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,8 +37,8 @@ public class DeletePetController {
     @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Pet not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<Void> delete(@AuthenticationPrincipal UserPostgresEntity principal,
-                                       @PathVariable("id") String petId) {
+    public ResponseEntity<Void> delete(@AuthenticationPrincipal AuthenticatedUser principal,
+                                       @PathVariable("id") @ValidUUID String petId) {
         String ownerId = principal.getId();
         deletePetService.execute(petId, ownerId);
         return ResponseEntity.noContent().build();
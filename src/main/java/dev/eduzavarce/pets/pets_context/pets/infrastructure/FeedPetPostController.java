@@ -1,10 +1,10 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
-import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
 import dev.eduzavarce.pets.pets_context.pets.application.FeedPetService;
-import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
 import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.ValidUUID;
 import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,11 +24,9 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Pets", description = "Operations related to pets of the authenticated user")
 public class FeedPetPostController {
     private final FeedPetService feedPetService;
-    private final PetRepository petRepository;
 
-    public FeedPetPostController(FeedPetService feedPetService, PetRepository petRepository) {
+    public FeedPetPostController(FeedPetService feedPetService) {
         this.feedPetService = feedPetService;
-        this.petRepository = petRepository;
     }
 
     @PostMapping("/{id}/feed")
@@ -51,22 +49,10 @@ public class FeedPetPostController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<ResponseDto<PetWithOwnerDto>> feed(@AuthenticationPrincipal UserPostgresEntity principal,
-                                                             @PathVariable("id") String petId) {
+    public ResponseEntity<ResponseDto<PetWithOwnerDto>> feed(@AuthenticationPrincipal AuthenticatedUser principal,
+                                                             @PathVariable("id") @ValidUUID String petId) {
         String ownerId = principal.getId();
-        Pet updated = feedPetService.execute(petId, ownerId);
-
-        var entity = petRepository.findByIdAndOwner_Id(petId, ownerId).orElseThrow();
-        PetWithOwnerDto dto = new PetWithOwnerDto(
-                entity.getId(),
-                updated.getName(),
-                entity.getOwner().getId(),
-                entity.getOwner().getUsername(),
-                updated.getHealth(),
-                updated.getHunger(),
-                updated.getStamina(),
-                updated.getType()
-        );
+        PetWithOwnerDto dto = feedPetService.execute(petId, ownerId);
         return ResponseEntity.ok(new ResponseDto<>("success", dto));
     }
 }
@@ -1,9 +1,10 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
-import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
 import dev.eduzavarce.pets.pets_context.pets.application.GetPetByIdService;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
 import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.ValidUUID;
 import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -48,8 +49,8 @@ public class GetPetByIdController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<ResponseDto<PetWithOwnerDto>> getById(@AuthenticationPrincipal UserPostgresEntity principal,
-                                                                @PathVariable("id") String petId) {
+    public ResponseEntity<ResponseDto<PetWithOwnerDto>> getById(@AuthenticationPrincipal AuthenticatedUser principal,
+                                                                @PathVariable("id") @ValidUUID String petId) {
         String userId = principal.getId();
         PetWithOwnerDto dto = getPetByIdService.execute(petId, userId);
         return ResponseEntity.ok(new ResponseDto<>("success", dto));
@@ -1,6 +1,6 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
-import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
 import dev.eduzavarce.pets.pets_context.pets.application.GetUserPetsService;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
 import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
@@ -47,7 +47,7 @@ public class GetUserPetsController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<ResponseDto<List<PetWithOwnerDto>>> getMine(@AuthenticationPrincipal UserPostgresEntity principal) {
+    public ResponseEntity<ResponseDto<List<PetWithOwnerDto>>> getMine(@AuthenticationPrincipal AuthenticatedUser principal) {
         String userId = principal.getId();
         List<PetWithOwnerDto> pets = getUserPetsService.execute(userId);
         ResponseDto<List<PetWithOwnerDto>> response = new ResponseDto<>("success", pets);
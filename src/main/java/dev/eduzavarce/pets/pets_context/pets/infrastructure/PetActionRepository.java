@@ -0,0 +1,106 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetHunger;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetStamina;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Applies a {@link PetAction} as one conditional {@code UPDATE ... RETURNING}, joined with the
+ * owner so the caller gets the response row from the same round trip. The statement first settles
+ * the idle decay elapsed since {@code last_evaluated_at} (see {@link PetDecaySql}), so guards and
+ * deltas see the current stats. An empty result means the pet does not exist for that owner or the
+ * action's guard rejected its current stats.
+ * <p>
+ * {@link #applyAll} runs the same statement over a whole list of ids at once, for bulk actions.
+ */
+@Repository
+public class PetActionRepository {
+    private static final String UPDATE_TEMPLATE = """
+            WITH settled AS (
+                %s
+                %s
+            ), updated AS (
+                UPDATE pets p
+                SET hunger = LEAST(%d, GREATEST(%d, c.hunger + ?)),
+                    stamina = LEAST(%d, GREATEST(%d, c.stamina + ?)),
+                    health = c.health,
+                    last_evaluated_at = COALESCE(c.evaluated_at, LOCALTIMESTAMP),
+                    updated_at = CURRENT_TIMESTAMP
+                FROM settled c
+                WHERE p.id = c.id%s
+                RETURNING p.id, p.name, p.owner_id, p.health, p.hunger, p.stamina, p.type
+            )
+            SELECT u.id, u.name, u.owner_id, o.username AS owner_username,
+                   u.health, u.hunger, u.stamina, u.type
+            FROM updated u
+            JOIN pets_users o ON o.id = u.owner_id
+            """;
+    private static final String BY_ID_AND_OWNER = """
+            WHERE p.id = ? AND p.owner_id = ?
+                FOR UPDATE OF p""";
+    // Locks in id order within a chunk; callers send chunks in id order too, so locks are taken in one global order
+    private static final String BY_IDS = """
+            WHERE p.id = ANY (CAST(? AS uuid[]))
+                ORDER BY p.id
+                FOR UPDATE OF p""";
+    private static final String ENERGY_GUARD = " AND c.stamina > " + PetStamina.MIN + " AND c.hunger < " + PetHunger.MAX;
+
+    private static final RowMapper<PetWithOwnerDto> ROW_MAPPER = (rs, rowNum) -> new PetWithOwnerDto(
+            rs.getString("id"),
+            rs.getString("name"),
+            rs.getString("owner_id"),
+            rs.getString("owner_username"),
+            rs.getInt("health"),
+            rs.getInt("hunger"),
+            rs.getInt("stamina"),
+            PetType.valueOf(rs.getString("type")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<PetAction, String> statements = new EnumMap<>(PetAction.class);
+    private final Map<PetAction, String> bulkStatements = new EnumMap<>(PetAction.class);
+
+    public PetActionRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        for (PetAction action : PetAction.values()) {
+            statements.put(action, statement(action, BY_ID_AND_OWNER));
+            bulkStatements.put(action, statement(action, BY_IDS));
+        }
+    }
+
+    private static String statement(PetAction action, String filter) {
+        return UPDATE_TEMPLATE.formatted(PetDecaySql.SETTLED_SELECT, filter,
+                PetHunger.MAX, PetHunger.MIN, PetStamina.MAX, PetStamina.MIN,
+                action.requiresEnergy() ? ENERGY_GUARD : "");
+    }
+
+    public Optional<PetWithOwnerDto> apply(String petId, String ownerId, PetAction action) {
+        List<PetWithOwnerDto> rows = jdbcTemplate.query(statements.get(action), ROW_MAPPER,
+                petId, ownerId, action.hungerDelta(), action.staminaDelta());
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Applies the action to every listed pet, whoever owns it, in one statement.
+     *
+     * @return the updated pets; ids that do not exist or whose stats the guard rejected are missing
+     */
+    public List<PetWithOwnerDto> applyAll(List<String> petIds, PetAction action) {
+        if (petIds.isEmpty()) return List.of();
+        return jdbcTemplate.query(bulkStatements.get(action), ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("text", petIds.toArray()));
+            ps.setInt(2, action.hungerDelta());
+            ps.setInt(3, action.staminaDelta());
+        }, ROW_MAPPER);
+    }
+}
@@ -0,0 +1,54 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts pets in JDBC batches of {@code batchSize} statements. Pets whose id already exists are skipped,
+ * so a retried bulk request only creates what is still missing. The owners must exist.
+ */
+@Repository
+public class PetBatchRepository {
+    private static final String INSERT = """
+            INSERT INTO pets (id, name, owner_id, health, hunger, stamina, type, last_evaluated_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PetBatchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @return the pets that were actually inserted, in input order
+     */
+    public List<PetDto> insertAll(List<PetDto> pets, int batchSize) {
+        if (pets.isEmpty()) return List.of();
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT, pets, Math.max(1, batchSize), (ps, pet) -> {
+            ps.setString(1, pet.id());
+            ps.setString(2, pet.name());
+            ps.setString(3, pet.ownerId());
+            ps.setInt(4, pet.health());
+            ps.setInt(5, pet.hunger());
+            ps.setInt(6, pet.stamina());
+            ps.setString(7, pet.type().name());
+        });
+        List<PetDto> inserted = new ArrayList<>(pets.size());
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Batches are not rewritten into multi-row inserts, so every count is exact
+                if (count > 0) inserted.add(pets.get(i));
+                i++;
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn.Type;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyTable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.integer;
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.required;
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.timestamp;
+
+@Component
+public class PetCopyTable implements CopyTable {
+    private static final List<CopyColumn> COLUMNS = List.of(
+            new CopyColumn("id", Type.UUID),
+            new CopyColumn("name", Type.TEXT),
+            new CopyColumn("owner_id", Type.UUID),
+            new CopyColumn("health", Type.INT4),
+            new CopyColumn("hunger", Type.INT4),
+            new CopyColumn("stamina", Type.INT4),
+            new CopyColumn("type", Type.TEXT),
+            new CopyColumn("last_evaluated_at", Type.TIMESTAMP),
+            new CopyColumn("created_at", Type.TIMESTAMP),
+            new CopyColumn("updated_at", Type.TIMESTAMP));
+    // Pets of owners that do not exist are skipped like conflicting rows instead of failing the chunk
+    private static final String INSERT_FROM_STAGE = """
+            INSERT INTO pets (id, name, owner_id, health, hunger, stamina, type, last_evaluated_at, created_at, updated_at)
+            SELECT s.id, s.name, s.owner_id, s.health, s.hunger, s.stamina, s.type,
+                   COALESCE(s.last_evaluated_at, LOCALTIMESTAMP), COALESCE(s.created_at, LOCALTIMESTAMP),
+                   COALESCE(s.updated_at, LOCALTIMESTAMP)
+            FROM copy_stage s
+            JOIN pets_users o ON o.id = s.owner_id
+            ON CONFLICT DO NOTHING
+            """;
+
+    @Override
+    public String name() {
+        return "pets";
+    }
+
+    @Override
+    public List<CopyColumn> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public String[] validate(String[] row) {
+        PetType type = PetType.valueOf(required(row[6], "type").trim());
+        PetDto pet = Pet.fromPrimitives(new PetDto(required(row[0], "id"), required(row[1], "name"),
+                required(row[2], "owner_id"), integer(row[3], "health"), integer(row[4], "hunger"),
+                integer(row[5], "stamina"), type)).toPrimitives();
+        return new String[]{pet.id(), pet.name(), pet.ownerId(), Integer.toString(pet.health()),
+                Integer.toString(pet.hunger()), Integer.toString(pet.stamina()), pet.type().name(),
+                timestamp(row[7], "last_evaluated_at"), timestamp(row[8], "created_at"), timestamp(row[9], "updated_at")};
+    }
+
+    @Override
+    public String insertFromStage() {
+        return INSERT_FROM_STAGE;
+    }
+}
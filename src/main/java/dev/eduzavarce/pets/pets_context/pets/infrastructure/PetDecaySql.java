@@ -0,0 +1,41 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetHealth;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetHunger;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetStamina;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * SQL counterpart of {@link dev.eduzavarce.pets.pets_context.pets.domain.Pet#evaluateAt}: the same
+ * integer arithmetic over whole decay periods, with the per-type rates inlined from {@link PetType}
+ * so the SQL and the domain cannot drift apart. Pets without {@code last_evaluated_at} get zero
+ * periods and a null {@code evaluated_at}.
+ */
+final class PetDecaySql {
+    private static final String DECAY_RATES = Arrays.stream(PetType.values())
+            .map(type -> "('%s', %d, %d, %d, %d)".formatted(type.name(), type.decayPeriod().getSeconds(),
+                    type.hungerPerPeriod(), type.staminaPerPeriod(), type.healthPerStarvingPeriod()))
+            .collect(Collectors.joining(", "));
+
+    /**
+     * Selects every pet row aliased {@code p} with its settled stats; callers append the
+     * {@code WHERE} and locking clauses.
+     */
+    static final String SETTLED_SELECT = """
+            SELECT p.id, p.health AS previous_health, d.periods,
+                   LEAST(%1$d, p.hunger + d.periods * r.hunger_step) AS hunger,
+                   GREATEST(%2$d, p.stamina - d.periods * r.stamina_step) AS stamina,
+                   GREATEST(%3$d, p.health - GREATEST(0, d.periods - (%1$d - p.hunger + r.hunger_step - 1) / r.hunger_step) * r.health_step) AS health,
+                   p.last_evaluated_at + make_interval(secs => d.periods * r.period_seconds) AS evaluated_at
+                FROM pets p
+                JOIN (VALUES %4$s) AS r(type, period_seconds, hunger_step, stamina_step, health_step) ON r.type = p.type
+                CROSS JOIN LATERAL (
+                    SELECT COALESCE(FLOOR(EXTRACT(EPOCH FROM LOCALTIMESTAMP - p.last_evaluated_at) / r.period_seconds)::bigint, 0) AS periods
+                ) d""".formatted(PetHunger.MAX, PetStamina.MIN, PetHealth.MIN, DECAY_RATES);
+
+    private PetDecaySql() {
+    }
+}
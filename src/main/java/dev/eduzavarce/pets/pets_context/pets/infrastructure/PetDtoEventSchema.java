@@ -0,0 +1,53 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.shared.core.infrastructure.BinaryEventReader;
+import dev.eduzavarce.pets.shared.core.infrastructure.BinaryEventWriter;
+import dev.eduzavarce.pets.shared.core.infrastructure.EventBodySchema;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class PetDtoEventSchema implements EventBodySchema<PetDto> {
+
+    @Override
+    public int id() {
+        return 2;
+    }
+
+    @Override
+    public Class<PetDto> type() {
+        return PetDto.class;
+    }
+
+    @Override
+    public Set<String> eventNames() {
+        return Set.of("pet.created", "pet.renamed", "pet.starving", "pet.fed", "pet.played", "pet.slept", "pet.deleted");
+    }
+
+    @Override
+    public void write(PetDto body, BinaryEventWriter out) {
+        out.writeId(body.id());
+        out.writeString(body.name());
+        out.writeId(body.ownerId());
+        out.writeInt(body.health());
+        out.writeInt(body.hunger());
+        out.writeInt(body.stamina());
+        // By name, so reordering or adding constants cannot change the meaning of old messages
+        out.writeString(body.type() == null ? null : body.type().name());
+    }
+
+    @Override
+    public PetDto read(BinaryEventReader in) {
+        String id = in.readId();
+        String name = in.readString();
+        String ownerId = in.readId();
+        int health = in.readInt();
+        int hunger = in.readInt();
+        int stamina = in.readInt();
+        String type = in.readString();
+        return new PetDto(id, name, ownerId, health, hunger, stamina, type == null ? null : PetType.valueOf(type));
+    }
+}
@@ -0,0 +1,209 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
+import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes pet state changes to the open {@code /api/v1/pets/stream} connections of the pet's owner. It is
+ * fed by the pet domain events: on RabbitMQ every instance consumes them from its own auto-delete queue,
+ * in-process it is a regular listener. Each event becomes one SSE event named after it, with the pet's
+ * {@link PetWithOwnerDto} after the change as data.
+ * <p>
+ * Events are buffered per connection ({@code buffer-size}) and written on virtual threads, so a slow
+ * client never holds up the consumer; a client whose buffer fills up is disconnected and reconnects on
+ * its own. Idle connections get a comment every {@code heartbeat-interval}, which keeps proxies from
+ * closing them and detects clients that went away.
+ */
+@Component
+public class PetEventStream implements DomainEventListener, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(PetEventStream.class);
+
+    private final PetsUserRepository petsUserRepository;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Executor writers;
+    private final ExecutorService ownedWriters;
+    private final Map<String, Set<PetStreamConnection>> connectionsByOwner = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter evictedCounter;
+
+    @Autowired
+    public PetEventStream(PetsUserRepository petsUserRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.pets.sse.buffer-size:64}") int bufferSize,
+                          @Value("${app.pets.sse.timeout:PT30M}") Duration timeout) {
+        this(petsUserRepository, meterRegistry, bufferSize, timeout,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pet-stream-", 0).factory()));
+    }
+
+    PetEventStream(PetsUserRepository petsUserRepository, MeterRegistry meterRegistry, int bufferSize,
+                   Duration timeout, Executor writers) {
+        this.petsUserRepository = petsUserRepository;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeout = timeout;
+        this.writers = writers;
+        this.ownedWriters = writers instanceof ExecutorService service ? service : null;
+        this.sentCounter = Counter.builder("pets.stream.events")
+                .description("Pet events written to stream connections")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("pets.stream.evicted")
+                .description("Stream connections closed because the client did not keep up")
+                .register(meterRegistry);
+        Gauge.builder("pets.stream.connections", connections, AtomicInteger::get)
+                .description("Open pet stream connections on this instance")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String ownerId) {
+        String ownerUsername = petsUserRepository.findById(ownerId)
+                .map(PetsUserPostgresEntity::getUsername)
+                .orElseThrow(() -> new NotFoundException("Owner (pets user) not found: " + ownerId));
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        PetStreamConnection connection = register(ownerId, ownerUsername, emitter);
+        // Commits the response, so the client sees the stream open before the first change
+        enqueue(connection, SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    PetStreamConnection register(String ownerId, String ownerUsername, SseEmitter emitter) {
+        PetStreamConnection connection = new PetStreamConnection(ownerId, ownerUsername, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+        connectionsByOwner.compute(ownerId, (id, owned) -> {
+            Set<PetStreamConnection> updated = owned == null ? ConcurrentHashMap.newKeySet() : owned;
+            updated.add(connection);
+            return updated;
+        });
+        connections.incrementAndGet();
+        return connection;
+    }
+
+    @RabbitListener(queues = "#{petStreamQueue.name}", concurrency = "1",
+            containerFactory = "petStreamRabbitListenerContainerFactory",
+            autoStartup = "#{'${app.events.transport:rabbitmq}' == 'rabbitmq'}")
+    public void onMessage(@Payload DomainEventDto event) {
+        onEvent(event);
+    }
+
+    @Override
+    public void onEvent(DomainEventDto event) {
+        if (event == null || !(event.body() instanceof PetDto pet)) return;
+        Set<PetStreamConnection> owned = connectionsByOwner.get(pet.ownerId());
+        if (owned == null) return;
+        for (PetStreamConnection connection : owned) {
+            PetWithOwnerDto row = new PetWithOwnerDto(pet.id(), pet.name(), pet.ownerId(), connection.ownerUsername(),
+                    pet.health(), pet.hunger(), pet.stamina(), pet.type());
+            enqueue(connection, SseEmitter.event()
+                    .id(event.eventId())
+                    .name(event.eventName())
+                    .data(row, MediaType.APPLICATION_JSON)
+                    .build());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.pets.sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        for (Set<PetStreamConnection> owned : connectionsByOwner.values()) {
+            for (PetStreamConnection connection : owned) {
+                // A connection with pending events is not idle and will write soon anyway
+                if (connection.isIdle()) enqueue(connection, heartbeat);
+            }
+        }
+    }
+
+    int openConnections() {
+        return connections.get();
+    }
+
+    private void enqueue(PetStreamConnection connection, Set<DataWithMediaType> event) {
+        if (!connection.offer(event)) {
+            evictedCounter.increment();
+            log.info("Closing pet stream of {}: {} events pending", connection.ownerId(), bufferSize);
+            close(connection);
+            return;
+        }
+        if (connection.startDraining()) {
+            writers.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(PetStreamConnection connection) {
+        try {
+            do {
+                Set<DataWithMediaType> event;
+                while ((event = connection.poll()) != null) {
+                    connection.emitter().send(event);
+                    sentCounter.increment();
+                }
+                connection.stopDraining();
+                // An event offered between the last poll and stopDraining found a writer still running
+            } while (!connection.isIdle() && connection.startDraining());
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed
+            log.debug("Pet stream of {} closed: {}", connection.ownerId(), e.getMessage());
+            close(connection);
+        }
+    }
+
+    private void close(PetStreamConnection connection) {
+        remove(connection);
+        // complete() waits for a send in progress, which a slow client can hold up
+        writers.execute(() -> {
+            try {
+                connection.emitter().complete();
+            } catch (IllegalStateException e) {
+                log.debug("Pet stream of {} already completed", connection.ownerId());
+            }
+        });
+    }
+
+    private void remove(PetStreamConnection connection) {
+        boolean[] removed = new boolean[1];
+        connectionsByOwner.computeIfPresent(connection.ownerId(), (ownerId, owned) -> {
+            removed[0] = owned.remove(connection);
+            return owned.isEmpty() ? null : owned;
+        });
+        if (removed[0]) connections.decrementAndGet();
+    }
+
+    @Override
+    public void destroy() {
+        connectionsByOwner.values().forEach(owned -> owned.forEach(connection -> connection.emitter().complete()));
+        connectionsByOwner.clear();
+        if (ownedWriters != null) ownedWriters.shutdownNow();
+    }
+}
@@ -13,13 +13,14 @@ import java.sql.Timestamp;
 @Entity(name = "pets")
 public class PetPostgresEntity {
     @Id
+    @Column(columnDefinition = "uuid")
     private String id;
 
     @Column(nullable = false)
     private String name;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "owner_id", nullable = false)
+    @JoinColumn(name = "owner_id", nullable = false, columnDefinition = "uuid")
     private PetsUserPostgresEntity owner;
 
     @Column(nullable = false)
@@ -33,6 +34,9 @@ public class PetPostgresEntity {
     @Column(nullable = false)
     private PetType type;
 
+    @Column(name = "last_evaluated_at")
+    private Timestamp lastEvaluatedAt;
+
     @CreationTimestamp
     @Column(updatable = false, name = "created_at")
     private Timestamp createdAt;
@@ -51,10 +55,12 @@ public class PetPostgresEntity {
         this.hunger = pet.getHunger();
         this.stamina = pet.getStamina();
         this.type = pet.getType();
+        this.lastEvaluatedAt = pet.getLastEvaluatedAt() == null ? null : Timestamp.from(pet.getLastEvaluatedAt());
     }
 
     public Pet toDomain() {
-        return Pet.fromPrimitives(new PetDto(id, name, owner.getId(), health, hunger, stamina, type));
+        return Pet.fromPrimitives(new PetDto(id, name, owner.getId(), health, hunger, stamina, type),
+                lastEvaluatedAt == null ? null : lastEvaluatedAt.toInstant());
     }
 
     public String getId() {
@@ -65,4 +71,8 @@ public class PetPostgresEntity {
         return owner;
     }
 
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
 }
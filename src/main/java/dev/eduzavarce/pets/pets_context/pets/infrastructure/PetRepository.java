@@ -1,16 +1,54 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PetRepository extends JpaRepository<PetPostgresEntity, String> {
-    List<PetPostgresEntity> findByOwner_IdOrderByCreatedAtDesc(String ownerId);
-
     Optional<PetPostgresEntity> findByIdAndOwner_Id(String id, String ownerId);
 
-    List<PetPostgresEntity> findAllByOrderByCreatedAtDesc();
+    // Read projections: join pets_users once and build views without hydrating entities
+
+    @Query("""
+            select new dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView(
+                p.id, p.name, o.id, o.username, p.health, p.hunger, p.stamina, p.type, p.createdAt, p.lastEvaluatedAt)
+            from pets p join p.owner o
+            where o.id = :ownerId
+            order by p.createdAt desc
+            """)
+    List<PetWithOwnerView> findWithOwnerByOwnerId(@Param("ownerId") String ownerId);
+
+    @Query("""
+            select new dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView(
+                p.id, p.name, o.id, o.username, p.health, p.hunger, p.stamina, p.type, p.createdAt, p.lastEvaluatedAt)
+            from pets p join p.owner o
+            where p.id = :id and o.id = :ownerId
+            """)
+    Optional<PetWithOwnerView> findWithOwnerByIdAndOwnerId(@Param("id") String id, @Param("ownerId") String ownerId);
+
+    @Query("""
+            select new dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView(
+                p.id, p.name, o.id, o.username, p.health, p.hunger, p.stamina, p.type, p.createdAt, p.lastEvaluatedAt)
+            from pets p join p.owner o
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PetWithOwnerView> findFirstPage(Pageable window);
+
+    @Query("""
+            select new dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView(
+                p.id, p.name, o.id, o.username, p.health, p.hunger, p.stamina, p.type, p.createdAt, p.lastEvaluatedAt)
+            from pets p join p.owner o
+            where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PetWithOwnerView> findPageAfter(@Param("createdAt") Timestamp createdAt,
+                                         @Param("id") String id,
+                                         Pageable window);
 }
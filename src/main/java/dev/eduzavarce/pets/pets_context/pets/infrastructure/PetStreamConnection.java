@@ -0,0 +1,67 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open pet stream. Events wait in a bounded buffer until a writer drains them to the emitter; at most
+ * one writer runs per connection, and none while the client is idle, so an open stream costs the emitter
+ * and an empty queue.
+ */
+final class PetStreamConnection {
+    private final String ownerId;
+    private final String ownerUsername;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    PetStreamConnection(String ownerId, String ownerUsername, SseEmitter emitter, int bufferSize) {
+        this.ownerId = ownerId;
+        this.ownerUsername = ownerUsername;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    String ownerId() {
+        return ownerId;
+    }
+
+    String ownerUsername() {
+        return ownerUsername;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * @return {@code false} when the buffer is full, i.e. the client stopped reading
+     */
+    boolean offer(Set<DataWithMediaType> event) {
+        return buffer.offer(event);
+    }
+
+    Set<DataWithMediaType> poll() {
+        return buffer.poll();
+    }
+
+    boolean isIdle() {
+        return buffer.isEmpty();
+    }
+
+    /**
+     * @return {@code true} if the caller became the writer of this connection
+     */
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Reads pets through a server-side JDBC cursor so callers can handle rows one by one
+ * without materializing the whole table. Must be called inside a transaction: the
+ * PostgreSQL driver only honours the fetch size when auto-commit is off.
+ */
+@Repository
+public class PetStreamRepository {
+    private static final String SELECT_ALL_WITH_OWNER = """
+            SELECT p.id, p.name, p.owner_id, o.username AS owner_username,
+                   p.health, p.hunger, p.stamina, p.type, p.created_at, p.last_evaluated_at
+            FROM pets p
+            JOIN pets_users o ON o.id = p.owner_id
+            ORDER BY p.created_at DESC, p.id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PetStreamRepository(DataSource dataSource,
+                               @Value("${app.pets.stream.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void forEachWithOwner(Consumer<PetWithOwnerDto> consumer) {
+        // One reference instant for the whole export so every row is decayed to the same moment
+        Instant now = Instant.now();
+        jdbcTemplate.query(SELECT_ALL_WITH_OWNER, (RowCallbackHandler) rs -> consumer.accept(new PetWithOwnerView(
+                rs.getString("id"),
+                rs.getString("name"),
+                rs.getString("owner_id"),
+                rs.getString("owner_username"),
+                rs.getInt("health"),
+                rs.getInt("hunger"),
+                rs.getInt("stamina"),
+                PetType.valueOf(rs.getString("type")),
+                rs.getTimestamp("created_at"),
+                rs.getTimestamp("last_evaluated_at")
+        ).toDto(now)));
+    }
+}
@@ -0,0 +1,10 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import java.util.List;
+
+/**
+ * Result of settling one keyset batch. {@code lastScannedId} is null once the range is exhausted;
+ * {@code settled} only holds the pets that had at least one whole decay period to apply.
+ */
+public record PetTickBatch(String lastScannedId, List<SettledPet> settled) {
+}
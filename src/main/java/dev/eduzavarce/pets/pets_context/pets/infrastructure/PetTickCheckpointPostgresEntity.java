@@ -0,0 +1,66 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * Progress of one id-range partition within the current tick sweep: the last pet id already
+ * settled and whether the partition reached its upper bound.
+ */
+@Entity(name = "pet_tick_checkpoints")
+public class PetTickCheckpointPostgresEntity {
+    @Id
+    @Column(name = "partition_no")
+    private int partitionNo;
+
+    @Column(name = "sweep_started_at", nullable = false)
+    private Timestamp sweepStartedAt;
+
+    @Column(name = "last_id", nullable = false)
+    private String lastId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Timestamp updatedAt;
+
+    protected PetTickCheckpointPostgresEntity() {
+    }
+
+    public PetTickCheckpointPostgresEntity(int partitionNo, Timestamp sweepStartedAt, String lastId) {
+        this.partitionNo = partitionNo;
+        this.sweepStartedAt = sweepStartedAt;
+        this.lastId = lastId;
+        this.completed = false;
+    }
+
+    public void advanceTo(String lastId) {
+        this.lastId = lastId;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+
+    public int getPartitionNo() {
+        return partitionNo;
+    }
+
+    public Timestamp getSweepStartedAt() {
+        return sweepStartedAt;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
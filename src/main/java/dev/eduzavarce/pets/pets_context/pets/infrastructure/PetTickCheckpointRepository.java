@@ -0,0 +1,8 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PetTickCheckpointRepository extends JpaRepository<PetTickCheckpointPostgresEntity, Integer> {
+}
@@ -0,0 +1,70 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Materializes idle decay for a keyset batch of one id range in a single statement. Rows locked by
+ * a concurrent pet action are skipped; the action settles them itself and the next sweep catches up.
+ */
+@Repository
+public class PetTickRepository {
+    private static final String SETTLE_BATCH = """
+            WITH batch AS (
+                SELECT id FROM pets
+                WHERE id > ? AND id < ?
+                ORDER BY id
+                LIMIT ?
+            ), settled AS (
+                %s
+                JOIN batch b ON b.id = p.id
+                WHERE d.periods > 0
+                FOR UPDATE OF p SKIP LOCKED
+            ), updated AS (
+                UPDATE pets p
+                SET hunger = c.hunger,
+                    stamina = c.stamina,
+                    health = c.health,
+                    last_evaluated_at = c.evaluated_at
+                FROM settled c
+                WHERE p.id = c.id
+                RETURNING p.id, p.name, p.owner_id, p.health, p.hunger, p.stamina, p.type, c.previous_health
+            )
+            SELECT (SELECT MAX(id) FROM batch) AS last_scanned_id, u.*
+            FROM (SELECT 1) AS one
+            LEFT JOIN updated u ON TRUE
+            """.formatted(PetDecaySql.SETTLED_SELECT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PetTickRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public PetTickBatch settleBatch(String afterId, String upperBound, int limit) {
+        List<SettledPet> settled = new ArrayList<>();
+        String[] lastScannedId = new String[1];
+        jdbcTemplate.query(SETTLE_BATCH, (RowCallbackHandler) rs -> {
+            lastScannedId[0] = rs.getString("last_scanned_id");
+            if (rs.getString("id") != null) {
+                settled.add(new SettledPet(new PetDto(
+                        rs.getString("id"),
+                        rs.getString("name"),
+                        rs.getString("owner_id"),
+                        rs.getInt("health"),
+                        rs.getInt("hunger"),
+                        rs.getInt("stamina"),
+                        PetType.valueOf(rs.getString("type"))
+                ), rs.getInt("previous_health")));
+            }
+        }, afterId, upperBound, limit);
+        return new PetTickBatch(lastScannedId[0], settled);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.application.TickPetsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.pets.tick", name = "enabled", havingValue = "true")
+public class PetTickScheduler {
+    private final TickPetsService tickPetsService;
+
+    public PetTickScheduler(TickPetsService tickPetsService) {
+        this.tickPetsService = tickPetsService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.pets.tick.interval:PT1M}")
+    public void tick() {
+        tickPetsService.execute();
+    }
+}
@@ -0,0 +1,35 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Read projection of a pet joined with its owner. It carries the stored stats plus the
+ * columns that {@link PetWithOwnerDto} does not expose: the keyset column and the decay
+ * checkpoint needed to derive the current stats.
+ */
+public record PetWithOwnerView(
+        String id,
+        String name,
+        String ownerId,
+        String ownerUsername,
+        int health,
+        int hunger,
+        int stamina,
+        PetType type,
+        Timestamp createdAt,
+        Timestamp lastEvaluatedAt
+) {
+    public PetWithOwnerDto toDto(Instant now) {
+        Pet pet = Pet.fromPrimitives(new PetDto(id, name, ownerId, health, hunger, stamina, type),
+                lastEvaluatedAt == null ? null : lastEvaluatedAt.toInstant());
+        pet.evaluateAt(now);
+        return new PetWithOwnerDto(id, name, ownerId, ownerUsername,
+                pet.getHealth(), pet.getHunger(), pet.getStamina(), type);
+    }
+}
@@ -1,7 +1,8 @@
 package dev.eduzavarce.pets.pets_context.pets.infrastructure;
 
-import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
 import dev.eduzavarce.pets.pets_context.pets.application.RenamePetService;
+import dev.eduzavarce.pets.shared.core.infrastructure.ValidUUID;
 import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -34,8 +35,8 @@ public class RenamePetPatchController {
     @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Pet not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<Void> rename(@AuthenticationPrincipal UserPostgresEntity principal,
-                                       @PathVariable("id") String petId,
+    public ResponseEntity<Void> rename(@AuthenticationPrincipal AuthenticatedUser principal,
+                                       @PathVariable("id") @ValidUUID String petId,
                                        @RequestBody RenamePetRequest request) {
         String ownerId = principal.getId();
         renamePetService.execute(petId, ownerId, request.name());
@@ -0,0 +1,12 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+
+/**
+ * A pet whose decay was materialized by a tick, with the health it had before.
+ */
+public record SettledPet(PetDto pet, int previousHealth) {
+    public boolean lostHealth() {
+        return pet.health() < previousHealth;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.pets_context.pets.application.ListAllPetsService;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/pets")
+@Tag(name = "Backoffice - Pets", description = "Admin operations related to all pets")
+public class StreamAllPetsBackofficeController {
+    private final ListAllPetsService listAllPetsService;
+    private final ObjectMapper objectMapper;
+
+    public StreamAllPetsBackofficeController(ListAllPetsService listAllPetsService, ObjectMapper objectMapper) {
+        this.listAllPetsService = listAllPetsService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream all pets",
+            description = "Streams every pet across all users as newline-delimited JSON, newest first. Rows are written as they are read from the database cursor, so memory use does not grow with the table. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "NDJSON stream of PetWithOwnerDto",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = PetWithOwnerDto.class),
+                    examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                            name = "StreamAllPetsSuccessExample",
+                            value = "{\"id\":\"a1b2c3d4-e5f6-7890-abcd-ef0123456789\",\"name\":\"Fluffy\",\"ownerId\":\"3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e\",\"ownerUsername\":\"john.doe\",\"health\":50,\"hunger\":50,\"stamina\":50,\"type\":\"CAT\"}\n{\"id\":\"b2c3d4e5-f6a7-8901-bcde-f01234567890\",\"name\":\"Rex\",\"ownerId\":\"3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e\",\"ownerUsername\":\"john.doe\",\"health\":80,\"hunger\":20,\"stamina\":60,\"type\":\"DOG\"}"
+                    )
+            ))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = out -> listAllPetsService.stream(pet -> writeLine(out, pet));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, PetWithOwnerDto pet) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(pet));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/pets")
+@Tag(name = "Pets", description = "Operations related to pets of the authenticated user")
+public class StreamPetsController {
+    private final PetEventStream petEventStream;
+
+    public StreamPetsController(PetEventStream petEventStream) {
+        this.petEventStream = petEventStream;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream pet changes",
+            description = "Server-Sent Events stream of changes to the authenticated user's pets, replacing polling of GET /api/v1/pets/{id}. Each event is named after the domain event (pet.created, pet.renamed, pet.fed, pet.played, pet.slept, pet.starving, pet.deleted) and carries the pet after the change. Load the current state once with GET /api/v1/pets, then apply the events. Bursts of actions on one pet arrive as a single event with the final state. A client that falls behind is disconnected and should reconnect; comments are sent as heartbeats.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Event stream of PetWithOwnerDto",
+            content = @Content(
+                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = PetWithOwnerDto.class),
+                    examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                            name = "StreamPetsSuccessExample",
+                            value = "id:5b1f0d7e-2c1a-4e0b-9d55-0c8f7a3e2b91\nevent:pet.fed\ndata:{\"id\":\"a1b2c3d4-e5f6-7890-abcd-ef0123456789\",\"name\":\"Fluffy\",\"ownerId\":\"3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e\",\"ownerUsername\":\"john.doe\",\"health\":50,\"hunger\":40,\"stamina\":50,\"type\":\"CAT\"}\n\n"
+                    )
+            ))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Pets user not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return ResponseEntity.ok()
+                // Keeps reverse proxies such as nginx from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(petEventStream.subscribe(principal.getId()));
+    }
+}
@@ -3,21 +3,38 @@ package dev.eduzavarce.pets.pets_context.users.application;
 import dev.eduzavarce.pets.auth.users.domain.UserDto;
 import dev.eduzavarce.pets.pets_context.users.domain.PetUser;
 import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserBatchRepository;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
 import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 public class CreatePetUserService {
+    private static final Logger log = LoggerFactory.getLogger(CreatePetUserService.class);
+
     private final PetsUserRepository petsUserRepository;
+    private final PetsUserBatchRepository petsUserBatchRepository;
     private final EventBus eventBus;
 
-    public CreatePetUserService(PetsUserRepository petsUserRepository, EventBus eventBus) {
+    public CreatePetUserService(PetsUserRepository petsUserRepository,
+                                PetsUserBatchRepository petsUserBatchRepository,
+                                EventBus eventBus) {
         this.eventBus = eventBus;
         this.petsUserRepository = petsUserRepository;
+        this.petsUserBatchRepository = petsUserBatchRepository;
     }
 
+    @Transactional
     public void execute(UserDto body) {
         PetUserDto petUserDto = new PetUserDto(
                 body.id(),
@@ -29,4 +46,45 @@ public class CreatePetUserService {
         petsUserRepository.save(new PetsUserPostgresEntity(petUserDto));
         eventBus.publish(petUser.pullDomainEvents());
     }
+
+    /**
+     * Creates the pets users of a whole batch in one JDBC batch. Users that fail domain validation are
+     * logged and skipped instead of failing their batch-mates; users that already exist are ignored.
+     */
+    @Transactional
+    public void executeAll(List<UserDto> bodies) {
+        List<PetUserDto> valid = new ArrayList<>(bodies.size());
+        for (UserDto body : bodies) {
+            try {
+                valid.add(PetUser.fromPrimitives(petUserDto(body)).toPrimitives());
+            } catch (CustomException e) {
+                log.error("Skipping invalid user.created payload for {}: {}", body == null ? null : body.id(), e.getMessage());
+            }
+        }
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (PetUserDto inserted : petsUserBatchRepository.insertAll(valid)) {
+            events.addAll(PetUser.create(inserted).pullDomainEvents());
+        }
+        eventBus.publish(events);
+    }
+
+    /**
+     * Checks the fields the domain cannot validate on its own: a missing or malformed id would otherwise
+     * surface as a {@link NullPointerException} or {@link IllegalArgumentException} from {@code UserId}.
+     */
+    private static PetUserDto petUserDto(UserDto body) {
+        if (body == null) {
+            throw new CustomException("Missing user payload");
+        }
+        if (body.id() == null || body.id().isBlank()) {
+            throw new CustomException("Missing user id");
+        }
+        try {
+            UUID.fromString(body.id());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid user id: " + body.id());
+        }
+        return new PetUserDto(body.id(), body.username());
+    }
 }
@@ -6,61 +6,118 @@ import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
 import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import dev.eduzavarce.pets.shared.core.infrastructure.DomainEventMessageConverter;
+import dev.eduzavarce.pets.shared.core.infrastructure.IdempotentConsumer;
+import dev.eduzavarce.pets.shared.core.infrastructure.RabbitConsumerMetrics;
+import dev.eduzavarce.pets.shared.core.infrastructure.RetryingMessageRecoverer;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class CreatePetsUserOnUserCreated implements DomainEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(CreatePetsUserOnUserCreated.class);
+    static final String CONSUMER = "pets.create-pets-user";
 
     private final CreatePetUserService createPetUserService;
+    private final IdempotentConsumer idempotentConsumer;
+    private final RabbitConsumerMetrics consumerMetrics;
+    private final DomainEventMessageConverter converter;
+    private final RetryingMessageRecoverer recoverer;
+    private final String queue;
 
-    public CreatePetsUserOnUserCreated(CreatePetUserService createPetUserService) {
+    public CreatePetsUserOnUserCreated(CreatePetUserService createPetUserService,
+                                       IdempotentConsumer idempotentConsumer,
+                                       RabbitConsumerMetrics consumerMetrics,
+                                       DomainEventMessageConverter converter,
+                                       RetryingMessageRecoverer recoverer,
+                                       @Value("${app.rabbitmq.queues.user-created-pets:user-created-pets.q}") String queue) {
         this.createPetUserService = createPetUserService;
+        this.idempotentConsumer = idempotentConsumer;
+        this.consumerMetrics = consumerMetrics;
+        this.converter = converter;
+        this.recoverer = recoverer;
+        this.queue = queue;
     }
 
-    @RabbitListener(queues = "${app.rabbitmq.queues.user-created-pets:user-created-pets.q}")
-    public void onMessage(@Payload DomainEventDto event) {
-        onEvent(event);
+    /**
+     * Converts each message on its own: one that cannot be converted is dead-lettered by itself, and only
+     * the others are handled, and retried together if that fails.
+     */
+    @RabbitListener(queues = "${app.rabbitmq.queues.user-created-pets:user-created-pets.q}",
+            containerFactory = "batchRabbitListenerContainerFactory",
+            autoStartup = "#{'${app.events.transport:rabbitmq}' == 'rabbitmq'}")
+    public void onMessages(List<Message> messages) {
+        List<DomainEventDto> events = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            consumerMetrics.recordLag(queue, message.getMessageProperties().getTimestamp());
+            try {
+                events.add(convert(message));
+            } catch (MessageConversionException e) {
+                recoverer.recover(message, e);
+            }
+        }
+        if (events.isEmpty()) return;
+        try {
+            idempotentConsumer.handleAll(CONSUMER, events, pending -> {
+                List<UserDto> users = pending.stream().map(this::toUserDto).flatMap(Optional::stream).toList();
+                if (!users.isEmpty()) {
+                    createPetUserService.executeAll(users);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error handling batch of {} user.created events: {}", events.size(), e.getMessage(), e);
+            throw e; // The transport retries it with backoff and finally dead-letters it
+        }
     }
 
     @Override
     public void onEvent(DomainEventDto event) {
         try {
             if (event == null) {
-                log.warn("Received null event on user-created-log queue");
-                return;
-            }
-            if (!"user.created".equals(event.eventName())) {
-                // Ignore unrelated events just in case of broad binding
-                log.debug("Ignoring event with name {} for aggregate {}", event.eventName(), event.aggregateId());
-                return;
-            }
-
-            Object body = event.body();
-            UserDto userDto;
-            if (body instanceof UserDto b) {
-                userDto = b;
-            } else if (body instanceof Map<?, ?> map) {
-                // Attempt a safe mapping from a generic Map produced by Jackson
-                String id = map.get("id") != null ? String.valueOf(map.get("id")) : null;
-                String username = map.get("username") != null ? String.valueOf(map.get("username")) : null;
-                String email = map.get("email") != null ? String.valueOf(map.get("email")) : null;
-                String role = map.get("role") != null ? String.valueOf(map.get("role")) : null;
-                userDto = new UserDto(id, username, email, role);
-            } else {
-                log.error("Unexpected event body type: {}", body == null ? "null" : body.getClass().getName());
+                log.warn("Received null event on user-created-pets queue");
                 return;
             }
-
-            createPetUserService.execute(userDto);
+            idempotentConsumer.handle(CONSUMER, event,
+                    fresh -> toUserDto(fresh).ifPresent(createPetUserService::execute));
         } catch (Exception e) {
             log.error("Error handling user.created event: {}", e.getMessage(), e);
-            throw e; // Let listener infrastructure handle retries/DLQ if configured
+            throw e; // The transport retries it with backoff and finally dead-letters it
+        }
+    }
+
+    private DomainEventDto convert(Message message) {
+        Object converted = converter.fromMessage(message);
+        if (converted instanceof DomainEventDto event) {
+            return event;
+        }
+        throw new MessageConversionException("Not a domain event: " + message.getMessageProperties().getMessageId());
+    }
+
+    private Optional<UserDto> toUserDto(DomainEventDto event) {
+        if (event == null) {
+            log.warn("Received null event on user-created-pets queue");
+            return Optional.empty();
+        }
+        if (!"user.created".equals(event.eventName())) {
+            // Ignore unrelated events just in case of broad binding
+            log.debug("Ignoring event with name {} for aggregate {}", event.eventName(), event.aggregateId());
+            return Optional.empty();
+        }
+
+        // The message converter and the outbox relay decode user.created bodies to UserDto
+        Object body = event.body();
+        if (body instanceof UserDto b) {
+            return Optional.of(b);
         }
+        log.error("Unexpected event body type: {}", body == null ? "null" : body.getClass().getName());
+        return Optional.empty();
     }
 }
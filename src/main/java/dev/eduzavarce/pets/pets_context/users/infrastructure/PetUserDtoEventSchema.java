@@ -0,0 +1,39 @@
+package dev.eduzavarce.pets.pets_context.users.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.BinaryEventReader;
+import dev.eduzavarce.pets.shared.core.infrastructure.BinaryEventWriter;
+import dev.eduzavarce.pets.shared.core.infrastructure.EventBodySchema;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class PetUserDtoEventSchema implements EventBodySchema<PetUserDto> {
+
+    @Override
+    public int id() {
+        return 3;
+    }
+
+    @Override
+    public Class<PetUserDto> type() {
+        return PetUserDto.class;
+    }
+
+    @Override
+    public Set<String> eventNames() {
+        return Set.of("pets.users.created");
+    }
+
+    @Override
+    public void write(PetUserDto body, BinaryEventWriter out) {
+        out.writeId(body.id());
+        out.writeString(body.username());
+    }
+
+    @Override
+    public PetUserDto read(BinaryEventReader in) {
+        return new PetUserDto(in.readId(), in.readString());
+    }
+}
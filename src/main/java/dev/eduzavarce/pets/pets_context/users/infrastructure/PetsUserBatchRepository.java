@@ -0,0 +1,59 @@
+package dev.eduzavarce.pets.pets_context.users.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts pets users in one JDBC batch. Rows whose id or username already exist are skipped, so a
+ * redelivered batch of {@code user.created} messages is harmless.
+ */
+@Repository
+public class PetsUserBatchRepository {
+    private static final String INSERT = """
+            INSERT INTO pets_users (id, username, created_at, updated_at)
+            VALUES (?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PetsUserBatchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @return the users that were actually inserted, in input order
+     */
+    public List<PetUserDto> insertAll(List<PetUserDto> users) {
+        if (users.isEmpty()) return List.of();
+        int[] counts = jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, users.get(i).id());
+                ps.setString(2, users.get(i).username());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return users.size();
+            }
+        });
+        List<PetUserDto> inserted = new ArrayList<>(users.size());
+        for (int i = 0; i < counts.length; i++) {
+            // SUCCESS_NO_INFO (rewritten batches) cannot tell a skip from an insert; assume inserted
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted.add(users.get(i));
+            }
+        }
+        return inserted;
+    }
+}
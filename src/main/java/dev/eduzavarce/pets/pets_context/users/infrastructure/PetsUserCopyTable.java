@@ -0,0 +1,50 @@
+package dev.eduzavarce.pets.pets_context.users.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.users.domain.PetUser;
+import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn.Type;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyTable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.required;
+import static dev.eduzavarce.pets.shared.core.infrastructure.CopyTable.timestamp;
+
+@Component
+public class PetsUserCopyTable implements CopyTable {
+    private static final List<CopyColumn> COLUMNS = List.of(
+            new CopyColumn("id", Type.UUID),
+            new CopyColumn("username", Type.TEXT),
+            new CopyColumn("created_at", Type.TIMESTAMP),
+            new CopyColumn("updated_at", Type.TIMESTAMP));
+    private static final String INSERT_FROM_STAGE = """
+            INSERT INTO pets_users (id, username, created_at, updated_at)
+            SELECT s.id, s.username, COALESCE(s.created_at, LOCALTIMESTAMP), COALESCE(s.updated_at, LOCALTIMESTAMP)
+            FROM copy_stage s
+            ON CONFLICT DO NOTHING
+            """;
+
+    @Override
+    public String name() {
+        return "pets_users";
+    }
+
+    @Override
+    public List<CopyColumn> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public String[] validate(String[] row) {
+        PetUserDto user = PetUser.fromPrimitives(new PetUserDto(required(row[0], "id"), required(row[1], "username")))
+                .toPrimitives();
+        return new String[]{user.id(), user.username(), timestamp(row[2], "created_at"), timestamp(row[3], "updated_at")};
+    }
+
+    @Override
+    public String insertFromStage() {
+        return INSERT_FROM_STAGE;
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Objects;
 @Entity(name = "pets_users")
 public class PetsUserPostgresEntity extends PetsUserEntity {
     @Id
+    @Column(columnDefinition = "uuid")
     private String id;
     @Column(unique = true, nullable = false)
     private String username;
@@ -1,10 +1,17 @@
 package dev.eduzavarce.pets.pets_context.users.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 
 @Repository
 public interface PetsUserRepository extends JpaRepository<PetsUserPostgresEntity, String> {
 
+    @Query("select u.id from pets_users u where u.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
@@ -24,7 +24,7 @@ public abstract class DomainEvent {
     public abstract String eventName();
 
     public DomainEventDto toPrimitives() {
-        return new DomainEventDto(eventName, occurredOn, aggregateId, body);
+        return new DomainEventDto(eventId, eventName, occurredOn, aggregateId, body);
     }
 
     public abstract DomainEvent fromPrimitives(
@@ -41,4 +41,13 @@ public abstract class DomainEvent {
     public String occurredOn() {
         return occurredOn;
     }
+
+    /**
+     * Whether the body is the whole state of the aggregate after the change, so a consumer that receives
+     * only the latest of several such events for one aggregate ends up in the same place. The outbox
+     * coalesces them per aggregate for a short window.
+     */
+    public boolean isStateSnapshot() {
+        return false;
+    }
 }
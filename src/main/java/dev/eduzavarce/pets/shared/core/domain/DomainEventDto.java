@@ -1,6 +1,5 @@
 package dev.eduzavarce.pets.shared.core.domain;
 
 public record DomainEventDto(
-        String eventName, String occurredOn, String aggregateId, Object body) {
+        String eventId, String eventName, String occurredOn, String aggregateId, Object body) {
 }
-
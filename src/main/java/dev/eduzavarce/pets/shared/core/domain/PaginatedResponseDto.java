@@ -1,5 +1,10 @@
 package dev.eduzavarce.pets.shared.core.domain;
 
 public record PaginatedResponseDto<T>(String status, T data, int currentPage, int totalPages, long totalItems,
-                                      int itemsPerPage) {
+                                      int itemsPerPage, String nextCursor) {
+
+    public PaginatedResponseDto(String status, T data, int currentPage, int totalPages, long totalItems,
+                                int itemsPerPage) {
+        this(status, data, currentPage, totalPages, totalItems, itemsPerPage, null);
+    }
 }
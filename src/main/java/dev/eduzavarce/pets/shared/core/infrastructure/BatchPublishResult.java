@@ -0,0 +1,16 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+
+import java.util.List;
+
+/**
+ * Outcome of a confirmed batch publish: the events the broker acked and the ones it nacked or did
+ * not confirm in time. Both lists keep the order of the submitted batch.
+ */
+public record BatchPublishResult(List<DomainEventDto> confirmed, List<DomainEventDto> failed) {
+
+    public boolean allConfirmed() {
+        return failed.isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Decodes PostgreSQL's binary COPY format (as written by {@code COPY ... TO STDOUT (FORMAT binary)}) into
+ * text values, using the column types of the table since the format does not carry them.
+ */
+final class BinaryCopyReader implements CopyRowReader {
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    // Binary timestamps count microseconds from the PostgreSQL epoch
+    private static final LocalDateTime PG_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final DataInputStream in;
+    private final List<CopyColumn> columns;
+    private long tuple;
+    private boolean ended;
+
+    BinaryCopyReader(InputStream in, List<CopyColumn> columns) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        this.columns = columns;
+        byte[] signature = new byte[SIGNATURE.length];
+        try {
+            this.in.readFully(signature);
+        } catch (EOFException e) {
+            throw new CustomException("Not a binary COPY file: missing header");
+        }
+        if (!Arrays.equals(signature, SIGNATURE)) {
+            throw new CustomException("Not a binary COPY file: bad signature");
+        }
+        this.in.readInt(); // flags; bit 16 (OIDs) is not written by COPY for tables without OIDs
+        this.in.skipNBytes(this.in.readInt());
+    }
+
+    @Override
+    public String[] next() throws IOException {
+        if (ended) return null;
+        short fieldCount;
+        try {
+            fieldCount = in.readShort();
+        } catch (EOFException e) {
+            throw new CustomException("Malformed binary COPY data: missing trailer after tuple " + tuple);
+        }
+        if (fieldCount == -1) {
+            ended = true;
+            return null;
+        }
+        tuple++;
+        if (fieldCount != columns.size()) {
+            throw new CustomException("Malformed binary COPY data: tuple " + tuple + " has " + fieldCount
+                    + " fields, expected " + columns.size());
+        }
+        String[] row = new String[fieldCount];
+        try {
+            for (int i = 0; i < fieldCount; i++) {
+                int length = in.readInt();
+                row[i] = length < 0 ? null : decode(columns.get(i), length);
+            }
+        } catch (EOFException e) {
+            throw new CustomException("Malformed binary COPY data: tuple " + tuple + " is truncated");
+        }
+        return row;
+    }
+
+    private String decode(CopyColumn column, int length) throws IOException {
+        switch (column.type()) {
+            case TEXT -> {
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            case UUID -> {
+                expectLength(column, length, 16);
+                return new UUID(in.readLong(), in.readLong()).toString();
+            }
+            case INT4 -> {
+                expectLength(column, length, 4);
+                return Integer.toString(in.readInt());
+            }
+            case TIMESTAMP -> {
+                expectLength(column, length, 8);
+                return PG_EPOCH.plus(in.readLong(), ChronoUnit.MICROS).toString();
+            }
+        }
+        throw new IllegalStateException("Unhandled column type " + column.type());
+    }
+
+    private void expectLength(CopyColumn column, int length, int expected) {
+        if (length != expected) {
+            throw new CustomException("Malformed binary COPY data: tuple " + tuple + " column " + column.name()
+                    + " has " + length + " bytes, expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads what {@link BinaryEventWriter} wrote; malformed input fails with {@link IllegalArgumentException}.
+ */
+public final class BinaryEventReader {
+    private final byte[] data;
+    private int position;
+
+    public BinaryEventReader(byte[] data) {
+        this.data = data;
+    }
+
+    public int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Varint longer than 5 bytes at " + position);
+    }
+
+    public int readInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        int lengthPlusOne = readVarInt();
+        if (lengthPlusOne == 0) return null;
+        int length = lengthPlusOne - 1;
+        require(length);
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public String readId() {
+        int kind = readByte();
+        return switch (kind) {
+            case 0 -> readString();
+            case 1 -> new UUID(readLong(), readLong()).toString();
+            default -> throw new IllegalArgumentException("Unknown id encoding " + kind);
+        };
+    }
+
+    public boolean hasRemaining() {
+        return position < data.length;
+    }
+
+    private long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int bytes) {
+        if (bytes < 0 || position + bytes > data.length) {
+            throw new IllegalArgumentException("Truncated event: need " + bytes + " bytes at " + position);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only buffer for the binary event format. Integers are varints (zigzag for signed values), strings
+ * are a varint of {@code length + 1} followed by UTF-8 ({@code 0} is null), and ids that are canonical
+ * lowercase UUIDs take 17 bytes instead of 37.
+ */
+public final class BinaryEventWriter {
+    private static final int ID_UUID = 1;
+    private static final int ID_TEXT = 0;
+
+    private byte[] buffer;
+    private int size;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeVarInt(int value) {
+        if (value < 0) throw new IllegalArgumentException("Varints are unsigned: " + value);
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    public void writeId(String id) {
+        if (!isCanonicalUuid(id)) {
+            writeByte(ID_TEXT);
+            writeString(id);
+            return;
+        }
+        writeByte(ID_UUID);
+        writeLong(hexToLong(id, 0, 8, 9, 13, 14, 18));
+        writeLong(hexToLong(id, 19, 23, 24, 36, 36, 36));
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeLong(long value) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+
+    /**
+     * Only the exact form {@code UUID.toString()} produces, so decoding gives back the same string.
+     */
+    static boolean isCanonicalUuid(String s) {
+        if (s == null || s.length() != 36) return false;
+        for (int i = 0; i < 36; i++) {
+            char c = s.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : !((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) return false;
+        }
+        return true;
+    }
+
+    private static long hexToLong(String s, int from1, int to1, int from2, int to2, int from3, int to3) {
+        long value = 0;
+        value = appendHex(value, s, from1, to1);
+        value = appendHex(value, s, from2, to2);
+        return appendHex(value, s, from3, to3);
+    }
+
+    private static long appendHex(long value, String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            value = (value << 4) | Character.digit(s.charAt(i), 16);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Retry schedule and broker names for failed consumer deliveries. Retry {@code n} waits in a delay queue
+ * whose TTL is {@code initialDelay * multiplier^(n-1)}, capped at {@code maxDelay}; the delay queue then
+ * dead-letters the message back to the queue it came from. After {@code maxRetries} the message is parked
+ * in the queue's dead-letter queue until an operator replays it.
+ * <p>
+ * Delay queues are named after their TTL ({@code <queue>.retry.<millis>ms}) because RabbitMQ refuses to
+ * redeclare a queue with different arguments: changing the schedule declares new delay queues instead.
+ */
+public class ConsumerRetryPolicy {
+
+    private final String exchangeName;
+    private final int maxRetries;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+
+    public ConsumerRetryPolicy(String exchangeName, int maxRetries, Duration initialDelay,
+                               double multiplier, Duration maxDelay) {
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries must be >= 0");
+        if (initialDelay.isNegative() || initialDelay.isZero()) {
+            throw new IllegalArgumentException("initialDelay must be positive");
+        }
+        if (multiplier < 1.0) throw new IllegalArgumentException("multiplier must be >= 1");
+        this.exchangeName = exchangeName;
+        this.maxRetries = maxRetries;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+    }
+
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Delay before retry {@code retry} (1-based).
+     */
+    public Duration delayFor(int retry) {
+        double millis = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, retry - 1));
+        return Duration.ofMillis((long) Math.min(millis, maxDelay.toMillis()));
+    }
+
+    /**
+     * Distinct delays of the schedule, shortest first: one delay queue is declared per entry.
+     */
+    public List<Duration> delays() {
+        Set<Duration> delays = new LinkedHashSet<>();
+        for (int retry = 1; retry <= maxRetries; retry++) {
+            delays.add(delayFor(retry));
+        }
+        return List.copyOf(delays);
+    }
+
+    public String retryExchange() {
+        return exchangeName + ".retry";
+    }
+
+    public String deadLetterExchange() {
+        return exchangeName + ".dlx";
+    }
+
+    public String retryQueue(String queue, Duration delay) {
+        return queue + ".retry." + delay.toMillis() + "ms";
+    }
+
+    public String deadLetterQueue(String queue) {
+        return queue + ".dlq";
+    }
+}
@@ -0,0 +1,14 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+/**
+ * One column of a {@link CopyTable}, with the PostgreSQL type needed to decode it from binary COPY data.
+ */
+public record CopyColumn(String name, Type type) {
+
+    public enum Type {
+        UUID,
+        TEXT,
+        INT4,
+        TIMESTAMP
+    }
+}
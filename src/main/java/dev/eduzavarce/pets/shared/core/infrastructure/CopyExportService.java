@@ -0,0 +1,48 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Streams a {@link CopyTable} with {@code COPY ... TO STDOUT}, ordered by id. An interrupted download is
+ * resumed by passing the last id received as {@code afterId}; the output can be imported as is.
+ */
+@Service
+public class CopyExportService {
+    private final CopyTables tables;
+    private final TableCopyRepository copyRepository;
+
+    public CopyExportService(CopyTables tables, TableCopyRepository copyRepository) {
+        this.tables = tables;
+        this.copyRepository = copyRepository;
+    }
+
+    /**
+     * Looks the table up before the response is committed, so an unknown name still answers 404.
+     */
+    public CopyTable table(String tableName) {
+        return tables.get(tableName);
+    }
+
+    @Transactional(readOnly = true)
+    public long export(CopyTable table, CopyFormat format, String afterId, OutputStream out) {
+        return copyRepository.export(table, format, normalizeId(afterId), out);
+    }
+
+    /**
+     * The id ends up inside the COPY statement, which takes no bind parameters: only a parsed uuid is let
+     * through.
+     */
+    static String normalizeId(String afterId) {
+        if (afterId == null || afterId.isBlank()) return null;
+        try {
+            return UUID.fromString(afterId.trim()).toString();
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid after id: " + afterId);
+        }
+    }
+}
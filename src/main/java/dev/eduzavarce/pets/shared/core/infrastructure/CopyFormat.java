@@ -0,0 +1,20 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+/**
+ * Wire formats of the backoffice COPY import and export, as PostgreSQL defines them: {@code CSV} with a
+ * header row, where an unquoted empty field is NULL, and the {@code BINARY} COPY format.
+ */
+public enum CopyFormat {
+    CSV("(FORMAT csv, HEADER)"),
+    BINARY("(FORMAT binary)");
+
+    private final String copyOptions;
+
+    CopyFormat(String copyOptions) {
+        this.copyOptions = copyOptions;
+    }
+
+    String copyOptions() {
+        return copyOptions;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.util.List;
+
+/**
+ * The job after an import call, plus the first rejected rows of this call (row numbers count data rows
+ * from 1, header excluded).
+ */
+public record CopyImportResult(CopyJob job, List<RejectedRow> rejectedRows) {
+
+    public record RejectedRow(long row, String reason) {
+    }
+}
@@ -0,0 +1,203 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyImportResult.RejectedRow;
+import dev.eduzavarce.pets.shared.exceptions.AlreadyExistsException;
+import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Imports a CSV or binary COPY stream into a {@link CopyTable} in three stages: the request thread parses
+ * rows and cuts them into chunks of {@code chunk-size}, a pool of {@code validation-threads} checks each
+ * chunk against the domain in parallel and encodes the valid rows, and the request thread loads the
+ * chunks in input order with COPY, one transaction each.
+ * <p>
+ * Each chunk's transaction also advances the job's {@code rowsRead}, so the job always matches what is
+ * committed. Sending the same file again under the same job id skips the rows already read and resumes;
+ * a completed job is returned as is. Rejected rows are counted and the first ones reported back; rows
+ * that conflict with existing ones (or, for pets, whose owner does not exist) are counted as skipped.
+ */
+@Service
+public class CopyImportService implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(CopyImportService.class);
+
+    private final CopyTables tables;
+    private final CopyJobRepository jobs;
+    private final TableCopyRepository copyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final int maxReportedRejections;
+    private final ExecutorService validators;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public CopyImportService(CopyTables tables,
+                             CopyJobRepository jobs,
+                             TableCopyRepository copyRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.copy.chunk-size:5000}") int chunkSize,
+                             @Value("${app.copy.validation-threads:0}") int validationThreads,
+                             @Value("${app.copy.max-reported-rejections:100}") int maxReportedRejections) {
+        this.tables = tables;
+        this.jobs = jobs;
+        this.copyRepository = copyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        int threads = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+        // Enough validated chunks queued to keep the loader busy, without buffering the whole upload
+        this.maxPendingChunks = threads * 2;
+        this.maxReportedRejections = Math.max(0, maxReportedRejections);
+        this.validators = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("copy-validate-"));
+    }
+
+    /**
+     * Imports {@code in} under {@code jobId}, resuming the job when it already exists.
+     */
+    public CopyImportResult importRows(String jobId, String tableName, CopyFormat format, InputStream in) {
+        CopyTable table = tables.get(tableName);
+        if (!running.add(jobId)) {
+            throw new AlreadyExistsException("Import " + jobId + " is already running");
+        }
+        try {
+            CopyJob job = jobs.startOrResume(jobId, table.name(), format);
+            if (!job.table().equals(table.name())) {
+                throw new AlreadyExistsException("Import " + jobId + " belongs to table " + job.table());
+            }
+            if (job.completed()) {
+                return new CopyImportResult(job, List.of());
+            }
+            List<RejectedRow> rejectedRows = run(job, table, format, in);
+            return new CopyImportResult(status(jobId), rejectedRows);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    public CopyJob status(String jobId) {
+        return jobs.find(jobId).orElseThrow(() -> new NotFoundException("Unknown import job: " + jobId));
+    }
+
+    private List<RejectedRow> run(CopyJob job, CopyTable table, CopyFormat format, InputStream in) {
+        String jobId = job.jobId();
+        List<RejectedRow> reported = new ArrayList<>();
+        Deque<Future<ValidatedChunk>> pending = new ArrayDeque<>();
+        try {
+            CopyRowReader reader = CopyRowReader.open(format, in, table.columns());
+            long rowNo = 0;
+            List<String[]> rows = new ArrayList<>(chunkSize);
+            String[] row;
+            while ((row = reader.next()) != null) {
+                rowNo++;
+                if (rowNo <= job.rowsRead()) continue;
+                rows.add(row);
+                if (rows.size() == chunkSize) {
+                    pending.add(submit(table, rowNo - rows.size() + 1, rows));
+                    rows = new ArrayList<>(chunkSize);
+                    if (pending.size() >= maxPendingChunks) load(jobId, table, pending.removeFirst(), reported);
+                }
+            }
+            if (!rows.isEmpty()) pending.add(submit(table, rowNo - rows.size() + 1, rows));
+            while (!pending.isEmpty()) load(jobId, table, pending.removeFirst(), reported);
+            jobs.complete(jobId);
+            log.info("Import {} into {} completed after {} rows", jobId, table.name(), rowNo);
+            return reported;
+        } catch (IOException | RuntimeException e) {
+            pending.forEach(chunk -> chunk.cancel(true));
+            jobs.fail(jobId, e.getMessage());
+            log.warn("Import {} into {} stopped: {}", jobId, table.name(), e.getMessage());
+            if (e instanceof IOException io) throw new UncheckedIOException(io);
+            throw (RuntimeException) e;
+        }
+    }
+
+    private Future<ValidatedChunk> submit(CopyTable table, long firstRow, List<String[]> rows) {
+        return validators.submit(() -> validate(table, firstRow, rows));
+    }
+
+    static ValidatedChunk validate(CopyTable table, long firstRow, List<String[]> rows) {
+        int columns = table.columns().size();
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        List<RejectedRow> rejected = new ArrayList<>();
+        int valid = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            if (row.length != columns) {
+                rejected.add(new RejectedRow(firstRow + i, "Expected " + columns + " fields, got " + row.length));
+                continue;
+            }
+            try {
+                appendCsv(csv, table.validate(row));
+                valid++;
+            } catch (RuntimeException e) {
+                rejected.add(new RejectedRow(firstRow + i, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage()));
+            }
+        }
+        return new ValidatedChunk(rows.size(), valid, csv.toString(), rejected);
+    }
+
+    /**
+     * Quotes every value, so an empty string stays distinct from NULL (an empty unquoted field).
+     */
+    static void appendCsv(StringBuilder csv, String[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) csv.append(',');
+            String value = row[i];
+            if (value != null) {
+                csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+        csv.append('\n');
+    }
+
+    private void load(String jobId, CopyTable table, Future<ValidatedChunk> future, List<RejectedRow> reported) {
+        ValidatedChunk chunk = await(future);
+        transactionTemplate.executeWithoutResult(status -> {
+            long inserted = chunk.valid() == 0 ? 0 : copyRepository.load(table, chunk.csv());
+            jobs.advance(jobId, chunk.rows(), inserted, chunk.valid() - inserted, chunk.rejected().size());
+        });
+        for (RejectedRow rejected : chunk.rejected()) {
+            if (reported.size() >= maxReportedRejections) break;
+            reported.add(rejected);
+        }
+    }
+
+    private static ValidatedChunk await(Future<ValidatedChunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    record ValidatedChunk(int rows, int valid, String csv, List<RejectedRow> rejected) {
+    }
+
+    @Override
+    public void destroy() {
+        validators.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.sql.Timestamp;
+
+public record CopyJob(
+        String jobId,
+        String table,
+        CopyFormat format,
+        long rowsRead,
+        long inserted,
+        long skipped,
+        long rejected,
+        Timestamp startedAt,
+        Timestamp updatedAt,
+        Timestamp completedAt,
+        String lastError
+) {
+    public boolean completed() {
+        return completedAt != null;
+    }
+}
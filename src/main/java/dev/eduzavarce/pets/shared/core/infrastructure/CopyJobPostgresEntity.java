@@ -0,0 +1,51 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.sql.Timestamp;
+
+/**
+ * Progress of one COPY import job. Reads and writes go through {@link CopyJobRepository}; this mapping
+ * only describes the table for schema validation.
+ */
+@Entity(name = "copy_jobs")
+public class CopyJobPostgresEntity {
+    @Id
+    @Column(name = "job_id", length = 100)
+    private String jobId;
+
+    @Column(name = "table_name", nullable = false, length = 64)
+    private String tableName;
+
+    @Column(nullable = false, length = 16)
+    private String format;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    @Column(nullable = false)
+    private long inserted;
+
+    @Column(nullable = false)
+    private long skipped;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(name = "started_at", nullable = false)
+    private Timestamp startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Timestamp updatedAt;
+
+    @Column(name = "completed_at")
+    private Timestamp completedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    protected CopyJobPostgresEntity() {
+    }
+}
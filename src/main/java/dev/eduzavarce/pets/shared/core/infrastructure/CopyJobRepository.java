@@ -0,0 +1,84 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+@Repository
+public class CopyJobRepository {
+    private static final String FIND = """
+            SELECT job_id, table_name, format, rows_read, inserted, skipped, rejected,
+                   started_at, updated_at, completed_at, last_error
+            FROM copy_jobs
+            WHERE job_id = ?
+            """;
+    private static final String START = """
+            INSERT INTO copy_jobs (job_id, table_name, format, rows_read, inserted, skipped, rejected, started_at, updated_at)
+            VALUES (?, ?, ?, 0, 0, 0, 0, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT (job_id) DO NOTHING
+            """;
+    private static final String ADVANCE = """
+            UPDATE copy_jobs
+            SET rows_read = rows_read + ?, inserted = inserted + ?, skipped = skipped + ?, rejected = rejected + ?,
+                updated_at = LOCALTIMESTAMP, last_error = NULL
+            WHERE job_id = ?
+            """;
+    private static final String FAIL = """
+            UPDATE copy_jobs
+            SET updated_at = LOCALTIMESTAMP, last_error = ?
+            WHERE job_id = ?
+            """;
+    private static final String COMPLETE = """
+            UPDATE copy_jobs
+            SET completed_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP, last_error = NULL
+            WHERE job_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CopyJobRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<CopyJob> find(String jobId) {
+        return jdbcTemplate.query(FIND, (rs, rowNum) -> new CopyJob(
+                rs.getString("job_id"),
+                rs.getString("table_name"),
+                CopyFormat.valueOf(rs.getString("format")),
+                rs.getLong("rows_read"),
+                rs.getLong("inserted"),
+                rs.getLong("skipped"),
+                rs.getLong("rejected"),
+                rs.getTimestamp("started_at"),
+                rs.getTimestamp("updated_at"),
+                rs.getTimestamp("completed_at"),
+                rs.getString("last_error")
+        ), jobId).stream().findFirst();
+    }
+
+    /**
+     * Creates the job with no rows read unless it already exists.
+     */
+    public CopyJob startOrResume(String jobId, String table, CopyFormat format) {
+        jdbcTemplate.update(START, jobId, table, format.name());
+        return find(jobId).orElseThrow();
+    }
+
+    /**
+     * Adds one committed chunk to the job; call it in the transaction that loaded the chunk.
+     */
+    public void advance(String jobId, long rowsRead, long inserted, long skipped, long rejected) {
+        jdbcTemplate.update(ADVANCE, rowsRead, inserted, skipped, rejected, jobId);
+    }
+
+    public void fail(String jobId, String error) {
+        String truncated = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        jdbcTemplate.update(FAIL, truncated, jobId);
+    }
+
+    public void complete(String jobId) {
+        jdbcTemplate.update(COMPLETE, jobId);
+    }
+}
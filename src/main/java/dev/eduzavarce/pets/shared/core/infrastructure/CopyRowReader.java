@@ -0,0 +1,24 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Reads the rows of a COPY file one by one as text values, null standing for NULL.
+ */
+interface CopyRowReader {
+
+    /**
+     * @return the next row, or null at the end of the data
+     * @throws dev.eduzavarce.pets.shared.exceptions.CustomException when the data is malformed
+     */
+    String[] next() throws IOException;
+
+    static CopyRowReader open(CopyFormat format, InputStream in, List<CopyColumn> columns) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvCopyReader(in, columns);
+            case BINARY -> new BinaryCopyReader(in, columns);
+        };
+    }
+}
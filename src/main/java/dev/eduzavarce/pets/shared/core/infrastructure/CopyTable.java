@@ -0,0 +1,61 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * A table that can be exported and imported through the backoffice COPY endpoints, registered as a bean by
+ * the context that owns it.
+ * <p>
+ * Imports are first copied into a temporary {@value #STAGE} table shaped like the target, then moved with
+ * {@link #insertFromStage()}, so rows whose key already exists are skipped instead of aborting the COPY
+ * and a resumed import can safely re-send rows.
+ */
+public interface CopyTable {
+    String STAGE = "copy_stage";
+
+    String name();
+
+    /**
+     * The columns of the files, in file order; exports write them in this order.
+     */
+    List<CopyColumn> columns();
+
+    /**
+     * Checks one row (text values, null for NULL) against the domain and returns it normalized.
+     *
+     * @throws RuntimeException with a readable message when the row is invalid
+     */
+    String[] validate(String[] row);
+
+    /**
+     * INSERT ... SELECT from {@value #STAGE} into the table, skipping rows that conflict with existing ones.
+     */
+    String insertFromStage();
+
+    static int integer(String value, String column) {
+        try {
+            return Integer.parseInt(required(value, column).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be an integer: " + value);
+        }
+    }
+
+    static String required(String value, String column) {
+        if (value == null) throw new IllegalArgumentException(column + " is required");
+        return value;
+    }
+
+    /**
+     * Optional timestamp in PostgreSQL's text form ({@code 2025-01-31 10:15:30.123456}) or ISO-8601.
+     */
+    static String timestamp(String value, String column) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return LocalDateTime.parse(value.trim().replace(' ', 'T')).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " must be a timestamp: " + value);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link CopyTable} beans of all contexts, looked up by table name.
+ */
+@Component
+public class CopyTables {
+
+    private final Map<String, CopyTable> byName = new HashMap<>();
+
+    public CopyTables(List<CopyTable> tables) {
+        for (CopyTable table : tables) {
+            CopyTable previous = byName.putIfAbsent(table.name(), table);
+            if (previous != null) {
+                throw new IllegalStateException("Copy tables " + previous.getClass().getName() + " and "
+                        + table.getClass().getName() + " both claim " + table.name());
+            }
+        }
+    }
+
+    public CopyTable get(String name) {
+        CopyTable table = byName.get(name);
+        if (table == null) throw new NotFoundException("Unknown table: " + name);
+        return table;
+    }
+}
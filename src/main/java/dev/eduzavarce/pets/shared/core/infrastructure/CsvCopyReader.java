@@ -0,0 +1,94 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses CSV as PostgreSQL writes it: comma separated, double quotes doubled inside quoted fields, line
+ * breaks allowed inside quotes, and an unquoted empty field read as NULL. The first record is a header
+ * that must name the table's columns in order.
+ */
+final class CsvCopyReader implements CopyRowReader {
+    private static final int EOF = -1;
+
+    private final BufferedReader reader;
+    private long record;
+
+    CsvCopyReader(InputStream in, List<CopyColumn> columns) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        List<String> expected = columns.stream().map(CopyColumn::name).toList();
+        String[] header = next();
+        if (header == null || !expected.equals(normalize(header))) {
+            throw new CustomException("CSV header must be: " + String.join(",", expected));
+        }
+    }
+
+    private static List<String> normalize(String[] header) {
+        List<String> names = new ArrayList<>(header.length);
+        for (String name : header) names.add(name == null ? "" : name.trim().toLowerCase());
+        return names;
+    }
+
+    @Override
+    public String[] next() throws IOException {
+        int c = reader.read();
+        if (c == EOF) return null;
+        record++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == '"' && field.isEmpty() && !quoted) {
+                quoted = true;
+                readQuoted(field);
+                c = reader.read();
+                continue;
+            }
+            if (c == ',' || c == '\n' || c == '\r' || c == EOF) {
+                fields.add(quoted || !field.isEmpty() ? field.toString() : null);
+                field.setLength(0);
+                quoted = false;
+                if (c == ',') {
+                    c = reader.read();
+                    continue;
+                }
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                return fields.toArray(String[]::new);
+            }
+            if (quoted) {
+                throw new CustomException("Malformed CSV at record " + record + ": text after a closing quote");
+            }
+            field.append((char) c);
+            c = reader.read();
+        }
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = reader.read();
+            if (c == EOF) {
+                throw new CustomException("Malformed CSV at record " + record + ": unterminated quoted field");
+            }
+            if (c == '"') {
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                    continue;
+                }
+                reader.reset();
+                return;
+            }
+            field.append((char) c);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+public record DeadLetterDto(String messageId,
+                            String queue,
+                            int retries,
+                            String error,
+                            String errorType,
+                            String deadLetteredAt,
+                            String body) {
+}
@@ -0,0 +1,202 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.GetResponse;
+import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Backoffice access to the dead-letter queues declared by {@link RabbitMQConfig}.
+ * <p>
+ * {@link #peek} fetches without acknowledging and then rejects everything it fetched with requeue, so the
+ * messages stay in the DLQ in their order. {@link #replay} republishes each message to the queue it failed
+ * on with its retry and failure headers stripped, waits for the broker to confirm the publishes and only
+ * then acknowledges the dead letters: a replay interrupted halfway leaves duplicates, never losses, and the
+ * consumers' deduplication absorbs the duplicates.
+ */
+@Component
+public class DeadLetterQueues {
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterQueues.class);
+
+    public static final int MAX_BATCH = 500;
+    static final String REPLAYED_COUNTER = "events.dead-letters.replayed";
+    private static final long CONFIRM_TIMEOUT_MILLIS = 10_000;
+    private static final Set<String> FAILURE_HEADERS = Set.of(
+            RetryingMessageRecoverer.RETRY_COUNT_HEADER,
+            RetryingMessageRecoverer.ERROR_HEADER,
+            RetryingMessageRecoverer.ERROR_TYPE_HEADER,
+            RetryingMessageRecoverer.DEAD_LETTERED_AT_HEADER,
+            "x-death", "x-first-death-exchange", "x-first-death-queue", "x-first-death-reason",
+            "x-last-death-exchange", "x-last-death-queue", "x-last-death-reason");
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ConsumerRetryPolicy policy;
+    private final MeterRegistry meterRegistry;
+    private final DomainEventCodec codec;
+    private final ObjectMapper objectMapper;
+    private final Set<String> queues;
+    private final Map<String, Counter> replayed = new ConcurrentHashMap<>();
+
+    public DeadLetterQueues(RabbitTemplate rabbitTemplate,
+                            ConsumerRetryPolicy policy,
+                            MeterRegistry meterRegistry,
+                            DomainEventCodec codec,
+                            ObjectMapper objectMapper,
+                            @Value("${app.rabbitmq.queues.user-created-log:user-created-log.q}") String userCreatedLogQueue,
+                            @Value("${app.rabbitmq.queues.user-created-pets:user-created-pets.q}") String userCreatedPetsQueue) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+        this.queues = Set.of(userCreatedLogQueue, userCreatedPetsQueue);
+    }
+
+    public List<DeadLetterDto> peek(String queue, int limit) {
+        String deadLetterQueue = deadLetterQueueOf(queue);
+        int max = clamp(limit);
+        List<DeadLetterDto> letters = rabbitTemplate.execute(channel -> {
+            List<DeadLetterDto> fetched = new ArrayList<>();
+            long lastTag = -1;
+            try {
+                for (int i = 0; i < max; i++) {
+                    GetResponse response = channel.basicGet(deadLetterQueue, false);
+                    if (response == null) break;
+                    lastTag = response.getEnvelope().getDeliveryTag();
+                    fetched.add(toDto(queue, response));
+                }
+            } finally {
+                if (lastTag >= 0) channel.basicNack(lastTag, true, true);
+            }
+            return fetched;
+        });
+        return letters == null ? List.of() : letters;
+    }
+
+    /**
+     * Moves up to {@code limit} dead letters back onto {@code queue} and returns how many were moved.
+     */
+    public int replay(String queue, int limit) {
+        String deadLetterQueue = deadLetterQueueOf(queue);
+        int max = clamp(limit);
+        Integer moved = rabbitTemplate.execute(channel -> {
+            channel.confirmSelect();
+            int count = 0;
+            long lastTag = -1;
+            try {
+                for (int i = 0; i < max; i++) {
+                    GetResponse response = channel.basicGet(deadLetterQueue, false);
+                    if (response == null) break;
+                    lastTag = response.getEnvelope().getDeliveryTag();
+                    channel.basicPublish("", queue, cleared(response.getProps()), response.getBody());
+                    count++;
+                }
+                if (lastTag >= 0) awaitConfirms(channel);
+            } catch (Exception e) {
+                if (lastTag >= 0 && channel.isOpen()) channel.basicNack(lastTag, true, true);
+                throw e;
+            }
+            if (lastTag >= 0) channel.basicAck(lastTag, true);
+            return count;
+        });
+        int total = moved == null ? 0 : moved;
+        if (total > 0) {
+            replayed.computeIfAbsent(queue, q -> Counter.builder(REPLAYED_COUNTER)
+                            .description("Dead letters republished to their queue from the backoffice")
+                            .tag("queue", q)
+                            .register(meterRegistry))
+                    .increment(total);
+            log.info("Replayed {} dead letters from {} to {}", total, deadLetterQueue, queue);
+        }
+        return total;
+    }
+
+    private static void awaitConfirms(Channel channel) throws IOException {
+        try {
+            channel.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the replay to be confirmed", e);
+        } catch (TimeoutException e) {
+            throw new IOException("Replay was not confirmed by the broker", e);
+        }
+    }
+
+    private String deadLetterQueueOf(String queue) {
+        if (!queues.contains(queue)) {
+            throw new NotFoundException("Unknown queue: " + queue);
+        }
+        return policy.deadLetterQueue(queue);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_BATCH));
+    }
+
+    static AMQP.BasicProperties cleared(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = new HashMap<>();
+        if (properties.getHeaders() != null) {
+            properties.getHeaders().forEach((name, value) -> {
+                if (!FAILURE_HEADERS.contains(name)) headers.put(name, value);
+            });
+        }
+        return properties.builder().headers(headers).expiration(null).build();
+    }
+
+    private DeadLetterDto toDto(String queue, GetResponse response) {
+        AMQP.BasicProperties properties = response.getProps();
+        Map<String, Object> headers = properties.getHeaders() == null ? Map.of() : properties.getHeaders();
+        Object retries = headers.get(RetryingMessageRecoverer.RETRY_COUNT_HEADER);
+        String error = text(headers.get(RetryingMessageRecoverer.ERROR_HEADER));
+        if (error == null && headers.get("x-first-death-reason") != null) {
+            // Dead-lettered by the broker, not by the recoverer (e.g. a payload the converter rejected)
+            error = "Dead-lettered by the broker: " + text(headers.get("x-first-death-reason"));
+        }
+        return new DeadLetterDto(
+                properties.getMessageId(),
+                queue,
+                retries instanceof Number n ? n.intValue() : 0,
+                error,
+                text(headers.get(RetryingMessageRecoverer.ERROR_TYPE_HEADER)),
+                text(headers.get(RetryingMessageRecoverer.DEAD_LETTERED_AT_HEADER)),
+                readableBody(properties.getContentType(), response.getBody()));
+    }
+
+    /**
+     * Binary events are shown as the JSON they decode to.
+     */
+    private String readableBody(String contentType, byte[] body) {
+        if (DomainEventMessageConverter.BINARY_CONTENT_TYPE.equals(contentType)) {
+            try {
+                return objectMapper.writeValueAsString(codec.decode(body));
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                return "<undecodable binary event: " + e.getMessage() + ">";
+            }
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static String text(Object header) {
+        // String headers come back from the broker as LongString
+        return header == null ? null : header.toString();
+    }
+}
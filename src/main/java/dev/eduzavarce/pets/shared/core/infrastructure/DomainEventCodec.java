@@ -0,0 +1,70 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary form of {@link DomainEventDto}:
+ * <pre>
+ * byte    format version (1)
+ * varint  body schema id, 0 when the body is null
+ * id      eventId
+ * string  eventName
+ * string  occurredOn
+ * id      aggregateId
+ * ...     body, as laid out by its {@link EventBodySchema}
+ * </pre>
+ * Field names and type information never go on the wire; the schema id stands in for both.
+ */
+@Component
+public class DomainEventCodec {
+    static final int VERSION = 1;
+    private static final int NO_BODY = 0;
+
+    private final EventBodySchemas schemas;
+
+    public DomainEventCodec(EventBodySchemas schemas) {
+        this.schemas = schemas;
+    }
+
+    /**
+     * Whether the body has a registered schema; other events stay on JSON.
+     */
+    public boolean canEncode(DomainEventDto event) {
+        return event.body() == null || schemas.forBody(event.body()) != null;
+    }
+
+    public byte[] encode(DomainEventDto event) {
+        EventBodySchema<?> schema = schemas.forBody(event.body());
+        if (schema == null && event.body() != null) {
+            throw new IllegalArgumentException("No binary schema for body type " + event.body().getClass().getName());
+        }
+        BinaryEventWriter out = new BinaryEventWriter(128);
+        out.writeByte(VERSION);
+        out.writeVarInt(schema == null ? NO_BODY : schema.id());
+        out.writeId(event.eventId());
+        out.writeString(event.eventName());
+        out.writeString(event.occurredOn());
+        out.writeId(event.aggregateId());
+        if (schema != null) writeBody(schema, event.body(), out);
+        return out.toByteArray();
+    }
+
+    public DomainEventDto decode(byte[] data) {
+        BinaryEventReader in = new BinaryEventReader(data);
+        int version = in.readByte();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported event format version " + version);
+        int schemaId = in.readVarInt();
+        String eventId = in.readId();
+        String eventName = in.readString();
+        String occurredOn = in.readString();
+        String aggregateId = in.readId();
+        Object body = schemaId == NO_BODY ? null : schemas.byId(schemaId).read(in);
+        return new DomainEventDto(eventId, eventName, occurredOn, aggregateId, body);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeBody(EventBodySchema<T> schema, Object body, BinaryEventWriter out) {
+        schema.write((T) body, out);
+    }
+}
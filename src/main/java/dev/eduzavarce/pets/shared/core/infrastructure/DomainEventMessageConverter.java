@@ -0,0 +1,84 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+
+import java.util.Map;
+
+/**
+ * Reads both wire formats, chosen per message by its content type, and writes the one configured in
+ * {@code app.rabbitmq.wire-format}. Either way the consumer gets a {@link DomainEventDto} whose body is the
+ * type registered for the event name, not a {@code Map}.
+ * <p>
+ * Rolling out binary is therefore two steps: deploy every consumer (they read both formats), then switch
+ * the producers. Events whose body has no {@link EventBodySchema} are always written as JSON.
+ */
+public class DomainEventMessageConverter implements SmartMessageConverter {
+    public static final String BINARY_CONTENT_TYPE = "application/vnd.pets.event+binary";
+
+    public enum WireFormat {JSON, BINARY}
+
+    private final Jackson2JsonMessageConverter json;
+    private final DomainEventCodec codec;
+    private final EventBodySchemas schemas;
+    private final ObjectMapper objectMapper;
+    private final WireFormat writeFormat;
+
+    public DomainEventMessageConverter(Jackson2JsonMessageConverter json, DomainEventCodec codec,
+                                       EventBodySchemas schemas, ObjectMapper objectMapper, WireFormat writeFormat) {
+        this.json = json;
+        this.codec = codec;
+        this.schemas = schemas;
+        this.objectMapper = objectMapper;
+        this.writeFormat = writeFormat;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (writeFormat == WireFormat.BINARY && object instanceof DomainEventDto event && codec.canEncode(event)) {
+            byte[] bytes = codec.encode(event);
+            messageProperties.setContentType(BINARY_CONTENT_TYPE);
+            messageProperties.setContentLength(bytes.length);
+            return new Message(bytes, messageProperties);
+        }
+        return json.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        return fromMessage(message, null);
+    }
+
+    @Override
+    public Object fromMessage(Message message, Object conversionHint) {
+        if (BINARY_CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            try {
+                return codec.decode(message.getBody());
+            } catch (IllegalArgumentException e) {
+                throw new MessageConversionException("Malformed binary event " + message.getMessageProperties().getMessageId(), e);
+            }
+        }
+        Object converted = json.fromMessage(message, conversionHint);
+        return converted instanceof DomainEventDto event ? typed(event) : converted;
+    }
+
+    /**
+     * JSON bodies arrive as maps; converts them to the type registered for the event name.
+     */
+    public DomainEventDto typed(DomainEventDto event) {
+        if (!(event.body() instanceof Map<?, ?>)) return event;
+        Class<?> type = schemas.bodyType(event.eventName());
+        if (type == Object.class) return event;
+        try {
+            Object body = objectMapper.convertValue(event.body(), type);
+            return new DomainEventDto(event.eventId(), event.eventName(), event.occurredOn(), event.aggregateId(), body);
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Body of " + event.eventName() + " is not a " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Transport that {@link OutboxRelay} drains the outbox into. Exactly one implementation is active,
+ * chosen by {@code app.events.transport}.
+ */
+public interface DomainEventPublisher {
+    /**
+     * Hands the batch to the transport, reporting per event whether it was accepted within {@code timeout}.
+     */
+    BatchPublishResult publishConfirmed(List<DomainEventDto> events, Duration timeout);
+}
@@ -0,0 +1,26 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.util.Set;
+
+/**
+ * Binary layout of one domain event body type, registered as a bean by the context that owns the type.
+ * <p>
+ * {@link #id()} is written on the wire in place of a type name and must never be reused. The layout is
+ * positional, so changing the fields of a type means registering a new schema with a new id and keeping
+ * the old one readable until no message written with it can still be in flight.
+ */
+public interface EventBodySchema<T> {
+
+    int id();
+
+    Class<T> type();
+
+    /**
+     * Names of the events whose body has this type; consumers decode those bodies to {@link #type()}.
+     */
+    Set<String> eventNames();
+
+    void write(T body, BinaryEventWriter out);
+
+    T read(BinaryEventReader in);
+}
@@ -0,0 +1,55 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link EventBodySchema} beans of all contexts, looked up by wire id, event name or body type.
+ */
+@Component
+public class EventBodySchemas {
+
+    private final Map<Integer, EventBodySchema<?>> byId = new HashMap<>();
+    private final Map<String, EventBodySchema<?>> byEventName = new HashMap<>();
+    private final Map<Class<?>, EventBodySchema<?>> byType = new HashMap<>();
+
+    public EventBodySchemas(List<EventBodySchema<?>> schemas) {
+        for (EventBodySchema<?> schema : schemas) {
+            if (schema.id() <= 0) {
+                throw new IllegalStateException("Schema ids start at 1: " + schema.getClass().getName());
+            }
+            register(byId, schema.id(), schema);
+            register(byType, schema.type(), schema);
+            schema.eventNames().forEach(name -> register(byEventName, name, schema));
+        }
+    }
+
+    private static <K> void register(Map<K, EventBodySchema<?>> index, K key, EventBodySchema<?> schema) {
+        EventBodySchema<?> previous = index.putIfAbsent(key, schema);
+        if (previous != null) {
+            throw new IllegalStateException("Event schemas " + previous.getClass().getName() + " and "
+                    + schema.getClass().getName() + " both claim " + key);
+        }
+    }
+
+    public EventBodySchema<?> byId(int id) {
+        EventBodySchema<?> schema = byId.get(id);
+        if (schema == null) throw new IllegalArgumentException("Unknown event schema id " + id);
+        return schema;
+    }
+
+    public EventBodySchema<?> forBody(Object body) {
+        return body == null ? null : byType.get(body.getClass());
+    }
+
+    /**
+     * Body type of {@code eventName}, or {@code Object.class} (maps and lists) for events without a schema.
+     */
+    public Class<?> bodyType(String eventName) {
+        EventBodySchema<?> schema = eventName == null ? null : byEventName.get(eventName);
+        return schema == null ? Object.class : schema.type();
+    }
+}
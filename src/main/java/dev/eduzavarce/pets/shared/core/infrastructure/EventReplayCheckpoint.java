@@ -0,0 +1,18 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.sql.Timestamp;
+
+public record EventReplayCheckpoint(
+        String replayId,
+        String listener,
+        long lastSeq,
+        long replayed,
+        Timestamp startedAt,
+        Timestamp updatedAt,
+        Timestamp completedAt,
+        String lastError
+) {
+    public boolean completed() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.sql.Timestamp;
+
+/**
+ * Progress of one named replay: the last event store seq handed to the listener. Reads and writes go
+ * through {@link EventReplayCheckpointRepository}; this mapping only describes the table for schema
+ * validation.
+ */
+@Entity(name = "event_replay_checkpoints")
+public class EventReplayCheckpointPostgresEntity {
+    @Id
+    @Column(name = "replay_id")
+    private String replayId;
+
+    @Column(nullable = false)
+    private String listener;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    @Column(nullable = false)
+    private long replayed;
+
+    @Column(name = "started_at", nullable = false)
+    private Timestamp startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Timestamp updatedAt;
+
+    @Column(name = "completed_at")
+    private Timestamp completedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    protected EventReplayCheckpointPostgresEntity() {
+    }
+}
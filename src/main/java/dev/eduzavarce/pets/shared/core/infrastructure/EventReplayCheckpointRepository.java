@@ -0,0 +1,67 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+@Repository
+public class EventReplayCheckpointRepository {
+    private static final String FIND = """
+            SELECT replay_id, listener, last_seq, replayed, started_at, updated_at, completed_at, last_error
+            FROM event_replay_checkpoints
+            WHERE replay_id = ?
+            """;
+    private static final String START = """
+            INSERT INTO event_replay_checkpoints (replay_id, listener, last_seq, replayed, started_at, updated_at)
+            VALUES (?, ?, 0, 0, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT (replay_id) DO NOTHING
+            """;
+    private static final String ADVANCE = """
+            UPDATE event_replay_checkpoints
+            SET last_seq = ?, replayed = ?, updated_at = LOCALTIMESTAMP, last_error = ?
+            WHERE replay_id = ?
+            """;
+    private static final String COMPLETE = """
+            UPDATE event_replay_checkpoints
+            SET completed_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP, last_error = NULL
+            WHERE replay_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventReplayCheckpointRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<EventReplayCheckpoint> find(String replayId) {
+        return jdbcTemplate.query(FIND, (rs, rowNum) -> new EventReplayCheckpoint(
+                rs.getString("replay_id"),
+                rs.getString("listener"),
+                rs.getLong("last_seq"),
+                rs.getLong("replayed"),
+                rs.getTimestamp("started_at"),
+                rs.getTimestamp("updated_at"),
+                rs.getTimestamp("completed_at"),
+                rs.getString("last_error")
+        ), replayId).stream().findFirst();
+    }
+
+    /**
+     * Creates the checkpoint at the start of the store unless the replay already has one.
+     */
+    public EventReplayCheckpoint startOrResume(String replayId, String listener) {
+        jdbcTemplate.update(START, replayId, listener);
+        return find(replayId).orElseThrow();
+    }
+
+    public void advance(String replayId, long lastSeq, long replayed, String error) {
+        String truncated = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        jdbcTemplate.update(ADVANCE, lastSeq, replayed, truncated, replayId);
+    }
+
+    public void complete(String replayId) {
+        jdbcTemplate.update(COMPLETE, replayId);
+    }
+}
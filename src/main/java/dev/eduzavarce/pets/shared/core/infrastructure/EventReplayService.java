@@ -0,0 +1,218 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
+import dev.eduzavarce.pets.shared.exceptions.AlreadyExistsException;
+import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Feeds events from the {@link EventStoreRepository event store} to a {@link DomainEventListener} bean in
+ * seq order, at most {@code ratePerSecond} per second, to rebuild a projection or backfill a new consumer.
+ * <p>
+ * Progress is checkpointed per batch under the replay id, so starting a replay id again resumes after the
+ * last checkpoint: a crash re-delivers at most one batch, which listeners absorb through their
+ * deduplication. A listener failure checkpoints the events before it and stops the replay; the next
+ * start retries the failed event. A replay completes once it reads a partial batch, i.e. it has caught up
+ * with the settled end of the store.
+ */
+@Service
+public class EventReplayService implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(EventReplayService.class);
+
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final EventStoreRepository eventStore;
+    private final EventReplayCheckpointRepository checkpoints;
+    private final Map<String, DomainEventListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final EventBodySchemas schemas;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration settle;
+    private final int defaultRate;
+    private final LongSupplier ticker;
+    private final Sleeper sleeper;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-replay-", 0).factory());
+
+    @Autowired
+    public EventReplayService(EventStoreRepository eventStore,
+                              EventReplayCheckpointRepository checkpoints,
+                              Map<String, DomainEventListener> listeners,
+                              ObjectMapper objectMapper,
+                              EventBodySchemas schemas,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.events.replay.batch-size:500}") int batchSize,
+                              @Value("${app.events.replay.settle:PT5S}") Duration settle,
+                              @Value("${app.events.replay.default-rate:1000}") int defaultRate) {
+        this(eventStore, checkpoints, listeners, objectMapper, schemas, meterRegistry, batchSize, settle, defaultRate,
+                System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    EventReplayService(EventStoreRepository eventStore,
+                       EventReplayCheckpointRepository checkpoints,
+                       Map<String, DomainEventListener> listeners,
+                       ObjectMapper objectMapper,
+                       EventBodySchemas schemas,
+                       MeterRegistry meterRegistry,
+                       int batchSize,
+                       Duration settle,
+                       int defaultRate,
+                       LongSupplier ticker,
+                       Sleeper sleeper) {
+        this.eventStore = eventStore;
+        this.checkpoints = checkpoints;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+        this.schemas = schemas;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.settle = settle;
+        this.defaultRate = Math.max(1, defaultRate);
+        this.ticker = ticker;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Starts or resumes {@code replayId} in the background and returns its checkpoint as of the start.
+     */
+    public EventReplayCheckpoint start(String replayId, String listenerName, Collection<String> eventNames,
+                                       Integer ratePerSecond) {
+        DomainEventListener listener = listeners.get(listenerName);
+        if (listener == null) {
+            throw new NotFoundException("Unknown event listener: " + listenerName);
+        }
+        if (!running.add(replayId)) {
+            throw new AlreadyExistsException("Replay " + replayId + " is already running");
+        }
+        try {
+            EventReplayCheckpoint checkpoint = checkpoints.startOrResume(replayId, listenerName);
+            if (!checkpoint.listener().equals(listenerName)) {
+                throw new AlreadyExistsException("Replay " + replayId + " belongs to listener " + checkpoint.listener());
+            }
+            if (checkpoint.completed()) {
+                running.remove(replayId);
+                return checkpoint;
+            }
+            int rate = ratePerSecond == null || ratePerSecond <= 0 ? defaultRate : ratePerSecond;
+            executor.execute(() -> {
+                try {
+                    replay(checkpoint, listener, eventNames, rate);
+                } catch (RuntimeException e) {
+                    log.error("Replay {} into {} stopped: {}", replayId, listenerName, e.getMessage(), e);
+                } finally {
+                    running.remove(replayId);
+                }
+            });
+            return checkpoint;
+        } catch (RuntimeException e) {
+            running.remove(replayId);
+            throw e;
+        }
+    }
+
+    public EventReplayCheckpoint status(String replayId) {
+        return checkpoints.find(replayId)
+                .orElseThrow(() -> new NotFoundException("Unknown replay: " + replayId));
+    }
+
+    /**
+     * Replays synchronously from {@code checkpoint} and returns how many events the listener received.
+     * Stops early, with progress saved, when the thread is interrupted.
+     */
+    long replay(EventReplayCheckpoint checkpoint, DomainEventListener listener, Collection<String> eventNames,
+                int ratePerSecond) {
+        String replayId = checkpoint.replayId();
+        Counter replayedCounter = Counter.builder("events.replay.events")
+                .description("Events handed to a listener by a replay")
+                .tag("listener", checkpoint.listener())
+                .register(meterRegistry);
+        Collection<String> names = eventNames == null ? List.of() : eventNames;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        long lastSeq = checkpoint.lastSeq();
+        long replayed = checkpoint.replayed();
+        long delivered = 0;
+        long nextSlot = ticker.getAsLong();
+
+        while (true) {
+            List<StoredEvent> batch = eventStore.readAfter(lastSeq, settle, names, batchSize);
+            for (StoredEvent event : batch) {
+                try {
+                    nextSlot = pace(nextSlot, intervalNanos);
+                    listener.onEvent(toDto(event));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    checkpoints.advance(replayId, lastSeq, replayed, "Interrupted");
+                    log.info("Replay {} interrupted at seq {}", replayId, lastSeq);
+                    return delivered;
+                } catch (RuntimeException e) {
+                    checkpoints.advance(replayId, lastSeq, replayed, "seq " + event.seq() + ": " + e.getMessage());
+                    throw e;
+                }
+                lastSeq = event.seq();
+                replayed++;
+                delivered++;
+                replayedCounter.increment();
+            }
+            if (batch.size() < batchSize) {
+                checkpoints.advance(replayId, lastSeq, replayed, null);
+                checkpoints.complete(replayId);
+                log.info("Replay {} completed at seq {} after {} events", replayId, lastSeq, replayed);
+                return delivered;
+            }
+            checkpoints.advance(replayId, lastSeq, replayed, null);
+        }
+    }
+
+    /**
+     * Waits for the next send slot; a replay that fell behind (slow listener) does not burst to catch up.
+     */
+    private long pace(long nextSlot, long intervalNanos) throws InterruptedException {
+        long now = ticker.getAsLong();
+        if (nextSlot > now) {
+            sleeper.sleep(nextSlot - now);
+            return nextSlot + intervalNanos;
+        }
+        if (Thread.interrupted()) throw new InterruptedException();
+        return now + intervalNanos;
+    }
+
+    private DomainEventDto toDto(StoredEvent event) {
+        try {
+            Object body = objectMapper.readValue(event.payload(), schemas.bodyType(event.eventName()));
+            return new DomainEventDto(event.eventId(), event.eventName(), event.occurredOn(), event.aggregateId(), body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt event store payload at seq " + event.seq(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // Interrupted replays checkpoint and resume on their next start
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Creates the event store's monthly partitions at startup and keeps them created {@code months-ahead} in
+ * advance, so rows land in their month's partition rather than the default one. A partition cannot be
+ * attached for a range the default partition already holds rows of, which is why they are created ahead.
+ * The partitioned table itself comes from the migrations, which run before this bean is initialized.
+ */
+@Component
+@DependsOnDatabaseInitialization
+public class EventStorePartitions implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(EventStorePartitions.class);
+
+    private final EventStoreRepository eventStoreRepository;
+    private final int monthsAhead;
+
+    public EventStorePartitions(EventStoreRepository eventStoreRepository,
+                                @Value("${app.events.store.partitions-ahead:2}") int monthsAhead) {
+        this.eventStoreRepository = eventStoreRepository;
+        this.monthsAhead = Math.max(1, monthsAhead);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${app.events.store.partition-cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            eventStoreRepository.createPartition(current.plusMonths(i));
+        }
+        log.debug("Event store partitions ensured through {}", current.plusMonths(monthsAhead));
+    }
+}
@@ -0,0 +1,98 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only store of every published domain event in {@code event_store}, range-partitioned by month on
+ * {@code stored_at}. The table is created by the migrations; its monthly partitions are created here, ahead
+ * of time, by {@link EventStorePartitions}.
+ * <p>
+ * {@code seq} comes from a sequence, so it is assigned at insert but becomes visible at commit: a
+ * transaction that started earlier can commit a lower seq after a reader has moved past it. Readers
+ * therefore only see rows older than a settle window, well beyond the length of a write transaction.
+ */
+@Repository
+public class EventStoreRepository {
+    private static final String CREATE_MONTH_PARTITION =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF event_store FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String INSERT = """
+            INSERT INTO event_store (event_id, aggregate_id, event_name, occurred_on, payload, stored_at)
+            VALUES (?, ?, ?, ?, ?, LOCALTIMESTAMP)
+            """;
+    private static final String SELECT = "SELECT seq, event_id, aggregate_id, event_name, occurred_on, payload, stored_at FROM event_store ";
+    private static final String READ_AFTER = SELECT + """
+            WHERE seq > ? AND stored_at < LOCALTIMESTAMP - CAST(? AS INTERVAL)%s
+            ORDER BY seq
+            LIMIT ?
+            """;
+    private static final String FOR_AGGREGATE = SELECT + "WHERE aggregate_id = ? ORDER BY seq";
+
+    private static final RowMapper<StoredEvent> ROW_MAPPER = (rs, rowNum) -> new StoredEvent(
+            rs.getLong("seq"),
+            rs.getString("event_id"),
+            rs.getString("aggregate_id"),
+            rs.getString("event_name"),
+            rs.getString("occurred_on"),
+            rs.getString("payload"),
+            rs.getTimestamp("stored_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventStoreRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Creates the partition holding {@code month} if it does not exist yet.
+     */
+    public void createPartition(YearMonth month) {
+        String name = "event_store_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+        jdbcTemplate.execute(CREATE_MONTH_PARTITION.formatted(name, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * Inserts the events on the caller's connection, so they commit or roll back with its transaction.
+     */
+    public void append(List<OutboxRecord> records) {
+        if (records.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, records, records.size(), (ps, record) -> {
+            ps.setString(1, record.id());
+            ps.setString(2, record.aggregateId());
+            ps.setString(3, record.eventName());
+            ps.setString(4, record.occurredOn());
+            ps.setString(5, record.payload());
+        });
+    }
+
+    /**
+     * Up to {@code limit} events after {@code afterSeq} in seq order, restricted to {@code eventNames} unless
+     * empty, and stored at least {@code settle} ago.
+     */
+    public List<StoredEvent> readAfter(long afterSeq, Duration settle, Collection<String> eventNames, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(afterSeq);
+        args.add(settle.toMillis() + " milliseconds");
+        String nameFilter = "";
+        if (!eventNames.isEmpty()) {
+            nameFilter = " AND event_name IN (" + String.join(", ", Collections.nCopies(eventNames.size(), "?")) + ")";
+            args.addAll(eventNames);
+        }
+        args.add(limit);
+        return jdbcTemplate.query(READ_AFTER.formatted(nameFilter), ROW_MAPPER, args.toArray());
+    }
+
+    public List<StoredEvent> forAggregate(String aggregateId) {
+        return jdbcTemplate.query(FOR_AGGREGATE, ROW_MAPPER, aggregateId);
+    }
+}
@@ -0,0 +1,61 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/tables")
+@Tag(name = "Backoffice - Import/Export", description = "Admin bulk import and export of tables through PostgreSQL COPY")
+public class ExportTableBackofficeController {
+    private final CopyExportService copyExportService;
+
+    public ExportTableBackofficeController(CopyExportService copyExportService) {
+        this.copyExportService = copyExportService;
+    }
+
+    @GetMapping("/{table}/export")
+    @Operation(
+            summary = "Export a table",
+            description = "Streams pets, pets_users or auth_users ordered by id with PostgreSQL COPY, as CSV with a header or in the binary COPY format. The file can be imported as is. To resume an interrupted download, pass the last id received as after. auth_users includes the password hashes. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "CSV or binary COPY stream",
+            content = {@Content(mediaType = "text/csv"), @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)})
+    @ApiResponse(responseCode = "400", description = "Invalid after id",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown table",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable("table") String table,
+            @Parameter(description = "CSV or BINARY") @RequestParam(name = "format", defaultValue = "CSV") CopyFormat format,
+            @Parameter(description = "Only rows with a greater id") @RequestParam(name = "after", required = false) String after) {
+        // Validated before streaming starts, while an error can still become a 4xx response
+        CopyTable copyTable = copyExportService.table(table);
+        String afterId = CopyExportService.normalizeId(after);
+        StreamingResponseBody body = out -> copyExportService.export(copyTable, format, afterId, out);
+        String extension = format == CopyFormat.CSV ? "csv" : "bin";
+        return ResponseEntity.ok()
+                .contentType(format == CopyFormat.CSV ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + copyTable.name() + "." + extension + "\"")
+                .body(body);
+    }
+}
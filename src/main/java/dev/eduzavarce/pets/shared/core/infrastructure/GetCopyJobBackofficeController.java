@@ -0,0 +1,44 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/tables")
+@Tag(name = "Backoffice - Import/Export", description = "Admin bulk import and export of tables through PostgreSQL COPY")
+public class GetCopyJobBackofficeController {
+    private final CopyImportService copyImportService;
+
+    public GetCopyJobBackofficeController(CopyImportService copyImportService) {
+        this.copyImportService = copyImportService;
+    }
+
+    @GetMapping("/imports/{jobId}")
+    @Operation(
+            summary = "Get import progress",
+            description = "Returns an import job: rows read, inserted, skipped and rejected so far, completion time and the last error if it stopped. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Import job returned",
+            content = @Content(schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown import job",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<CopyJob>> get(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(new ResponseDto<>("success", copyImportService.status(jobId)));
+    }
+}
@@ -0,0 +1,57 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/dead-letters")
+@Tag(name = "Backoffice - Dead letters", description = "Admin operations on messages that exhausted their retries")
+public class GetDeadLettersBackofficeController {
+    private final DeadLetterQueues deadLetterQueues;
+
+    public GetDeadLettersBackofficeController(DeadLetterQueues deadLetterQueues) {
+        this.deadLetterQueues = deadLetterQueues;
+    }
+
+    @GetMapping("/{queue}")
+    @Operation(
+            summary = "Inspect dead letters",
+            description = "Returns up to limit (max 500) messages from the dead-letter queue of the given consumer queue, oldest first, with the failure that parked them. The messages stay in the dead-letter queue. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Dead letters returned",
+            content = @Content(
+                    schema = @Schema(implementation = ResponseDto.class),
+                    examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                            name = "GetDeadLettersSuccessExample",
+                            value = "{\n  \"status\": \"success\",\n  \"data\": [\n    {\n      \"messageId\": \"5b1f0d7e-2c1a-4e0b-9d55-0c8f7a3e2b91\",\n      \"queue\": \"user-created-pets.q\",\n      \"retries\": 3,\n      \"error\": \"could not execute statement\",\n      \"errorType\": \"org.springframework.dao.DataIntegrityViolationException\",\n      \"deadLetteredAt\": \"2025-01-01T10:00:21.500Z\",\n      \"body\": \"{\\\"eventId\\\":\\\"5b1f0d7e-2c1a-4e0b-9d55-0c8f7a3e2b91\\\",\\\"eventName\\\":\\\"user.created\\\"}\"\n    }\n  ]\n}"
+                    )
+            ))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown queue",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Unexpected server error",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<List<DeadLetterDto>>> peek(
+            @PathVariable("queue") String queue,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(new ResponseDto<>("success", deadLetterQueues.peek(queue, limit)));
+    }
+}
@@ -0,0 +1,44 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/event-replays")
+@Tag(name = "Backoffice - Event replays", description = "Admin operations to replay stored domain events")
+public class GetEventReplayBackofficeController {
+    private final EventReplayService eventReplayService;
+
+    public GetEventReplayBackofficeController(EventReplayService eventReplayService) {
+        this.eventReplayService = eventReplayService;
+    }
+
+    @GetMapping("/{replayId}")
+    @Operation(
+            summary = "Get replay progress",
+            description = "Returns the checkpoint of a replay: last replayed seq, events replayed, completion time and the last error if it stopped. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Replay checkpoint returned",
+            content = @Content(schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown replay",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<EventReplayCheckpoint>> get(@PathVariable("replayId") String replayId) {
+        return ResponseEntity.ok(new ResponseDto<>("success", eventReplayService.status(replayId)));
+    }
+}
@@ -0,0 +1,51 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Runs an event handler at most once per event id and consumer, in one transaction with the
+ * {@link ProcessedEventStore} claim. Events without an id (published before ids were on the wire)
+ * are always handled.
+ */
+@Component
+public class IdempotentConsumer {
+    private final ProcessedEventStore store;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdempotentConsumer(ProcessedEventStore store, PlatformTransactionManager transactionManager) {
+        this.store = store;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void handle(String consumer, DomainEventDto event, Consumer<DomainEventDto> handler) {
+        handleAll(consumer, List.of(event), events -> events.forEach(handler));
+    }
+
+    /**
+     * Passes the not yet processed events, in input order, to {@code handler}; it is not called when
+     * every event is a duplicate.
+     */
+    public void handleAll(String consumer, List<DomainEventDto> events, Consumer<List<DomainEventDto>> handler) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> ids = events.stream().map(DomainEventDto::eventId).filter(Objects::nonNull).distinct().toList();
+            Set<String> fresh = ids.isEmpty() ? Set.of() : store.claim(consumer, ids);
+            // remove() also drops a second copy of the same event within this batch
+            Set<String> unclaimed = new HashSet<>(fresh);
+            List<DomainEventDto> pending = events.stream()
+                    .filter(event -> event.eventId() == null || unclaimed.remove(event.eventId()))
+                    .toList();
+            if (!pending.isEmpty()) {
+                handler.accept(pending);
+            }
+        });
+    }
+}
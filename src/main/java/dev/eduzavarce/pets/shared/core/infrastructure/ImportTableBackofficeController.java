@@ -0,0 +1,63 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/tables")
+@Tag(name = "Backoffice - Import/Export", description = "Admin bulk import and export of tables through PostgreSQL COPY")
+public class ImportTableBackofficeController {
+    private final CopyImportService copyImportService;
+
+    public ImportTableBackofficeController(CopyImportService copyImportService) {
+        this.copyImportService = copyImportService;
+    }
+
+    @PutMapping(value = "/{table}/imports/{jobId}", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(
+            summary = "Import a table",
+            description = "Streams a CSV file (with header, as the export writes it) or a PostgreSQL binary COPY file into pets, pets_users or auth_users. Rows are validated against the domain in parallel chunks and loaded with COPY, one transaction per chunk; rows whose key already exists are skipped. Progress is kept under jobId: if the import stops, PUT the same file with the same jobId to resume after the committed rows. auth_users passwords must be bcrypt hashes. No domain events are published. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Import completed; the body is the job and the first rejected rows",
+            content = @Content(schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Malformed file or header; the job keeps the rows committed so far",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown table",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Job already running, or its id belongs to another table",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<CopyImportResult>> importTable(
+            @PathVariable("table") String table,
+            @PathVariable("jobId")
+            @Size(max = 100)
+            @Pattern(regexp = "^[A-Za-z0-9._-]+$", message = "Job id may contain only letters, digits, dots, hyphens and underscores.")
+            String jobId,
+            @Parameter(description = "CSV or BINARY") @RequestParam(name = "format", defaultValue = "CSV") CopyFormat format,
+            InputStream body) {
+        CopyImportResult result = copyImportService.importRows(jobId, table, format, body);
+        return ResponseEntity.ok(new ResponseDto<>("success", result));
+    }
+}
@@ -0,0 +1,194 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Delivers events to the {@link DomainEventListener} beans of this JVM, for single-node deployments
+ * and tests that run without RabbitMQ ({@code app.events.transport=in-process}). Every listener gets
+ * each event on its own virtual thread. At most {@code capacity} deliveries are in flight; beyond
+ * that a publish waits up to its timeout and then reports the event as failed, which leaves it in the
+ * outbox for a later retry. A listener that throws is retried {@code max-attempts} times.
+ * <p>
+ * An event counts as confirmed only once every listener handled it within the publish timeout. One that
+ * a listener still failed, or that was not handled in time, stays in the outbox and is delivered again to
+ * all listeners, so they see it at least once and must tolerate duplicates.
+ * Per-listener latency is exported as {@code events.dispatch.duration{listener}}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.events", name = "transport", havingValue = "in-process")
+public class InProcessEventBus implements EventBus, DomainEventPublisher, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(InProcessEventBus.class);
+
+    private final List<DomainEventListener> listeners;
+    private final int capacity;
+    private final int maxAttempts;
+    private final Duration publishTimeout;
+    private final Semaphore inFlight;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-dispatch-", 0).factory());
+
+    private final Map<DomainEventListener, Timer> latencyByListener = new IdentityHashMap<>();
+    private final Map<DomainEventListener, Counter> failuresByListener = new IdentityHashMap<>();
+    private final Counter rejectedCounter;
+
+    public InProcessEventBus(List<DomainEventListener> listeners,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.events.in-process.capacity:1024}") int capacity,
+                             @Value("${app.events.in-process.max-attempts:3}") int maxAttempts,
+                             @Value("${app.events.in-process.publish-timeout:PT1S}") Duration publishTimeout) {
+        this.listeners = List.copyOf(listeners);
+        // A single event needs one permit per listener, so never allow fewer than that
+        this.capacity = Math.max(capacity, this.listeners.size());
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.publishTimeout = publishTimeout;
+        this.inFlight = new Semaphore(this.capacity);
+        for (DomainEventListener listener : this.listeners) {
+            String name = ClassUtils.getUserClass(listener).getSimpleName();
+            latencyByListener.put(listener, Timer.builder("events.dispatch.duration")
+                    .description("Time a local listener took to handle one event")
+                    .tag("listener", name)
+                    .register(meterRegistry));
+            failuresByListener.put(listener, Counter.builder("events.dispatch.failed")
+                    .description("Events a local listener still failed after all attempts")
+                    .tag("listener", name)
+                    .register(meterRegistry));
+        }
+        this.rejectedCounter = Counter.builder("events.dispatch.rejected")
+                .description("Events refused because the dispatch capacity stayed exhausted")
+                .register(meterRegistry);
+        Gauge.builder("events.dispatch.in-flight", inFlight, permits -> this.capacity - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        if (events == null || events.isEmpty()) return;
+        BatchPublishResult result = publishConfirmed(events.stream().map(DomainEvent::toPrimitives).toList(), publishTimeout);
+        if (!result.allConfirmed()) {
+            throw new IllegalStateException(result.failed().size() + " of " + events.size()
+                    + " events were not handled by every local listener in time");
+        }
+    }
+
+    /**
+     * Delivers the events concurrently and waits, up to {@code timeout} for the whole batch, until every
+     * listener has handled them; an event is confirmed only if all its deliveries succeeded by then.
+     */
+    @Override
+    public BatchPublishResult publishConfirmed(List<DomainEventDto> events, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<CompletableFuture<Boolean>> deliveries = new ArrayList<>(events.size());
+        for (DomainEventDto event : events) {
+            if (reserve(deadline)) {
+                deliveries.add(dispatch(event));
+            } else {
+                rejectedCounter.increment();
+                deliveries.add(null);
+            }
+        }
+        List<DomainEventDto> confirmed = new ArrayList<>(events.size());
+        List<DomainEventDto> failed = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            CompletableFuture<Boolean> delivery = deliveries.get(i);
+            if (delivery != null && handled(delivery, deadline)) {
+                confirmed.add(events.get(i));
+            } else {
+                failed.add(events.get(i));
+            }
+        }
+        return new BatchPublishResult(confirmed, failed);
+    }
+
+    /**
+     * @return a future that completes once every listener is done with the event, with whether all succeeded
+     */
+    private CompletableFuture<Boolean> dispatch(DomainEventDto event) {
+        List<CompletableFuture<Boolean>> byListener = listeners.stream()
+                .map(listener -> CompletableFuture.supplyAsync(() -> deliver(listener, event), executor))
+                .toList();
+        return CompletableFuture.allOf(byListener.toArray(CompletableFuture[]::new))
+                .thenApply(done -> byListener.stream().allMatch(CompletableFuture::join));
+    }
+
+    private static boolean handled(CompletableFuture<Boolean> delivery, long deadline) {
+        try {
+            return delivery.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean reserve(long deadline) {
+        try {
+            return inFlight.tryAcquire(listeners.size(), Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return whether the listener handled the event
+     */
+    private boolean deliver(DomainEventListener listener, DomainEventDto event) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    latencyByListener.get(listener).record(() -> listener.onEvent(event));
+                    return true;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        failuresByListener.get(listener).increment();
+                        log.error("Listener {} failed {} on {} after {} attempts", listener.getClass().getSimpleName(),
+                                event.eventName(), event.aggregateId(), attempt, e);
+                        return false;
+                    }
+                    Thread.sleep(100L * attempt);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
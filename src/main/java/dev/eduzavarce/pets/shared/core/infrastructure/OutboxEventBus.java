@@ -0,0 +1,91 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link EventBus} that writes events to the {@code outbox_events} table instead of the transport.
+ * Called inside an application service transaction, the events commit atomically with the aggregate;
+ * {@link OutboxRelay} then delivers them with publisher confirms. Outside a transaction each call
+ * commits on its own, which still decouples the caller from transport availability. Every event is
+ * also appended to the {@link EventStoreRepository event store}, where it outlives delivery for replays.
+ * <p>
+ * {@link DomainEvent#isStateSnapshot() State snapshots} are coalesced per aggregate for
+ * {@code app.events.outbox.coalesce-window}: a burst of actions on one pet is relayed as a single event
+ * with the final state. The store still records each of them. Any other event of the aggregate first
+ * releases its pending snapshot, so consumers see them in the order they happened.
+ */
+@Primary
+@Component
+public class OutboxEventBus implements EventBus {
+    private final OutboxRepository outboxRepository;
+    private final EventStoreRepository eventStoreRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    public OutboxEventBus(OutboxRepository outboxRepository, EventStoreRepository eventStoreRepository,
+                          ObjectMapper objectMapper, OutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.eventStoreRepository = eventStoreRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        if (events == null || events.isEmpty()) return;
+        List<OutboxRecord> records = events.stream().map(this::toRecord).toList();
+        Duration window = properties.getCoalesceWindow();
+        if (window.isZero() || window.isNegative()) {
+            outboxRepository.append(records);
+        } else {
+            appendCoalescing(events, records, window);
+        }
+        // Same transaction: an event is in the store if and only if it will be published
+        eventStoreRepository.append(records);
+    }
+
+    private void appendCoalescing(List<DomainEvent> events, List<OutboxRecord> records, Duration window) {
+        // Consecutive runs keep snapshots and other events of one call in their original relative order
+        List<OutboxRecord> run = new ArrayList<>();
+        boolean snapshots = false;
+        for (int i = 0; i < events.size(); i++) {
+            boolean snapshot = events.get(i).isStateSnapshot();
+            if (snapshot != snapshots && !run.isEmpty()) {
+                appendRun(run, snapshots, window);
+                run = new ArrayList<>();
+            }
+            snapshots = snapshot;
+            run.add(records.get(i));
+        }
+        appendRun(run, snapshots, window);
+    }
+
+    private void appendRun(List<OutboxRecord> run, boolean snapshots, Duration window) {
+        if (snapshots) {
+            outboxRepository.appendCoalescing(run, window);
+            return;
+        }
+        outboxRepository.releaseCoalescing(run.stream().map(OutboxRecord::aggregateId).distinct().toList());
+        outboxRepository.append(run);
+    }
+
+    private OutboxRecord toRecord(DomainEvent event) {
+        DomainEventDto dto = event.toPrimitives();
+        try {
+            return new OutboxRecord(event.eventId(), dto.aggregateId(), dto.eventName(), dto.occurredOn(),
+                    objectMapper.writeValueAsString(dto.body()), null, 0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize body of " + dto.eventName(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.sql.Timestamp;
+
+/**
+ * Domain events waiting to be relayed to the broker. Rows are inserted in the transaction that
+ * changes the aggregate and deleted once the broker confirmed them; reads and writes go through
+ * {@link OutboxRepository}; the table and its indexes come from the migrations, this mapping is what
+ * Hibernate validates them against.
+ */
+@Entity(name = "outbox_events")
+public class OutboxEventPostgresEntity {
+    @Id
+    private String id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_name", nullable = false)
+    private String eventName;
+
+    @Column(name = "occurred_on", nullable = false)
+    private String occurredOn;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Timestamp createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Timestamp nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "coalesce_key")
+    private String coalesceKey;
+
+    protected OutboxEventPostgresEntity() {
+    }
+}
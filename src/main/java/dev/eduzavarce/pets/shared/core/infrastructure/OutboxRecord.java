@@ -0,0 +1,17 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.sql.Timestamp;
+
+/**
+ * One row of {@code outbox_events}; {@code payload} is the JSON of the event body.
+ */
+public record OutboxRecord(
+        String id,
+        String aggregateId,
+        String eventName,
+        String occurredOn,
+        String payload,
+        Timestamp createdAt,
+        int attempts
+) {
+}
@@ -0,0 +1,170 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drains {@code outbox_events} into the configured {@link DomainEventPublisher}. Each batch is
+ * locked, published and its confirmed events deleted, all inside one database transaction; events
+ * the transport did not confirm stay in the table with an exponential retry delay. Delivery is
+ * therefore at-least-once: a crash between the confirm and the commit republishes the batch. A row
+ * whose payload cannot be decoded is rescheduled on its own, with its error, instead of failing the batch.
+ * <p>
+ * Before a batch is locked, due snapshot rows give up their {@code coalesce_key} in a short transaction of
+ * their own. The batch lock is held while waiting for confirms, and a snapshot upsert conflicting with a
+ * locked row would wait for it, so a slow broker would otherwise stall the writers of those aggregates.
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final EventBodySchemas schemas;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final Timer publishTimer;
+    private final Counter relayedCounter;
+    private final Counter retriesCounter;
+    private final AtomicReference<Timestamp> oldestPending = new AtomicReference<>();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       DomainEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       EventBodySchemas schemas,
+                       PlatformTransactionManager transactionManager,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.schemas = schemas;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.publishTimer = Timer.builder("events.outbox.publish")
+                .description("Time to publish one outbox batch and receive its confirms")
+                .register(meterRegistry);
+        this.relayedCounter = Counter.builder("events.outbox.relayed")
+                .description("Outbox events confirmed by the transport and removed from the table")
+                .register(meterRegistry);
+        this.retriesCounter = Counter.builder("events.outbox.retries")
+                .description("Outbox events whose publish failed and were rescheduled")
+                .register(meterRegistry);
+        Gauge.builder("events.outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest event still waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relays batches until the due rows are exhausted or a batch fails.
+     */
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == properties.getBatchSize());
+        oldestPending.set(outboxRepository.oldestCreatedAt().orElse(null));
+    }
+
+    /**
+     * @return the number of rows handled, or {@code -1} when the transport failed part of the batch. Rows
+     * whose payload cannot be decoded count as handled: they are rescheduled with backoff so they no longer
+     * head the queue, and the rest of the batch is published without them.
+     */
+    int relayBatch() {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseDueCoalescing());
+        Integer result = transactionTemplate.execute(status -> {
+            List<OutboxRecord> batch = outboxRepository.lockDue(properties.getBatchSize());
+            if (batch.isEmpty()) return 0;
+            List<DomainEventDto> events = new ArrayList<>(batch.size());
+            Map<DomainEventDto, OutboxRecord> byEvent = new IdentityHashMap<>();
+            List<OutboxRecord> undecodable = new ArrayList<>();
+            String decodeError = null;
+            for (OutboxRecord record : batch) {
+                try {
+                    DomainEventDto event = toDto(record);
+                    events.add(event);
+                    byEvent.put(event, record);
+                } catch (IllegalStateException e) {
+                    log.error("Outbox event {} ({}) cannot be decoded, rescheduling: {}", record.id(),
+                            record.eventName(), e.getMessage());
+                    undecodable.add(record);
+                    decodeError = e.getMessage();
+                }
+            }
+            if (!undecodable.isEmpty()) {
+                reschedule(undecodable, decodeError);
+                if (events.isEmpty()) return batch.size();
+            }
+            BatchPublishResult published;
+            try {
+                published = publishTimer.record(() -> eventPublisher.publishConfirmed(events, properties.getConfirmTimeout()));
+            } catch (RuntimeException e) {
+                log.warn("Outbox batch of {} events failed, rescheduling: {}", events.size(), e.getMessage());
+                reschedule(events.stream().map(byEvent::get).toList(), e.getMessage());
+                return -1;
+            }
+
+            outboxRepository.delete(published.confirmed().stream().map(event -> byEvent.get(event).id()).toList());
+            relayedCounter.increment(published.confirmed().size());
+            if (!published.allConfirmed()) {
+                log.warn("{} of {} outbox events were not confirmed, rescheduling", published.failed().size(), events.size());
+                reschedule(published.failed().stream().map(byEvent::get).toList(), "Not confirmed by the transport");
+                return -1;
+            }
+            return batch.size();
+        });
+        return result == null ? 0 : result;
+    }
+
+    private void reschedule(List<OutboxRecord> records, String error) {
+        // Rows of one batch share their history, so the first one's attempts drive the delay
+        outboxRepository.reschedule(records.stream().map(OutboxRecord::id).toList(),
+                backoff(records.getFirst().attempts()), error);
+        retriesCounter.increment(records.size());
+    }
+
+    private DomainEventDto toDto(OutboxRecord record) {
+        try {
+            // Typed bodies let the transport pick the binary format and in-process listeners skip the mapping
+            Object body = objectMapper.readValue(record.payload(), schemas.bodyType(record.eventName()));
+            return new DomainEventDto(record.id(), record.eventName(), record.occurredOn(), record.aggregateId(), body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt outbox payload for event " + record.id() + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : delay;
+    }
+
+    private double lagSeconds() {
+        Timestamp oldest = oldestPending.get();
+        // created_at is LOCALTIMESTAMP, i.e. the database session's wall clock without zone
+        return oldest == null ? 0.0
+                : Math.max(0, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis() / 1000.0);
+    }
+}
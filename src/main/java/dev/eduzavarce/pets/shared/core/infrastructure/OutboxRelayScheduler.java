@@ -0,0 +1,20 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.events.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+    private final OutboxRelay outboxRelay;
+
+    public OutboxRelayScheduler(OutboxRelay outboxRelay) {
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.outbox.interval:PT0.5S}")
+    public void relay() {
+        outboxRelay.drain();
+    }
+}
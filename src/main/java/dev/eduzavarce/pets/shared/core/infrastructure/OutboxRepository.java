@@ -0,0 +1,163 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class OutboxRepository {
+    private static final String INSERT = """
+            INSERT INTO outbox_events (id, aggregate_id, event_name, occurred_on, payload, created_at, attempts, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, LOCALTIMESTAMP, 0, LOCALTIMESTAMP)
+            """;
+    // The first snapshot of an aggregate opens a row that waits out the window; later ones overwrite it in place.
+    // The due time is kept, so a steady stream of actions still goes out once per window
+    private static final String UPSERT_COALESCING = """
+            INSERT INTO outbox_events (id, aggregate_id, event_name, occurred_on, payload, created_at, attempts, next_attempt_at, coalesce_key)
+            VALUES (?, ?, ?, ?, ?, LOCALTIMESTAMP, 0, LOCALTIMESTAMP + CAST(? AS INTERVAL), ?)
+            ON CONFLICT (coalesce_key) DO UPDATE
+            SET id = EXCLUDED.id,
+                event_name = EXCLUDED.event_name,
+                occurred_on = EXCLUDED.occurred_on,
+                payload = EXCLUDED.payload
+            """;
+    private static final String RELEASE_COALESCING = """
+            UPDATE outbox_events
+            SET coalesce_key = NULL,
+                next_attempt_at = LEAST(next_attempt_at, LOCALTIMESTAMP)
+            WHERE coalesce_key = ?
+            """;
+    // Closes due rows to coalescing in a short transaction of its own; SKIP LOCKED leaves rows another relay
+    // or a writer holds for the next round
+    private static final String RELEASE_DUE_COALESCING = """
+            UPDATE outbox_events
+            SET coalesce_key = NULL
+            WHERE id IN (SELECT id
+                         FROM outbox_events
+                         WHERE coalesce_key IS NOT NULL AND next_attempt_at <= LOCALTIMESTAMP
+                         FOR UPDATE SKIP LOCKED)
+            """;
+    // SKIP LOCKED lets several relay instances drain the table without handing out the same row twice. Rows
+    // still open to coalescing are left alone, so a snapshot upsert never waits for a batch's confirms
+    private static final String LOCK_DUE = """
+            SELECT id, aggregate_id, event_name, occurred_on, payload, created_at, attempts
+            FROM outbox_events
+            WHERE next_attempt_at <= LOCALTIMESTAMP AND coalesce_key IS NULL
+            ORDER BY created_at, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+    private static final String RESCHEDULE = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1,
+                next_attempt_at = LOCALTIMESTAMP + CAST(? AS INTERVAL),
+                last_error = ?
+            WHERE id = ?
+            """;
+    private static final String OLDEST = "SELECT MIN(created_at) FROM outbox_events";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Inserts the records on the caller's connection, so they commit or roll back with its transaction.
+     */
+    public void append(List<OutboxRecord> records) {
+        if (records.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT, records, records.size(), (ps, record) -> {
+            ps.setString(1, record.id());
+            ps.setString(2, record.aggregateId());
+            ps.setString(3, record.eventName());
+            ps.setString(4, record.occurredOn());
+            ps.setString(5, record.payload());
+        });
+    }
+
+    /**
+     * Inserts state snapshots so that at most one per aggregate is pending: a record whose aggregate already
+     * has an open row replaces its event, and the row is relayed {@code window} after the first of them.
+     */
+    public void appendCoalescing(List<OutboxRecord> records, Duration window) {
+        if (records.isEmpty()) return;
+        String interval = window.toMillis() + " milliseconds";
+        // Upserting one key twice in a statement is an error, and the last record carries the latest state
+        Map<String, OutboxRecord> latest = new LinkedHashMap<>();
+        records.forEach(record -> latest.put(record.aggregateId(), record));
+        jdbcTemplate.batchUpdate(UPSERT_COALESCING, latest.values(), latest.size(), (ps, record) -> {
+            ps.setString(1, record.id());
+            ps.setString(2, record.aggregateId());
+            ps.setString(3, record.eventName());
+            ps.setString(4, record.occurredOn());
+            ps.setString(5, record.payload());
+            ps.setString(6, interval);
+            ps.setString(7, record.aggregateId());
+        });
+    }
+
+    /**
+     * Makes the open snapshot rows of these aggregates due now and closes them to further coalescing, so an
+     * event appended next is relayed after them and a later snapshot is not folded into an earlier row.
+     */
+    public void releaseCoalescing(Collection<String> aggregateIds) {
+        if (aggregateIds.isEmpty()) return;
+        List<String> ids = List.copyOf(aggregateIds);
+        jdbcTemplate.batchUpdate(RELEASE_COALESCING, ids, ids.size(), (ps, id) -> ps.setString(1, id));
+    }
+
+    /**
+     * Closes the due snapshot rows to further coalescing, so a snapshot appended from now on opens a new row
+     * instead of upserting into one the relay is about to lock; must commit before {@link #lockDue}.
+     *
+     * @return the number of rows released
+     */
+    public int releaseDueCoalescing() {
+        return jdbcTemplate.update(RELEASE_DUE_COALESCING);
+    }
+
+    /**
+     * Locks up to {@code limit} due rows, oldest first, until the surrounding transaction ends.
+     */
+    public List<OutboxRecord> lockDue(int limit) {
+        return jdbcTemplate.query(LOCK_DUE, (rs, rowNum) -> new OutboxRecord(
+                rs.getString("id"),
+                rs.getString("aggregate_id"),
+                rs.getString("event_name"),
+                rs.getString("occurred_on"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at"),
+                rs.getInt("attempts")
+        ), limit);
+    }
+
+    public void delete(List<String> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate(DELETE, ids, ids.size(), (ps, id) -> ps.setString(1, id));
+    }
+
+    public void reschedule(List<String> ids, Duration delay, String error) {
+        if (ids.isEmpty()) return;
+        String interval = delay.toMillis() + " milliseconds";
+        String truncated = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        jdbcTemplate.batchUpdate(RESCHEDULE, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, interval);
+            ps.setString(2, truncated);
+            ps.setString(3, id);
+        });
+    }
+
+    public Optional<Timestamp> oldestCreatedAt() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(OLDEST, Timestamp.class));
+    }
+}
@@ -0,0 +1,34 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * Events a consumer already handled, keyed by consumer and event id. Rows are written by
+ * {@link ProcessedEventStore} in the consumer's transaction; this mapping only describes the table
+ * for schema validation.
+ */
+@Entity(name = "processed_events")
+@IdClass(ProcessedEventPostgresEntity.Key.class)
+public class ProcessedEventPostgresEntity {
+    @Id
+    private String consumer;
+
+    @Id
+    @Column(name = "event_id")
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private Timestamp processedAt;
+
+    protected ProcessedEventPostgresEntity() {
+    }
+
+    public record Key(String consumer, String eventId) implements Serializable {
+    }
+}
@@ -0,0 +1,123 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Remembers which events each consumer has handled. A bounded LRU answers most redeliveries without
+ * touching the database; everything else is settled by inserting into {@code processed_events} with
+ * {@code ON CONFLICT DO NOTHING} in the consumer's own transaction, so the claim rolls back together
+ * with a failed handler. Ids only enter the LRU after that transaction committed.
+ */
+@Component
+public class ProcessedEventStore {
+    private static final String CLAIM = """
+            INSERT INTO processed_events (consumer, event_id, processed_at)
+            VALUES (?, ?, LOCALTIMESTAMP)
+            ON CONFLICT DO NOTHING
+            """;
+    private static final String PURGE = "DELETE FROM processed_events WHERE processed_at < LOCALTIMESTAMP - CAST(? AS INTERVAL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Boolean> recent;
+    private final Duration retention;
+    private final MeterRegistry meterRegistry;
+
+    public ProcessedEventStore(DataSource dataSource,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.events.dedup.cache-size:100000}") long cacheSize,
+                               @Value("${app.events.dedup.retention:P7D}") Duration retention) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.meterRegistry = meterRegistry;
+        this.recent = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.retention = retention;
+    }
+
+    /**
+     * Claims the events for {@code consumer} and returns the ids seen for the first time, in input
+     * order. Must run inside the transaction that applies their effects.
+     */
+    public Set<String> claim(String consumer, List<String> eventIds) {
+        List<String> unknown = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            if (recent.getIfPresent(key(consumer, eventId)) != null) {
+                duplicates(consumer, "cache").increment();
+            } else {
+                unknown.add(eventId);
+            }
+        }
+        if (unknown.isEmpty()) return Set.of();
+
+        int[] counts = jdbcTemplate.batchUpdate(CLAIM, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, consumer);
+                ps.setString(2, unknown.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return unknown.size();
+            }
+        });
+        Set<String> claimed = new LinkedHashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                duplicates(consumer, "store").increment();
+            } else {
+                claimed.add(unknown.get(i));
+            }
+        }
+        rememberAfterCommit(consumer, unknown);
+        return claimed;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.dedup.purge-interval:PT1H}")
+    public void purgeExpired() {
+        jdbcTemplate.update(PURGE, retention.toMillis() + " milliseconds");
+    }
+
+    private void rememberAfterCommit(String consumer, List<String> eventIds) {
+        Runnable remember = () -> eventIds.forEach(eventId -> recent.put(key(consumer, eventId), Boolean.TRUE));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember.run();
+            }
+        });
+    }
+
+    private Counter duplicates(String consumer, String source) {
+        return Counter.builder("events.dedup.duplicates")
+                .description("Redelivered events skipped by a consumer")
+                .tag("consumer", consumer)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static String key(String consumer, String eventId) {
+        return consumer + '|' + eventId;
+    }
+}
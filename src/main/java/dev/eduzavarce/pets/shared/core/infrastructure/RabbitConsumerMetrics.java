@@ -0,0 +1,83 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consumer-side RabbitMQ metrics: {@code events.consume.lag{queue}}, the time from publish (the AMQP
+ * timestamp set by {@link RabbitMqEventBus}) to consumption, and {@code rabbitmq.queue.depth{queue}},
+ * the ready messages per queue and per dead-letter queue. Depth is polled on a schedule rather than on every scrape so a
+ * scrape never waits on the broker.
+ */
+@Component
+public class RabbitConsumerMetrics {
+    private static final Logger log = LoggerFactory.getLogger(RabbitConsumerMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<AmqpAdmin> amqpAdmin;
+    private final boolean rabbitTransport;
+    private final Map<String, AtomicLong> depths = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lagTimers = new ConcurrentHashMap<>();
+
+    public RabbitConsumerMetrics(MeterRegistry meterRegistry,
+                                 ObjectProvider<AmqpAdmin> amqpAdmin,
+                                 ConsumerRetryPolicy retryPolicy,
+                                 @Value("${app.events.transport:rabbitmq}") String transport,
+                                 @Value("${app.rabbitmq.queues.user-created-log:user-created-log.q}") String userCreatedLogQueue,
+                                 @Value("${app.rabbitmq.queues.user-created-pets:user-created-pets.q}") String userCreatedPetsQueue) {
+        this.meterRegistry = meterRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.rabbitTransport = "rabbitmq".equals(transport);
+        if (rabbitTransport) {
+            List<String> queues = List.of(userCreatedLogQueue, userCreatedPetsQueue,
+                    retryPolicy.deadLetterQueue(userCreatedLogQueue), retryPolicy.deadLetterQueue(userCreatedPetsQueue));
+            for (String queue : queues) {
+                AtomicLong depth = depths.computeIfAbsent(queue, q -> new AtomicLong());
+                Gauge.builder("rabbitmq.queue.depth", depth, AtomicLong::get)
+                        .description("Messages ready for delivery in the queue, as of the last poll")
+                        .tag("queue", queue)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public void recordLag(String queue, Date publishedAt) {
+        if (publishedAt == null) return;
+        long lagMillis = Math.max(0, System.currentTimeMillis() - publishedAt.getTime());
+        lagTimers.computeIfAbsent(queue, q -> Timer.builder("events.consume.lag")
+                        .description("Time from publishing an event to a consumer receiving it")
+                        .tag("queue", q)
+                        .register(meterRegistry))
+                .record(Duration.ofMillis(lagMillis));
+    }
+
+    @Scheduled(fixedDelayString = "${app.rabbitmq.metrics.queue-depth-interval:PT15S}")
+    public void refreshQueueDepths() {
+        AmqpAdmin admin = amqpAdmin.getIfAvailable();
+        if (admin == null) return;
+        depths.forEach((queue, depth) -> {
+            try {
+                QueueInformation info = admin.getQueueInfo(queue);
+                if (info != null) depth.set(info.getMessageCount());
+            } catch (RuntimeException e) {
+                log.debug("Could not read depth of queue {}: {}", queue, e.getMessage());
+            }
+        });
+    }
+}
@@ -1,13 +1,21 @@
 package dev.eduzavarce.pets.shared.core.infrastructure;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 @Configuration
 public class RabbitMQConfig {
@@ -24,19 +32,77 @@ public class RabbitMQConfig {
     @Value("${app.rabbitmq.queues.user-created-pets:user-created-pets.q}")
     private String userCreatedPetsQueueName;
 
+    @Value("${app.rabbitmq.listener.concurrency:2}")
+    private int concurrency;
+
+    @Value("${app.rabbitmq.listener.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${app.rabbitmq.listener.prefetch:50}")
+    private int prefetch;
+
+    @Value("${app.rabbitmq.listener.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.rabbitmq.listener.batch-receive-timeout:PT0.1S}")
+    private Duration batchReceiveTimeout;
+
+    @Value("${app.rabbitmq.wire-format:json}")
+    private String wireFormat;
+
+    @Value("${app.rabbitmq.retry.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${app.rabbitmq.retry.initial-delay:PT1S}")
+    private Duration initialRetryDelay;
+
+    @Value("${app.rabbitmq.retry.multiplier:4.0}")
+    private double retryMultiplier;
+
+    @Value("${app.rabbitmq.retry.max-delay:PT5M}")
+    private Duration maxRetryDelay;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public TopicExchange domainEventsExchange() {
         return new TopicExchange(exchangeName, true, false);
     }
 
+    @Bean
+    public ConsumerRetryPolicy consumerRetryPolicy() {
+        return new ConsumerRetryPolicy(exchangeName, maxRetries, initialRetryDelay, retryMultiplier, maxRetryDelay);
+    }
+
+    @Bean
+    public DirectExchange retryExchange(ConsumerRetryPolicy consumerRetryPolicy) {
+        return new DirectExchange(consumerRetryPolicy.retryExchange(), true, false);
+    }
+
+    @Bean
+    public DirectExchange deadLetterExchange(ConsumerRetryPolicy consumerRetryPolicy) {
+        return new DirectExchange(consumerRetryPolicy.deadLetterExchange(), true, false);
+    }
+
     @Bean
     public Queue userCreatedLogQueue() {
-        return QueueBuilder.durable(userCreatedLogQueueName).build();
+        return consumerQueue(userCreatedLogQueueName);
     }
 
     @Bean
     public Queue userCreatedPetsQueue() {
-        return QueueBuilder.durable(userCreatedPetsQueueName).build();
+        return consumerQueue(userCreatedPetsQueueName);
+    }
+
+    @Bean
+    public Declarables userCreatedLogRetryTopology(ConsumerRetryPolicy consumerRetryPolicy) {
+        return retryTopology(userCreatedLogQueueName, consumerRetryPolicy);
+    }
+
+    @Bean
+    public Declarables userCreatedPetsRetryTopology(ConsumerRetryPolicy consumerRetryPolicy) {
+        return retryTopology(userCreatedPetsQueueName, consumerRetryPolicy);
     }
 
     @Bean
@@ -52,13 +118,38 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(userCreatedPetsQueue).to(domainEventsExchange).with(pattern);
     }
 
+    /**
+     * Every instance needs every pet event for the streams connected to it, so this queue is per instance
+     * (server-named, exclusive, deleted with the connection) rather than shared by competing consumers.
+     */
+    @Bean
+    public Queue petStreamQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("pet-stream."));
+    }
+
+    @Bean
+    public Binding petStreamBinding(TopicExchange domainEventsExchange, Queue petStreamQueue) {
+        // Match events.<pet-id>.pet.<action>
+        String pattern = String.format("%s.%s", routingPrefix, "*.pet.*");
+        return BindingBuilder.bind(petStreamQueue).to(domainEventsExchange).with(pattern);
+    }
+
     @Bean
     public Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, Jackson2JsonMessageConverter converter) {
+    public DomainEventMessageConverter domainEventMessageConverter(Jackson2JsonMessageConverter jackson2JsonMessageConverter,
+                                                                   DomainEventCodec codec,
+                                                                   EventBodySchemas schemas,
+                                                                   ObjectMapper objectMapper) {
+        return new DomainEventMessageConverter(jackson2JsonMessageConverter, codec, schemas, objectMapper,
+                DomainEventMessageConverter.WireFormat.valueOf(wireFormat.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, DomainEventMessageConverter converter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(converter);
         template.setExchange(exchangeName);
@@ -67,10 +158,97 @@ public class RabbitMQConfig {
 
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
-                                                                               Jackson2JsonMessageConverter converter) {
+                                                                               DomainEventMessageConverter converter,
+                                                                               RetryingMessageRecoverer recoverer) {
+        return listenerContainerFactory(connectionFactory, converter, recoverer);
+    }
+
+    /**
+     * Delivers up to {@code batch-size} messages per listener call; a partial batch is handed over once
+     * no message arrived for {@code batch-receive-timeout}, so a quiet queue adds at most that delay.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                                    DomainEventMessageConverter converter,
+                                                                                    RetryingMessageRecoverer recoverer) {
+        SimpleRabbitListenerContainerFactory factory = listenerContainerFactory(connectionFactory, converter, recoverer);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchReceiveTimeout.toMillis());
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        return factory;
+    }
+
+    /**
+     * For the per-instance pet stream queue, which has no retry or dead-letter topology: the stream is
+     * best-effort and clients reconnect, so a delivery that fails is logged by the container and dropped.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory petStreamRabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                                       DomainEventMessageConverter converter) {
+        return baseContainerFactory(connectionFactory, converter);
+    }
+
+    private SimpleRabbitListenerContainerFactory listenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                          DomainEventMessageConverter converter,
+                                                                          RetryingMessageRecoverer recoverer) {
+        SimpleRabbitListenerContainerFactory factory = baseContainerFactory(connectionFactory, converter);
+        // A failed delivery is handed to the recoverer (delay queue or DLQ) instead of being requeued at the
+        // head of the queue; if even that fails the broker dead-letters it through the DLX set by the queue's policy
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless().maxAttempts(1).recoverer(recoverer).build());
+        return factory;
+    }
+
+    private SimpleRabbitListenerContainerFactory baseContainerFactory(ConnectionFactory connectionFactory,
+                                                                      DomainEventMessageConverter converter) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(converter);
+        // Consumers scale between concurrency and max-concurrency with the backlog
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch);
+        factory.setDefaultRequeueRejected(false);
+        if (virtualThreads) {
+            // Boot only applies spring.threads.virtual to the factories it builds itself
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("rabbit-listener-"));
+        }
         return factory;
     }
+
+    /**
+     * Declared without arguments: these queues already exist on deployed brokers, and RabbitMQ rejects a
+     * redeclare with different arguments (PRECONDITION_FAILED), so no listener would start. Rejected messages
+     * that never reach the recoverer are instead dead-lettered to the queue's DLQ by a broker policy setting
+     * {@code dead-letter-exchange} to the DLX and {@code dead-letter-routing-key} to the queue name (see the
+     * README's RabbitMQ dead-lettering section).
+     */
+    private static Queue consumerQueue(String name) {
+        return QueueBuilder.durable(name).build();
+    }
+
+    /**
+     * One delay queue per distinct retry delay, each expiring its messages back to {@code queue} through the
+     * default exchange, plus the dead-letter queue where exhausted messages wait for a replay.
+     */
+    private static Declarables retryTopology(String queue, ConsumerRetryPolicy policy) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (Duration delay : policy.delays()) {
+            String retryQueueName = policy.retryQueue(queue, delay);
+            Queue retryQueue = QueueBuilder.durable(retryQueueName)
+                    .ttl(Math.toIntExact(delay.toMillis()))
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(queue)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(new Binding(retryQueueName, Binding.DestinationType.QUEUE,
+                    policy.retryExchange(), retryQueueName, null));
+        }
+        String deadLetterQueueName = policy.deadLetterQueue(queue);
+        declarables.add(QueueBuilder.durable(deadLetterQueueName).build());
+        declarables.add(new Binding(deadLetterQueueName, Binding.DestinationType.QUEUE,
+                policy.deadLetterExchange(), queue, null));
+        return new Declarables(declarables);
+    }
 }
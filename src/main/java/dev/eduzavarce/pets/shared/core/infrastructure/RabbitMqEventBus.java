@@ -3,43 +3,179 @@ package dev.eduzavarce.pets.shared.core.infrastructure;
 import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
 import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
 import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Publishes domain events to the topic exchange with routing key
+ * {@code <prefix>.<aggregateId>.<eventName>}. Batches are pipelined on a single channel and their
+ * correlated publisher confirms are awaited together, so a batch costs one round trip instead of
+ * one per event; events that are nacked or not confirmed in time are resent individually.
+ */
 @Component
-public class RabbitMqEventBus implements EventBus {
+@ConditionalOnProperty(prefix = "app.events", name = "transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class RabbitMqEventBus implements EventBus, DomainEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(RabbitMqEventBus.class);
 
     private final RabbitTemplate rabbitTemplate;
+    private final String keyPrefix;
+    private final int maxAttempts;
+    private final Duration confirmTimeout;
+    private final ConcurrentMap<String, String> keySuffixes = new ConcurrentHashMap<>();
 
-    @Value("${app.rabbitmq.routing-prefix:events}")
-    private String routingPrefix;
+    private final Counter confirmedCounter;
+    private final Counter nackedCounter;
+    private final Counter timedOutCounter;
+    private final Counter retriesCounter;
 
-    public RabbitMqEventBus(RabbitTemplate rabbitTemplate) {
+    public RabbitMqEventBus(RabbitTemplate rabbitTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.rabbitmq.routing-prefix:events}") String routingPrefix,
+                            @Value("${app.rabbitmq.publish.max-attempts:3}") int maxAttempts,
+                            @Value("${app.rabbitmq.publish.confirm-timeout:PT5S}") Duration confirmTimeout) {
         this.rabbitTemplate = rabbitTemplate;
+        this.keyPrefix = (routingPrefix == null || routingPrefix.isBlank() ? "events" : routingPrefix) + ".";
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.confirmTimeout = confirmTimeout;
+        this.confirmedCounter = Counter.builder("events.publish.confirmed").register(meterRegistry);
+        this.nackedCounter = Counter.builder("events.publish.failed").tag("reason", "nack").register(meterRegistry);
+        this.timedOutCounter = Counter.builder("events.publish.failed").tag("reason", "timeout").register(meterRegistry);
+        this.retriesCounter = Counter.builder("events.publish.retries").register(meterRegistry);
     }
 
+    /**
+     * Publishes and waits for confirms, failing if any event is still unconfirmed after retries.
+     */
     @Override
     public void publish(List<DomainEvent> events) {
         if (events == null || events.isEmpty()) return;
-        for (DomainEvent event : events) {
-            DomainEventDto dto = event.toPrimitives();
-            String routingKey = routingKeyFor(event);
-            rabbitTemplate.convertAndSend(routingKey, dto);
+        BatchPublishResult result = publishConfirmed(events.stream().map(DomainEvent::toPrimitives).toList(), confirmTimeout);
+        if (!result.allConfirmed()) {
+            throw new AmqpException(result.failed().size() + " of " + events.size() + " events were not confirmed by the broker");
         }
     }
 
-    private String routingKeyFor(DomainEvent event) {
-        String eventName = event.eventName();
-        String aggregate = safe(event.aggregateId());
-        String prefix = routingPrefix == null || routingPrefix.isBlank() ? "events" : routingPrefix;
-        return String.format("%s.%s.%s", prefix, aggregate, eventName);
+    /**
+     * Pipelines the batch on one channel and waits up to {@code timeout} per attempt for the confirms,
+     * resending only the events that were nacked or timed out, up to {@code max-attempts} times.
+     *
+     * @throws AmqpException if the channel itself fails; per-event failures are reported in the result
+     */
+    @Override
+    public BatchPublishResult publishConfirmed(List<DomainEventDto> events, Duration timeout) {
+        if (events == null || events.isEmpty()) return new BatchPublishResult(List.of(), List.of());
+        List<DomainEventDto> confirmed = new ArrayList<>(events.size());
+        List<DomainEventDto> pending = events;
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                retriesCounter.increment(pending.size());
+                log.debug("Resending {} unconfirmed events (attempt {})", pending.size(), attempt);
+            }
+            List<CorrelationData> correlations = send(pending);
+            pending = awaitConfirms(pending, correlations, timeout, confirmed);
+        }
+        return new BatchPublishResult(confirmed, pending);
+    }
+
+    private List<CorrelationData> send(List<DomainEventDto> events) {
+        return rabbitTemplate.invoke(operations -> {
+            List<CorrelationData> correlations = new ArrayList<>(events.size());
+            for (DomainEventDto dto : events) {
+                CorrelationData correlation = new CorrelationData();
+                operations.convertAndSend(routingKeyFor(dto), dto, stamp(dto), correlation);
+                correlations.add(correlation);
+            }
+            return correlations;
+        });
+    }
+
+    /**
+     * Copies the event id to the AMQP message id and stamps the publish time, from which consumers
+     * derive their lag.
+     */
+    private static MessagePostProcessor stamp(DomainEventDto dto) {
+        return message -> {
+            message.getMessageProperties().setMessageId(dto.eventId());
+            message.getMessageProperties().setTimestamp(new Date());
+            return message;
+        };
+    }
+
+    private List<DomainEventDto> awaitConfirms(List<DomainEventDto> events, List<CorrelationData> correlations,
+                                               Duration timeout, List<DomainEventDto> confirmed) {
+        CompletableFuture<?> all = CompletableFuture.allOf(correlations.stream()
+                .map(CorrelationData::getFuture)
+                .toArray(CompletableFuture[]::new));
+        try {
+            all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Inspect each future below; the ones still pending count as timed out
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<DomainEventDto> failed = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            CompletableFuture<CorrelationData.Confirm> future = correlations.get(i).getFuture();
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                timedOutCounter.increment();
+                failed.add(events.get(i));
+            } else if (future.resultNow().ack()) {
+                confirmedCounter.increment();
+                confirmed.add(events.get(i));
+            } else {
+                nackedCounter.increment();
+                failed.add(events.get(i));
+            }
+        }
+        return failed;
+    }
+
+    String routingKeyFor(DomainEventDto event) {
+        String suffix = keySuffixes.computeIfAbsent(event.eventName(), name -> "." + name);
+        return keyPrefix.concat(safe(event.aggregateId())).concat(suffix);
     }
 
-    private String safe(String s) {
+    /**
+     * Replaces characters that are not routing-key safe with {@code -}; ids that are already safe,
+     * such as UUIDs, are returned as-is without allocating.
+     */
+    static String safe(String s) {
         if (s == null) return "unknown";
-        return s.replaceAll("[^a-zA-Z0-9_.-]", "-");
+        for (int i = 0; i < s.length(); i++) {
+            if (!isSafe(s.charAt(i))) {
+                char[] chars = s.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    if (!isSafe(chars[j])) chars[j] = '-';
+                }
+                return new String(chars);
+            }
+        }
+        return s;
+    }
+
+    private static boolean isSafe(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '.' || c == '-';
     }
 }
@@ -0,0 +1,58 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/dead-letters")
+@Tag(name = "Backoffice - Dead letters", description = "Admin operations on messages that exhausted their retries")
+public class ReplayDeadLettersBackofficeController {
+    private final DeadLetterQueues deadLetterQueues;
+
+    public ReplayDeadLettersBackofficeController(DeadLetterQueues deadLetterQueues) {
+        this.deadLetterQueues = deadLetterQueues;
+    }
+
+    @PostMapping("/{queue}/replay")
+    @Operation(
+            summary = "Replay dead letters",
+            description = "Moves up to limit (max 500) messages from the dead-letter queue back onto the given consumer queue with a fresh retry budget, oldest first. Consumers skip events they already handled, so replaying twice is safe. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "200", description = "Dead letters replayed",
+            content = @Content(
+                    schema = @Schema(implementation = ResponseDto.class),
+                    examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                            name = "ReplayDeadLettersSuccessExample",
+                            value = "{\n  \"status\": \"success\",\n  \"data\": {\n    \"replayed\": 12\n  }\n}"
+                    )
+            ))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown queue",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Unexpected server error",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<Map<String, Integer>>> replay(
+            @PathVariable("queue") String queue,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        int replayed = deadLetterQueues.replay(queue, limit);
+        return ResponseEntity.ok(new ResponseDto<>("success", Map.of("replayed", replayed)));
+    }
+}
@@ -0,0 +1,181 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ReturnListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Takes over a delivery whose listener threw. The message is republished to the delay queue of its next
+ * retry, or to the dead-letter exchange once the retries of {@link ConsumerRetryPolicy} are used up, and
+ * the original delivery is then acknowledged; payloads that cannot be converted are dead-lettered at once.
+ * A failing message therefore never goes straight back to the head of its queue, which is what turned a
+ * poison message into a hot redelivery loop.
+ * <p>
+ * Republishes are mandatory and wait for the broker's confirm. One that is nacked, unroutable or not
+ * confirmed in time throws {@link AmqpRejectAndDontRequeueException}, so the container rejects the
+ * delivery and the dead-letter policy of the source queue parks it instead of it being acknowledged and lost.
+ * <p>
+ * The retry count travels in {@link #RETRY_COUNT_HEADER}. Dead letters also carry the failure
+ * ({@link #ERROR_HEADER}, {@link #ERROR_TYPE_HEADER}) and {@link #DEAD_LETTERED_AT_HEADER} for the
+ * backoffice. {@code events.consume.retried{queue}} and {@code events.consume.dead-lettered{queue}} give
+ * the poison-message rate.
+ */
+@Component
+public class RetryingMessageRecoverer implements MessageBatchRecoverer {
+    private static final Logger log = LoggerFactory.getLogger(RetryingMessageRecoverer.class);
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String ERROR_HEADER = "x-exception-message";
+    public static final String ERROR_TYPE_HEADER = "x-exception-type";
+    public static final String DEAD_LETTERED_AT_HEADER = "x-dead-lettered-at";
+    static final String RETRIED_COUNTER = "events.consume.retried";
+    static final String DEAD_LETTERED_COUNTER = "events.consume.dead-lettered";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long CONFIRM_TIMEOUT_MILLIS = 10_000;
+    private static final MessagePropertiesConverter PROPERTIES_CONVERTER = new DefaultMessagePropertiesConverter();
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ConsumerRetryPolicy policy;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> retried = new ConcurrentHashMap<>();
+    private final Map<String, Counter> deadLettered = new ConcurrentHashMap<>();
+
+    public RetryingMessageRecoverer(RabbitTemplate rabbitTemplate, ConsumerRetryPolicy policy, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = properties.getConsumerQueue();
+        if (queue == null) {
+            // Not a container delivery; let the broker dead-letter it through the queue's DLX policy
+            throw new AmqpRejectAndDontRequeueException("Cannot route retry without a consumer queue", cause);
+        }
+        Throwable failure = cause instanceof ListenerExecutionFailedException && cause.getCause() != null
+                ? cause.getCause() : cause;
+        int retries = retryCount(properties);
+        // A payload that cannot be converted fails the same way on every delivery
+        boolean retryable = !(failure instanceof MessageConversionException);
+        if (retryable && retries < policy.maxRetries()) {
+            int next = retries + 1;
+            String retryQueue = policy.retryQueue(queue, policy.delayFor(next));
+            properties.setHeader(RETRY_COUNT_HEADER, next);
+            publishConfirmed(policy.retryExchange(), retryQueue, message);
+            counter(retried, RETRIED_COUNTER, "Deliveries sent to a delay queue after the listener failed", queue)
+                    .increment();
+            log.warn("Delivery {} on {} failed (retry {}/{} in {}): {}", properties.getMessageId(), queue,
+                    next, policy.maxRetries(), policy.delayFor(next), failure.getMessage());
+            return;
+        }
+        properties.setHeader(ERROR_HEADER, truncate(String.valueOf(failure.getMessage())));
+        properties.setHeader(ERROR_TYPE_HEADER, failure.getClass().getName());
+        properties.setHeader(DEAD_LETTERED_AT_HEADER, Instant.now().toString());
+        try {
+            publishConfirmed(policy.deadLetterExchange(), queue, message);
+        } catch (AmqpRejectAndDontRequeueException e) {
+            // Not parked after all, so a batch recovery must not skip it
+            properties.getHeaders().remove(DEAD_LETTERED_AT_HEADER);
+            throw e;
+        }
+        counter(deadLettered, DEAD_LETTERED_COUNTER, "Deliveries parked in a dead-letter queue after exhausting retries", queue)
+                .increment();
+        log.error("Delivery {} on {} dead-lettered after {} retries: {}", properties.getMessageId(), queue,
+                retries, failure.getMessage(), failure);
+    }
+
+    /**
+     * A batch fails as a whole, so every message of it takes one retry step; messages that were already
+     * handled are skipped on redelivery by their consumer's deduplication. Messages the batch listener
+     * already dead-lettered on their own, such as one it could not convert, are not recovered twice.
+     */
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        for (Message message : messages) {
+            if (message.getMessageProperties().getHeader(DEAD_LETTERED_AT_HEADER) != null) continue;
+            recover(message, cause);
+        }
+    }
+
+    private void publishConfirmed(String exchange, String routingKey, Message message) {
+        String failure;
+        try {
+            failure = rabbitTemplate.execute(channel -> publish(channel, exchange, routingKey, message));
+        } catch (AmqpException e) {
+            failure = e.getMessage();
+        }
+        if (failure != null) {
+            throw new AmqpRejectAndDontRequeueException("Could not republish delivery "
+                    + message.getMessageProperties().getMessageId() + " to " + exchange + "/" + routingKey + ": " + failure);
+        }
+    }
+
+    /**
+     * Returns why the broker did not take the message, or {@code null} once it confirmed it. A return
+     * always reaches the channel before the confirm of the same publish.
+     */
+    private static String publish(Channel channel, String exchange, String routingKey, Message message) {
+        AtomicReference<String> returned = new AtomicReference<>();
+        ReturnListener listener = (replyCode, replyText, returnedExchange, returnedRoutingKey, properties, body) ->
+                returned.set("returned (" + replyCode + " " + replyText + ")");
+        channel.addReturnListener(listener);
+        try {
+            channel.confirmSelect();
+            channel.basicPublish(exchange, routingKey, true,
+                    PROPERTIES_CONVERTER.fromMessageProperties(message.getMessageProperties(), StandardCharsets.UTF_8.name()),
+                    message.getBody());
+            channel.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+            return returned.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted while waiting for the confirm";
+        } catch (TimeoutException e) {
+            return "not confirmed by the broker";
+        } catch (IOException e) {
+            return "nacked or channel failed: " + e.getMessage();
+        } finally {
+            channel.removeReturnListener(listener);
+        }
+    }
+
+    static int retryCount(MessageProperties properties) {
+        Object value = properties.getHeader(RETRY_COUNT_HEADER);
+        return value instanceof Number n ? n.intValue() : 0;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String description, String queue) {
+        return counters.computeIfAbsent(queue, q -> Counter.builder(name)
+                .description(description)
+                .tag("queue", q)
+                .register(meterRegistry));
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
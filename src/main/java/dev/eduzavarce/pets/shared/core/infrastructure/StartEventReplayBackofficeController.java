@@ -0,0 +1,53 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.ResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/backoffice/event-replays")
+@Tag(name = "Backoffice - Event replays", description = "Admin operations to replay stored domain events")
+public class StartEventReplayBackofficeController {
+    private final EventReplayService eventReplayService;
+
+    public StartEventReplayBackofficeController(EventReplayService eventReplayService) {
+        this.eventReplayService = eventReplayService;
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Start or resume an event replay",
+            description = "Streams stored events in order into the given listener in the background, at most ratePerSecond per second. Progress is checkpointed under replayId: posting the same replayId again resumes it, and a completed replay is returned as is. Admin-only endpoint.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponse(responseCode = "202", description = "Replay started; the body is its checkpoint at start",
+            content = @Content(schema = @Schema(implementation = ResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid JWT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires admin role",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Unknown listener",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Replay already running, or its id belongs to another listener",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ResponseDto<EventReplayCheckpoint>> start(@Valid @RequestBody StartEventReplayRequest request) {
+        EventReplayCheckpoint checkpoint = eventReplayService.start(request.replayId(), request.listener(),
+                request.eventNames() == null ? List.of() : request.eventNames(), request.ratePerSecond());
+        return ResponseEntity.accepted().body(new ResponseDto<>("success", checkpoint));
+    }
+}
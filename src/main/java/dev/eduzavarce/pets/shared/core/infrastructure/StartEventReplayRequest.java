@@ -0,0 +1,27 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(name = "StartEventReplayRequest", description = "Replays stored events into one event listener")
+public record StartEventReplayRequest(
+        @NotBlank
+        @Size(max = 100)
+        @Pattern(regexp = "^[A-Za-z0-9._-]+$", message = "Replay id may contain only letters, digits, dots, hyphens and underscores.")
+        @Schema(description = "Name of the replay; starting the same id again resumes it from its checkpoint", example = "rebuild-pets-users-2025-01")
+        String replayId,
+        @NotBlank
+        @Schema(description = "Bean name of the DomainEventListener that receives the events", example = "createPetsUserOnUserCreated")
+        String listener,
+        @Schema(description = "Only replay these event names; all events when empty", example = "[\"user.created\"]")
+        List<String> eventNames,
+        @Positive
+        @Schema(description = "Maximum events per second; defaults to app.events.replay.default-rate", example = "500")
+        Integer ratePerSecond
+) {
+}
@@ -0,0 +1,17 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import java.sql.Timestamp;
+
+/**
+ * One row of the append-only {@code event_store}; {@code seq} orders events globally.
+ */
+public record StoredEvent(
+        long seq,
+        String eventId,
+        String aggregateId,
+        String eventName,
+        String occurredOn,
+        String payload,
+        Timestamp storedAt
+) {
+}
@@ -0,0 +1,77 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Collectors;
+
+/**
+ * Runs PostgreSQL {@code COPY} through the driver's {@link CopyManager} on the connection of the current
+ * transaction.
+ */
+@Repository
+public class TableCopyRepository {
+    private static final String CREATE_STAGE = "CREATE TEMP TABLE " + CopyTable.STAGE
+            + " (LIKE %s INCLUDING DEFAULTS) ON COMMIT DROP";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TableCopyRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Copies {@code csv} (no header) into a fresh stage table and moves it into {@code table}. Must run in
+     * a transaction, which also drops the stage on commit.
+     *
+     * @return rows inserted; the others conflicted with existing rows
+     */
+    public long load(CopyTable table, String csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGE.formatted(table.name()));
+                copyManager(connection).copyIn(
+                        "COPY " + CopyTable.STAGE + " (" + columnList(table) + ") FROM STDIN (FORMAT csv)",
+                        new StringReader(csv));
+                return (long) statement.executeUpdate(table.insertFromStage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Writes the table ordered by id, starting after {@code afterId} when given (a validated uuid).
+     */
+    public long export(CopyTable table, CopyFormat format, String afterId, OutputStream out) {
+        String where = afterId == null ? "" : " WHERE id > '" + afterId + "'";
+        String sql = "COPY (SELECT " + columnList(table) + " FROM " + table.name() + where + " ORDER BY id) TO STDOUT "
+                + format.copyOptions();
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return copyManager(connection).copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String columnList(CopyTable table) {
+        return table.columns().stream().map(CopyColumn::name).collect(Collectors.joining(", "));
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+}
@@ -0,0 +1,7 @@
+package dev.eduzavarce.pets.shared.exceptions;
+
+public class InvalidCursorException extends CustomException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
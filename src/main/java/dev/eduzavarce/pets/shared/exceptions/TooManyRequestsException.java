@@ -0,0 +1,16 @@
+package dev.eduzavarce.pets.shared.exceptions;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends CustomException {
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,113 @@
+-- Schema as Hibernate's ddl-auto: update left it, plus the indexes the read paths rely on.
+-- Every statement is IF NOT EXISTS: a database created by ddl-auto is baselined at version 0 and
+-- this script then only adds what it is missing. CREATE TABLE IF NOT EXISTS skips a table that exists
+-- without the columns added to it later, so those columns are also added one by one after their table.
+
+-- Identity and ownership -------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS auth_users (
+    id         UUID         NOT NULL PRIMARY KEY,
+    -- The unique constraints' indexes serve findByEmail (login) and the username checks
+    username   VARCHAR(255) NOT NULL CONSTRAINT uk_auth_users_username UNIQUE,
+    email      VARCHAR(255) NOT NULL CONSTRAINT uk_auth_users_email UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS pets_users (
+    id         UUID         NOT NULL PRIMARY KEY,
+    username   VARCHAR(255) NOT NULL CONSTRAINT uk_pets_users_username UNIQUE,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS pets (
+    id                UUID         NOT NULL PRIMARY KEY,
+    name              VARCHAR(255) NOT NULL,
+    owner_id          UUID         NOT NULL CONSTRAINT fk_pets_owner REFERENCES pets_users (id),
+    health            INTEGER      NOT NULL,
+    hunger            INTEGER      NOT NULL,
+    stamina           INTEGER      NOT NULL,
+    type              VARCHAR(255) NOT NULL,
+    last_evaluated_at TIMESTAMP(6),
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
+-- Lazy decay bookkeeping, added to pets after the table first shipped
+ALTER TABLE pets ADD COLUMN IF NOT EXISTS last_evaluated_at TIMESTAMP(6);
+
+-- findByIdAndOwner_Id and the single-pet reads go through the primary key: one row, then the owner check.
+-- Backoffice listing and its keyset cursor, ordered by (created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_pets_created_at_id ON pets (created_at DESC, id DESC);
+-- A user's pets, newest first; also the index behind the owner foreign key
+CREATE INDEX IF NOT EXISTS idx_pets_owner_id_created_at ON pets (owner_id, created_at DESC);
+
+CREATE TABLE IF NOT EXISTS pet_tick_checkpoints (
+    partition_no     INTEGER      NOT NULL PRIMARY KEY,
+    sweep_started_at TIMESTAMP(6) NOT NULL,
+    last_id          VARCHAR(255) NOT NULL,
+    completed        BOOLEAN      NOT NULL,
+    updated_at       TIMESTAMP(6)
+);
+
+-- Domain events ----------------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              VARCHAR(255)  NOT NULL PRIMARY KEY,
+    aggregate_id    VARCHAR(255)  NOT NULL,
+    event_name      VARCHAR(255)  NOT NULL,
+    occurred_on     VARCHAR(255)  NOT NULL,
+    payload         TEXT          NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    coalesce_key    VARCHAR(255)
+);
+-- Snapshot coalescing, added to outbox_events after the table first shipped; the unique index below needs it
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS coalesce_key VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_due ON outbox_events (next_attempt_at, created_at);
+-- Unique among non-null keys: at most one open snapshot row per aggregate
+CREATE UNIQUE INDEX IF NOT EXISTS ux_outbox_events_coalesce_key ON outbox_events (coalesce_key);
+
+CREATE TABLE IF NOT EXISTS processed_events (
+    consumer     VARCHAR(255) NOT NULL,
+    event_id     VARCHAR(255) NOT NULL,
+    processed_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (consumer, event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events (processed_at);
+
+CREATE TABLE IF NOT EXISTS event_replay_checkpoints (
+    replay_id    VARCHAR(255)  NOT NULL PRIMARY KEY,
+    listener     VARCHAR(255)  NOT NULL,
+    last_seq     BIGINT        NOT NULL,
+    replayed     BIGINT        NOT NULL,
+    started_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6)  NOT NULL,
+    completed_at TIMESTAMP(6),
+    last_error   VARCHAR(1000)
+);
+
+-- Range-partitioned by month on stored_at; EventStorePartitions creates the monthly partitions ahead
+CREATE SEQUENCE IF NOT EXISTS event_store_seq;
+
+CREATE TABLE IF NOT EXISTS event_store (
+    seq          BIGINT       NOT NULL DEFAULT nextval('event_store_seq'),
+    event_id     VARCHAR(255) NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_name   VARCHAR(255) NOT NULL,
+    occurred_on  VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    stored_at    TIMESTAMP    NOT NULL,
+    PRIMARY KEY (stored_at, seq)
+) PARTITION BY RANGE (stored_at);
+
+CREATE INDEX IF NOT EXISTS idx_event_store_seq ON event_store (seq);
+CREATE INDEX IF NOT EXISTS idx_event_store_aggregate ON event_store (aggregate_id, seq);
+-- Catches rows outside every monthly partition, so an insert never fails for lack of one
+CREATE TABLE IF NOT EXISTS event_store_default PARTITION OF event_store DEFAULT;
@@ -0,0 +1,39 @@
+-- Converts user and pet keys of a schema that ddl-auto created as varchar to native uuid: 16 bytes instead
+-- of the 37 of the text form, which roughly halves the key and owner indexes. A no-op where V1 created the
+-- tables. The rewrite holds an exclusive lock on the three tables; convert a large schema in a maintenance
+-- window.
+DO $$
+DECLARE
+    fk      RECORD;
+    pending RECORD;
+    fks     TEXT[] := ARRAY[]::TEXT[];
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema()
+                     AND (table_name, column_name) IN (('pets', 'id'), ('pets', 'owner_id'), ('pets_users', 'id'), ('auth_users', 'id'))
+                     AND data_type <> 'uuid') THEN
+        RETURN;
+    END IF;
+
+    -- Both sides of the owner foreign key must change type together
+    FOR fk IN SELECT conname FROM pg_constraint
+              WHERE contype = 'f' AND conrelid = 'pets'::regclass AND confrelid = 'pets_users'::regclass LOOP
+        EXECUTE format('ALTER TABLE pets DROP CONSTRAINT %I', fk.conname);
+        fks := fks || fk.conname::TEXT;
+    END LOOP;
+
+    FOR pending IN SELECT table_name, column_name FROM information_schema.columns
+                   WHERE table_schema = current_schema()
+                     AND (table_name, column_name) IN (('pets', 'id'), ('pets', 'owner_id'), ('pets_users', 'id'), ('auth_users', 'id'))
+                     AND data_type <> 'uuid' LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I TYPE uuid USING %I::uuid',
+                       pending.table_name, pending.column_name, pending.column_name);
+    END LOOP;
+
+    FOR i IN 1 .. coalesce(array_length(fks, 1), 0) LOOP
+        EXECUTE format('ALTER TABLE pets ADD CONSTRAINT %I FOREIGN KEY (owner_id) REFERENCES pets_users (id)', fks[i]);
+    END LOOP;
+
+    -- Checkpoints hold ids of the old text ranges; clearing them restarts the current tick sweep
+    DELETE FROM pet_tick_checkpoints;
+END $$;
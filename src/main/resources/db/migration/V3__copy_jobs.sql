@@ -0,0 +1,15 @@
+-- Progress of backoffice COPY imports. rows_read counts the input rows already committed (inserted,
+-- skipped or rejected), so re-sending the same file under the same job id resumes after them.
+CREATE TABLE IF NOT EXISTS copy_jobs (
+    job_id       VARCHAR(100)  NOT NULL PRIMARY KEY,
+    table_name   VARCHAR(64)   NOT NULL,
+    format       VARCHAR(16)   NOT NULL,
+    rows_read    BIGINT        NOT NULL,
+    inserted     BIGINT        NOT NULL,
+    skipped      BIGINT        NOT NULL,
+    rejected     BIGINT        NOT NULL,
+    started_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6)  NOT NULL,
+    completed_at TIMESTAMP(6),
+    last_error   VARCHAR(1000)
+);
@@ -14,9 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +37,8 @@ class CreateUserServiceTest {
     AuthUserRepository authUserRepository;
     @Mock
     EventBus eventBus;
+    @Mock
+    PlatformTransactionManager transactionManager;
 
     @InjectMocks
     CreateUserService service;
@@ -160,4 +164,20 @@ class CreateUserServiceTest {
 
         verify(eventBus, never()).publish(any());
     }
+
+    @Test
+    @DisplayName("Password is hashed before the transaction opens, so no connection is held while hashing")
+    void hashesBeforeTransaction() {
+        when(passwordHasher.hash(password)).thenReturn("HASH");
+        when(authUserRepository.findById(id)).thenReturn(Optional.empty());
+        when(authUserRepository.findByEmail(email)).thenReturn(Optional.empty());
+
+        service.createUser(request());
+
+        InOrder inOrder = inOrder(passwordHasher, transactionManager, authUserRepository);
+        inOrder.verify(passwordHasher).hash(password);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(authUserRepository).save(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
 }
@@ -0,0 +1,71 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.CreateUserDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+    private static final String SECRET = "ce5e82685b90de63d1548054beab3b5e691d257c07799db1d073002d34b6ac09";
+
+    private final UserPostgresEntity user = new UserPostgresEntity(
+            new CreateUserDto("11111111-1111-1111-1111-111111111111", "johnny", "john@doe.com", "hash"));
+
+    private JwtService service(long expiration, boolean claimsCache, SimpleMeterRegistry meterRegistry) {
+        return new JwtService(SECRET, expiration,
+                new VerifiedClaimsCache(meterRegistry, claimsCache, 100, Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("verify returns the signed claims, which validate against the matching user")
+    void verifyReturnsClaims() {
+        JwtService jwtService = service(60_000, false, new SimpleMeterRegistry());
+        Map<String, Object> extra = new HashMap<>();
+        extra.put("userId", user.getId());
+        String token = jwtService.generateToken(extra, user);
+
+        Claims claims = jwtService.verify(token);
+
+        assertThat(claims.getSubject()).isEqualTo("john@doe.com");
+        assertThat(claims.get("userId", String.class)).isEqualTo(user.getId());
+        assertThat(jwtService.isTokenValid(claims, user)).isTrue();
+        assertThat(jwtService.isTokenValid(token, user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tampered and expired tokens are rejected")
+    void rejectsInvalidTokens() {
+        JwtService jwtService = service(60_000, false, new SimpleMeterRegistry());
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = service(-1_000, false, new SimpleMeterRegistry()).generateToken(user);
+
+        assertThatThrownBy(() -> jwtService.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Claims cache: a reused token is verified once and then served from the cache")
+    void claimsCacheServesRepeatedTokens() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtService jwtService = service(60_000, true, meterRegistry);
+        String token = jwtService.generateToken(user);
+
+        Claims first = jwtService.verify(token);
+        Claims second = jwtService.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedClaimsCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+}
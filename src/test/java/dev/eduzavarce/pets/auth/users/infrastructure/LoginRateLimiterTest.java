@@ -0,0 +1,74 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    AtomicLong clock;
+    LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        limiter = new LoginRateLimiter(meterRegistry, 1000,
+                3, Duration.ofSeconds(1),
+                2, Duration.ofSeconds(10),
+                clock::get);
+    }
+
+    private double throttled(String scope) {
+        return meterRegistry.get(LoginRateLimiter.THROTTLED_COUNTER).tag("scope", scope).counter().count();
+    }
+
+    @Test
+    @DisplayName("Account bucket: the third attempt on one account is refused with the time to the next token")
+    void accountBucketRefusesBurst() {
+        limiter.acquire("10.0.0.1", "john@doe.com");
+        limiter.acquire("10.0.0.2", "John@Doe.com ");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.3", "john@doe.com"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(10)));
+        assertThat(throttled("account")).isEqualTo(1.0);
+        assertThat(throttled("ip")).isZero();
+    }
+
+    @Test
+    @DisplayName("IP bucket: one address spraying many accounts is refused once its bucket is empty")
+    void ipBucketRefusesSpray() {
+        limiter.acquire("10.0.0.1", "a@doe.com");
+        limiter.acquire("10.0.0.1", "b@doe.com");
+        limiter.acquire("10.0.0.1", "c@doe.com");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "d@doe.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(throttled("ip")).isEqualTo(1.0);
+        assertThatCode(() -> limiter.acquire("10.0.0.2", "d@doe.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Tokens are regained over time")
+    void refillsOverTime() {
+        limiter.acquire("10.0.0.1", "john@doe.com");
+        limiter.acquire("10.0.0.1", "john@doe.com");
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", "john@doe.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThatCode(() -> limiter.acquire("10.0.0.1", "john@doe.com")).doesNotThrowAnyException();
+    }
+}
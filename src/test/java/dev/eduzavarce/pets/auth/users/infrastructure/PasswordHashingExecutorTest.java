@@ -0,0 +1,95 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.shared.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    SimpleMeterRegistry meterRegistry;
+    PasswordHashingExecutor executor;
+    CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get(PasswordHashingExecutor.REJECTED_COUNTER).tag("reason", reason).counter().count();
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    @Test
+    @DisplayName("Runs the task off the caller thread and records its latency")
+    void runsAndRecordsLatency() {
+        String thread = executor.execute(() -> Thread.currentThread().getName());
+
+        assertThat(thread).startsWith("password-hash-");
+        assertThat(meterRegistry.get(PasswordHashingExecutor.HASH_TIMER).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A full queue is refused immediately with ServiceOverloadedException")
+    void fullQueueFailsFast() {
+        CompletableFuture.runAsync(() -> executor.execute(this::blockUntilReleased));
+        CompletableFuture.runAsync(() -> executor.execute(this::blockUntilReleased));
+        // wait until one task is running and the single queue slot is taken
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hash.queue").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> executor.execute(() -> "late"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(rejected("queue-full")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("A caller that waits longer than the timeout gets ServiceOverloadedException")
+    void slowHashTimesOut() {
+        PasswordHashingExecutor impatient = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofMillis(50));
+        try {
+            assertThatThrownBy(() -> impatient.execute(this::blockUntilReleased))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            assertThat(rejected("timeout")).isEqualTo(1.0);
+        } finally {
+            impatient.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Exceptions thrown by the task reach the caller unchanged")
+    void propagatesTaskFailure() {
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new IllegalArgumentException("bad hash");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad hash");
+    }
+}
@@ -0,0 +1,93 @@
+package dev.eduzavarce.pets.auth.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.CreateUserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserDetailsCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    UserDetailsCache cache;
+    AtomicInteger loads;
+    Function<String, UserPostgresEntity> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(meterRegistry, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return new UserPostgresEntity(new CreateUserDto("11111111-1111-1111-1111-111111111111", "johnny", email, "hash"));
+        };
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", UserDetailsCache.CACHE_NAME).tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Second lookup of the same email is served from the cache and counted as a hit")
+    void cachesByEmail() {
+        UserPostgresEntity first = cache.get("john@doe.com", loader);
+        UserPostgresEntity second = cache.get("john@doe.com", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(gets("hit")).isEqualTo(1.0);
+        assertThat(gets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Invalidation by email or by user id forces a reload")
+    void invalidationForcesReload() {
+        cache.get("john@doe.com", loader);
+        cache.invalidate("john@doe.com");
+        cache.get("john@doe.com", loader);
+
+        cache.invalidateUser("11111111-1111-1111-1111-111111111111");
+        cache.get("john@doe.com", loader);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Failed lookups are not cached")
+    void failuresAreNotCached() {
+        Function<String, UserPostgresEntity> failing = email -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("not found");
+        };
+
+        assertThatThrownBy(() -> cache.get("ghost@doe.com", failing)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cache.get("ghost@doe.com", failing)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A load that raced with an invalidation is returned but not cached")
+    void loadRacingInvalidationIsNotCached() {
+        Function<String, UserPostgresEntity> racing = email -> {
+            UserPostgresEntity user = loader.apply(email);
+            // The row changes while the query is in flight
+            cache.invalidateUser(user.getId());
+            return user;
+        };
+
+        assertThat(cache.get("john@doe.com", racing)).isNotNull();
+        cache.get("john@doe.com", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+}
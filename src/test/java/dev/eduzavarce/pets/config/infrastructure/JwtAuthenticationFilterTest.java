@@ -0,0 +1,92 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
+import dev.eduzavarce.pets.auth.users.domain.CreateUserDto;
+import dev.eduzavarce.pets.auth.users.infrastructure.JwtPrincipal;
+import dev.eduzavarce.pets.auth.users.infrastructure.JwtService;
+import dev.eduzavarce.pets.auth.users.infrastructure.UserPostgresEntity;
+import dev.eduzavarce.pets.auth.users.infrastructure.VerifiedClaimsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    private static final String SECRET = "ce5e82685b90de63d1548054beab3b5e691d257c07799db1d073002d34b6ac09";
+
+    @Mock
+    UserDetailsService userDetailsService;
+    @Mock
+    HandlerExceptionResolver handlerExceptionResolver;
+
+    JwtService jwtService;
+    UserPostgresEntity user;
+    String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 60_000,
+                new VerifiedClaimsCache(new SimpleMeterRegistry(), false, 0, Duration.ZERO));
+        user = new UserPostgresEntity(new CreateUserDto("11111111-1111-1111-1111-111111111111", "johnny", "john@doe.com", "hash"));
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        token = jwtService.generateToken(claims, user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filter(boolean statelessPrincipal) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/pets");
+        request.addHeader("Authorization", "Bearer " + token);
+        new JwtAuthenticationFilter(jwtService, userDetailsService, handlerExceptionResolver, statelessPrincipal)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("Stateless mode: principal is built from claims without loading the user")
+    void statelessBuildsPrincipalFromClaims() throws Exception {
+        Authentication authentication = filter(true);
+
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(user.getId());
+        assertThat(principal.getUsername()).isEqualTo("john@doe.com");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Default mode: principal is loaded through the UserDetailsService")
+    void defaultModeLoadsUser() throws Exception {
+        when(userDetailsService.loadUserByUsername("john@doe.com")).thenReturn(user);
+
+        Authentication authentication = filter(false);
+
+        assertThat(authentication.getPrincipal()).isSameAs(user);
+        verify(userDetailsService).loadUserByUsername("john@doe.com");
+    }
+}
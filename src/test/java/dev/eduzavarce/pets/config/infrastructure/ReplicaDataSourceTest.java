@@ -0,0 +1,216 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourceTest {
+
+    private static final String USER_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String PRIMARY_LSN = "0/3000060";
+
+    @Mock
+    DataSource primary;
+    @Mock
+    DataSource replicaA;
+    @Mock
+    DataSource replicaB;
+    @Mock
+    Connection primaryConnection;
+    @Mock
+    Connection connectionA;
+    @Mock
+    Connection connectionB;
+
+    SimpleMeterRegistry meterRegistry;
+    ReadYourWrites readYourWrites;
+    ReplicaDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), 100);
+        dataSource = new ReplicaDataSource(primary,
+                List.of(new ReplicaDataSource.Replica("a", replicaA), new ReplicaDataSource.Replica("b", replicaB)),
+                readYourWrites, Duration.ofSeconds(30), meterRegistry);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticateAs(String userId) {
+        AuthenticatedUser user = new AuthenticatedUser() {
+            @Override
+            public String getId() {
+                return userId;
+            }
+
+            @Override
+            public String getUsername() {
+                return "john@example.com";
+            }
+        };
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private void reportPrimaryLsn() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.getString("lsn")).thenReturn(PRIMARY_LSN);
+    }
+
+    private static PreparedStatement reportLag(DataSource replica, Connection connection, double lagSeconds) throws SQLException {
+        PreparedStatement statement = reportReceiver(replica, connection, true);
+        when(statement.executeQuery().getDouble("lag_seconds")).thenReturn(lagSeconds);
+        return statement;
+    }
+
+    private static PreparedStatement reportReceiver(DataSource replica, Connection connection, boolean streaming) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.getBoolean("streaming")).thenReturn(streaming);
+        return statement;
+    }
+
+    @Test
+    @DisplayName("Read-only connections alternate between the replicas")
+    void roundRobin() throws SQLException {
+        when(replicaA.getConnection()).thenReturn(connectionA);
+        when(replicaB.getConnection()).thenReturn(connectionB);
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactly(connectionA, connectionB, connectionA);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("A replica that refuses a connection leaves the rotation; with none left reads go to the primary")
+    void failsOverToPrimary() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("Connection refused", "08001"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("Connection refused", "08001"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        assertThat(dataSource.replicas()).noneMatch(ReplicaDataSource.Replica::healthy);
+        // Down replicas are not retried on every read, only by the health check
+        verify(replicaA, times(1)).getConnection();
+        assertThat(meterRegistry.get("datasource.read-only.connections").tag("target", "primary-fallback")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("An exhausted replica pool sends only that read to the primary and keeps the replica in rotation")
+    void poolExhaustionKeepsReplica() throws SQLException {
+        when(replicaA.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica-a - Connection is not available, request timed out"))
+                .thenReturn(connectionA);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        assertThat(dataSource.replicas()).allMatch(ReplicaDataSource.Replica::healthy);
+        verifyNoInteractions(replicaB);
+        when(replicaB.getConnection()).thenReturn(connectionB);
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection())).containsExactly(connectionB, connectionA);
+    }
+
+    @Test
+    @DisplayName("A pool timeout caused by an unreachable replica takes it out of rotation")
+    void poolTimeoutOnUnreachableReplica() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLTransientConnectionException(
+                "replica-a - Connection is not available, request timed out", "08001"));
+        when(replicaB.getConnection()).thenReturn(connectionB);
+
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+
+        assertThat(dataSource.replicas()).extracting(ReplicaDataSource.Replica::healthy).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("A user who just changed a pet reads from the primary; other users keep using the replicas")
+    void readYourWrites() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(connectionA);
+        readYourWrites.recordWrite(USER_ID);
+
+        authenticateAs(USER_ID);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        authenticateAs("33333333-3333-3333-3333-333333333333");
+        assertThat(dataSource.getConnection()).isSameAs(connectionA);
+    }
+
+    @Test
+    @DisplayName("The health check takes lagging replicas out and puts them back once they catch up")
+    void healthCheck() throws SQLException {
+        reportPrimaryLsn();
+        PreparedStatement lagA = reportLag(replicaA, connectionA, 0.2);
+        reportLag(replicaB, connectionB, 120);
+
+        dataSource.checkHealth();
+
+        assertThat(dataSource.replicas()).extracting(ReplicaDataSource.Replica::healthy).containsExactly(true, false);
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isEqualTo(1.0);
+        // Lag is measured against the primary's position, not what the replica happened to receive
+        verify(lagA).setString(1, PRIMARY_LSN);
+
+        reportLag(replicaB, connectionB, 1);
+        dataSource.checkHealth();
+
+        assertThat(dataSource.replicas()).allMatch(ReplicaDataSource.Replica::healthy);
+    }
+
+    @Test
+    @DisplayName("A replica whose WAL receiver is disconnected leaves the rotation even when it reports no lag")
+    void disconnectedReceiver() throws SQLException {
+        reportPrimaryLsn();
+        reportReceiver(replicaA, connectionA, false);
+        reportLag(replicaB, connectionB, 0);
+
+        dataSource.checkHealth();
+
+        assertThat(dataSource.replicas()).extracting(ReplicaDataSource.Replica::healthy).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("Without the primary's WAL position the health check leaves the rotation unchanged")
+    void primaryUnreachable() throws SQLException {
+        when(primary.getConnection()).thenThrow(new SQLException("Connection refused", "08001"));
+
+        dataSource.checkHealth();
+
+        assertThat(dataSource.replicas()).allMatch(ReplicaDataSource.Replica::healthy);
+        verifyNoInteractions(replicaA, replicaB);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.eduzavarce.pets.config.infrastructure;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upgrades databases that ddl-auto created before the versioned migrations existed: Flyway baselines them
+ * at 0 and V1..Vn must bring them to the schema the entities validate against.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationUpgradeTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    /** What ddl-auto: update left before the series: varchar ids, no lazy-decay column. */
+    private static final String DDL_AUTO_SCHEMA = """
+            CREATE TABLE auth_users (
+                id         VARCHAR(255) PRIMARY KEY,
+                username   VARCHAR(255) NOT NULL UNIQUE,
+                email      VARCHAR(255) NOT NULL UNIQUE,
+                password   VARCHAR(255) NOT NULL,
+                role       VARCHAR(255) NOT NULL,
+                created_at TIMESTAMP(6),
+                updated_at TIMESTAMP(6)
+            );
+            CREATE TABLE pets_users (
+                id         VARCHAR(255) PRIMARY KEY,
+                username   VARCHAR(255) UNIQUE,
+                created_at TIMESTAMP(6),
+                updated_at TIMESTAMP(6)
+            );
+            CREATE TABLE pets (
+                id         VARCHAR(255) PRIMARY KEY,
+                name       VARCHAR(255),
+                owner_id   VARCHAR(255) REFERENCES pets_users (id),
+                health     INTEGER NOT NULL,
+                hunger     INTEGER NOT NULL,
+                stamina    INTEGER NOT NULL,
+                type       VARCHAR(255),
+                created_at TIMESTAMP(6),
+                updated_at TIMESTAMP(6)
+            );
+            INSERT INTO pets_users (id, username) VALUES ('11111111-1111-1111-1111-111111111111', 'edu');
+            INSERT INTO pets (id, name, owner_id, health, hunger, stamina, type)
+            VALUES ('22222222-2222-2222-2222-222222222222', 'Rex', '11111111-1111-1111-1111-111111111111',
+                    100, 0, 100, 'DOG');
+            """;
+
+    /** The outbox as ddl-auto created it before snapshot coalescing added its key column. */
+    private static final String DDL_AUTO_OUTBOX = """
+            CREATE TABLE outbox_events (
+                id              VARCHAR(255) PRIMARY KEY,
+                aggregate_id    VARCHAR(255) NOT NULL,
+                event_name      VARCHAR(255) NOT NULL,
+                occurred_on     VARCHAR(255) NOT NULL,
+                payload         TEXT         NOT NULL,
+                created_at      TIMESTAMP(6) NOT NULL,
+                attempts        INTEGER      NOT NULL,
+                next_attempt_at TIMESTAMP(6) NOT NULL,
+                last_error      VARCHAR(1000)
+            );
+            """;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void resetDatabase() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP SCHEMA public CASCADE; CREATE SCHEMA public");
+    }
+
+    @Test
+    @DisplayName("baseline schema upgrade adds the lazy-decay column and converts ids to uuid")
+    void upgradesPreSeriesSchema() {
+        jdbc.execute(DDL_AUTO_SCHEMA);
+
+        migrate();
+
+        assertThat(columnType("pets", "last_evaluated_at")).isEqualTo("timestamp without time zone");
+        assertThat(columnType("pets", "id")).isEqualTo("uuid");
+        assertThat(columnType("pets", "owner_id")).isEqualTo("uuid");
+        assertThat(columnType("pets_users", "id")).isEqualTo("uuid");
+        assertThat(columnType("auth_users", "id")).isEqualTo("uuid");
+        assertThat(jdbc.queryForObject("SELECT name FROM pets", String.class)).isEqualTo("Rex");
+    }
+
+    @Test
+    @DisplayName("existing outbox table gains the coalesce key before its unique index is created")
+    void upgradesOutboxWithoutCoalesceKey() {
+        jdbc.execute(DDL_AUTO_SCHEMA);
+        jdbc.execute(DDL_AUTO_OUTBOX);
+
+        migrate();
+
+        assertThat(columnType("outbox_events", "coalesce_key")).isEqualTo("character varying");
+        assertThat(jdbc.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE indexname = 'ux_outbox_events_coalesce_key'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("empty database is migrated from scratch")
+    void migratesEmptyDatabase() {
+        migrate();
+
+        assertThat(columnType("pets", "last_evaluated_at")).isEqualTo("timestamp without time zone");
+        assertThat(columnType("outbox_events", "coalesce_key")).isEqualTo("character varying");
+        assertThat(columnType("copy_jobs", "job_id")).isEqualTo("character varying");
+    }
+
+    private void migrate() {
+        // Same settings as application.yml: a database without a history table is baselined at 0
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+    }
+
+    private String columnType(String table, String column) {
+        return jdbc.query("""
+                        SELECT data_type FROM information_schema.columns
+                        WHERE table_schema = 'public' AND table_name = ? AND column_name = ?
+                        """,
+                rs -> rs.next() ? rs.getString(1) : null, table, column);
+    }
+}
@@ -0,0 +1,157 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import com.google.common.collect.Lists;
+import dev.eduzavarce.pets.pets_context.pets.application.BulkCreatePetsService.NewPet;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult.RejectedPet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetCreated;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetBatchRepository;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreatePetsServiceTest {
+
+    private static final String OWNER = "22222222-2222-2222-2222-222222222222";
+    private static final String MISSING_OWNER = "33333333-3333-3333-3333-333333333333";
+    private static final String PET_1 = "11111111-1111-1111-1111-111111111111";
+    private static final String PET_2 = "11111111-1111-1111-1111-222222222222";
+    private static final String PET_3 = "11111111-1111-1111-1111-333333333333";
+
+    @Mock
+    PetBatchRepository petBatchRepository;
+    @Mock
+    PetsUserRepository petsUserRepository;
+    @Mock
+    EventBus eventBus;
+
+    @Captor
+    ArgumentCaptor<List<PetDto>> petsCaptor;
+    @Captor
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+
+    BulkCreatePetsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkCreatePetsService(petBatchRepository, petsUserRepository, eventBus, 2, 5);
+    }
+
+    @Test
+    @DisplayName("Inserts valid pets of existing owners in one batch call and publishes pet.created for the inserted ones")
+    void createsValidPets() {
+        when(petsUserRepository.findExistingIds(List.of(OWNER))).thenReturn(List.of(OWNER));
+        when(petBatchRepository.insertAll(anyList(), eq(2)))
+                .thenAnswer(invocation -> List.of(invocation.<List<PetDto>>getArgument(0).getFirst()));
+
+        BulkPetResult result = service.execute(List.of(
+                new NewPet(PET_1, "Fluffy", OWNER, PetType.CAT),
+                new NewPet(PET_2, "Rex", OWNER, PetType.DOG)));
+
+        verify(petBatchRepository).insertAll(petsCaptor.capture(), eq(2));
+        assertThat(petsCaptor.getValue()).extracting(PetDto::id).containsExactly(PET_1, PET_2);
+        assertThat(petsCaptor.getValue()).allSatisfy(pet -> assertThat(pet.health()).isEqualTo(50));
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.rejected()).containsExactly(new RejectedPet(PET_2, "Pet already exists"));
+
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement()
+                .isInstanceOfSatisfying(PetCreated.class, event -> assertThat(event.aggregateId()).isEqualTo(PET_1));
+    }
+
+    @Test
+    @DisplayName("Invalid pets, duplicated ids and unknown owners are rejected without failing the rest")
+    void rejectsInvalidPets() {
+        when(petsUserRepository.findExistingIds(anyList())).thenReturn(List.of(OWNER));
+        when(petBatchRepository.insertAll(anyList(), eq(2))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkPetResult result = service.execute(List.of(
+                new NewPet(PET_1, "Fluffy", OWNER, PetType.CAT),
+                new NewPet(PET_1, "Fluffy again", OWNER, PetType.CAT),
+                new NewPet("not-a-uuid", "Rex", OWNER, PetType.DOG),
+                new NewPet(PET_2, " ", OWNER, PetType.DOG),
+                new NewPet(PET_3, "Tweety", MISSING_OWNER, PetType.CANARY)));
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.rejected()).extracting(RejectedPet::id)
+                .containsExactlyInAnyOrder(PET_1, "not-a-uuid", PET_2, PET_3);
+        assertThat(result.rejected()).filteredOn(rejected -> rejected.id().equals(PET_3))
+                .singleElement().satisfies(rejected -> assertThat(rejected.reason()).contains("Owner"));
+    }
+
+    @Test
+    @DisplayName("Pets with a missing field are rejected naming the field")
+    void rejectsMissingFields() {
+        when(petsUserRepository.findExistingIds(List.of(OWNER))).thenReturn(List.of(OWNER));
+        when(petBatchRepository.insertAll(anyList(), eq(2))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkPetResult result = service.execute(List.of(
+                new NewPet(PET_1, "Fluffy", OWNER, PetType.CAT),
+                new NewPet(null, "Rex", OWNER, PetType.DOG),
+                new NewPet(PET_2, null, OWNER, PetType.DOG),
+                new NewPet(PET_3, "Tweety", null, PetType.CANARY)));
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.rejected()).containsExactly(
+                new RejectedPet(null, "Pet id is required"),
+                new RejectedPet(PET_2, "Pet name is required"),
+                new RejectedPet(PET_3, "Owner id is required"));
+    }
+
+    @Test
+    @DisplayName("A null pet entry -> CustomException and nothing written")
+    void nullEntry() {
+        List<NewPet> pets = Arrays.asList(new NewPet(PET_1, "Fluffy", OWNER, PetType.CAT), null);
+
+        assertThatThrownBy(() -> service.execute(pets)).isInstanceOf(CustomException.class);
+
+        verifyNoInteractions(petBatchRepository, eventBus);
+    }
+
+    @Test
+    @DisplayName("More pets than max-items -> CustomException and nothing written")
+    void tooManyPets() {
+        List<NewPet> pets = Collections.nCopies(6, new NewPet(PET_1, "Fluffy", OWNER, PetType.CAT));
+
+        assertThatThrownBy(() -> service.execute(pets)).isInstanceOf(CustomException.class);
+
+        verifyNoInteractions(petBatchRepository, eventBus);
+    }
+
+    @Test
+    @DisplayName("max-items is checked before any entry of a lazily mapped request is read")
+    void checksSizeBeforeMapping() {
+        AtomicInteger mapped = new AtomicInteger();
+        List<NewPet> pets = Lists.transform(Collections.nCopies(6, PET_1), id -> {
+            mapped.incrementAndGet();
+            return new NewPet(id, "Fluffy", OWNER, PetType.CAT);
+        });
+
+        assertThatThrownBy(() -> service.execute(pets)).isInstanceOf(CustomException.class);
+
+        assertThat(mapped).hasValue(0);
+    }
+}
@@ -0,0 +1,104 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult;
+import dev.eduzavarce.pets.pets_context.pets.domain.BulkPetResult.RejectedPet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetPlayed;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetActionRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkPetActionServiceTest {
+
+    private static final String OWNER = "22222222-2222-2222-2222-222222222222";
+    private static final String PET_1 = "11111111-1111-1111-1111-111111111111";
+    private static final String PET_2 = "11111111-1111-1111-1111-222222222222";
+    private static final String PET_3 = "11111111-1111-1111-1111-333333333333";
+
+    @Mock
+    PetActionRepository petActionRepository;
+    @Mock
+    EventBus eventBus;
+
+    @Captor
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+
+    BulkPetActionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkPetActionService(petActionRepository, eventBus, 2, 10);
+    }
+
+    private static PetWithOwnerDto row(String id) {
+        return new PetWithOwnerDto(id, "Fluffy", OWNER, "johnny", 50, 60, 40, PetType.CAT);
+    }
+
+    @Test
+    @DisplayName("Ids go to the database batch-size at a time; each updated pet publishes the action's event")
+    void appliesInChunks() {
+        when(petActionRepository.applyAll(List.of(PET_1, PET_2), PetAction.PLAY)).thenReturn(List.of(row(PET_1), row(PET_2)));
+        when(petActionRepository.applyAll(List.of(PET_3), PetAction.PLAY)).thenReturn(List.of());
+
+        BulkPetResult result = service.execute(PetAction.PLAY, List.of(PET_1, PET_2, PET_3));
+
+        assertThat(result.applied()).isEqualTo(2);
+        assertThat(result.rejected()).singleElement().extracting(RejectedPet::id).isEqualTo(PET_3);
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).hasSize(2).allSatisfy(event -> assertThat(event).isInstanceOf(PetPlayed.class));
+    }
+
+    @Test
+    @DisplayName("Malformed ids are rejected and duplicates sent once, normalized to lowercase")
+    void normalizesIds() {
+        when(petActionRepository.applyAll(List.of(PET_1), PetAction.FEED)).thenReturn(List.of(row(PET_1)));
+
+        BulkPetResult result = service.execute(PetAction.FEED, List.of(PET_1, PET_1.toUpperCase(), "not-a-uuid"));
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.rejected()).containsExactly(new RejectedPet("not-a-uuid", "Invalid pet id"));
+        verify(petActionRepository, times(1)).applyAll(anyList(), eq(PetAction.FEED));
+    }
+
+    @Test
+    @DisplayName("Null ids are rejected as missing without reaching the database")
+    void rejectsNullIds() {
+        when(petActionRepository.applyAll(List.of(PET_1), PetAction.SLEEP)).thenReturn(List.of(row(PET_1)));
+
+        BulkPetResult result = service.execute(PetAction.SLEEP, Arrays.asList(PET_1, null));
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.rejected()).containsExactly(new RejectedPet(null, "Pet id is required"));
+    }
+
+    @Test
+    @DisplayName("Ids are sorted before chunking, so chunks lock in id order whatever the request order")
+    void chunksInIdOrder() {
+        when(petActionRepository.applyAll(anyList(), eq(PetAction.SLEEP))).thenReturn(List.of());
+
+        service.execute(PetAction.SLEEP, List.of(PET_3, PET_1, PET_2));
+
+        InOrder inOrder = inOrder(petActionRepository);
+        inOrder.verify(petActionRepository).applyAll(List.of(PET_1, PET_2), PetAction.SLEEP);
+        inOrder.verify(petActionRepository).applyAll(List.of(PET_3), PetAction.SLEEP);
+        inOrder.verifyNoMoreInteractions();
+    }
+}
@@ -1,11 +1,14 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
 import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetCreated;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,12 +35,16 @@ class CreatePetServiceTest {
     PetRepository petRepository;
     @Mock
     PetsUserRepository petsUserRepository;
+    @Mock
+    EventBus eventBus;
 
     @InjectMocks
     CreatePetService service;
 
     @Captor
     ArgumentCaptor<PetPostgresEntity> entityCaptor;
+    @Captor
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
 
     String id;
     String ownerId;
@@ -67,6 +75,10 @@ class CreatePetServiceTest {
         assertThat(saved.getId()).isEqualTo(id);
         // owner is the same instance we fetched
         assertThat(saved.getOwner()).isSameAs(owner);
+
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement().isInstanceOf(PetCreated.class)
+                .extracting(event -> event.toPrimitives().body()).isEqualTo(pet.toPrimitives());
     }
 
     @Test
@@ -79,6 +91,7 @@ class CreatePetServiceTest {
                 .hasMessageContaining("Owner (pets user) not found");
 
         verify(petRepository, never()).save(any());
+        verifyNoInteractions(eventBus);
     }
 
     @Test
@@ -1,7 +1,13 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
+import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDeleted;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +18,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -22,24 +30,35 @@ class DeletePetServiceTest {
 
     @Mock
     PetRepository petRepository;
+    @Mock
+    EventBus eventBus;
     @InjectMocks
     DeletePetService service;
 
     @Captor
     ArgumentCaptor<PetPostgresEntity> entityCaptor;
+    @Captor
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
 
     @Test
     @DisplayName("Happy path: deletes pet enforcing ownership (id + ownerId)")
     void deletesOwnedPet() {
         String petId = "pet-1";
         String ownerId = "owner-1";
+        PetDto dto = new PetDto("11111111-1111-1111-1111-111111111111", "Fluffy",
+                "22222222-2222-2222-2222-222222222222", 50, 40, 60, PetType.CAT);
         PetPostgresEntity entity = mock(PetPostgresEntity.class);
+        when(entity.toDomain()).thenReturn(Pet.fromPrimitives(dto));
         when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(entity));
 
         service.execute(petId, ownerId);
 
         verify(petRepository).delete(entityCaptor.capture());
         verifyNoMoreInteractions(petRepository);
+
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement().isInstanceOf(PetDeleted.class)
+                .extracting(event -> event.toPrimitives().body()).isEqualTo(dto);
     }
 
     @Test
@@ -54,5 +73,6 @@ class DeletePetServiceTest {
                 .hasMessageContaining("Pet not found");
 
         verify(petRepository, never()).delete(any());
+        verifyNoInteractions(eventBus);
     }
 }
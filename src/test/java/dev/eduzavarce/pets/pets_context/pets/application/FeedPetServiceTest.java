@@ -1,11 +1,12 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
-import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
-import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetAction;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetFed;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
-import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetActionRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,102 +28,57 @@ import static org.mockito.Mockito.*;
 class FeedPetServiceTest {
 
     @Mock
-    PetRepository petRepository;
+    PetActionRepository petActionRepository;
+    @Mock
+    EventBus eventBus;
     @InjectMocks
     FeedPetService service;
 
     @Captor
-    ArgumentCaptor<PetPostgresEntity> entityCaptor;
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
 
     @Test
-    @DisplayName("Happy path: finds pet by id & owner, feeds (hunger -10), saves updated entity, returns updated domain")
-    void happyPath_feedsAndSaves() {
+    @DisplayName("Happy path: feeds (hunger -10) in a single guarded update and returns the updated row")
+    void happyPath_singleUpdateReturnsRow() {
         String petId = "11111111-1111-1111-1111-111111111111";
         String ownerId = "22222222-2222-2222-2222-222222222222";
 
-        // Arrange: existing entity with hunger 60
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-
-        PetDto dto = new PetDto(petId, "Fluffy", ownerId, 50, 60, 50, PetType.CAT);
-        Pet domain = Pet.fromPrimitives(dto);
-
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(existing.getOwner()).thenReturn(owner);
+        PetWithOwnerDto row = new PetWithOwnerDto(petId, "Fluffy", ownerId, "johnny", 50, 40, 50, PetType.CAT);
+        when(petActionRepository.apply(petId, ownerId, PetAction.FEED)).thenReturn(Optional.of(row));
 
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
+        PetWithOwnerDto result = service.execute(petId, ownerId);
 
-        // Act
-        Pet result = service.execute(petId, ownerId);
+        assertThat(result).isEqualTo(row);
+        verify(petActionRepository).apply(petId, ownerId, PetAction.FEED);
+        verifyNoMoreInteractions(petActionRepository);
 
-        // Assert domain changes
-        assertThat(result.getHunger()).isEqualTo(50); // 60 -> feed() -> 50
-
-        // Saved entity created from updated pet and same owner
-        verify(petRepository).save(entityCaptor.capture());
-        PetPostgresEntity saved = entityCaptor.getValue();
-        assertThat(saved.getId()).isEqualTo(petId);
-        assertThat(saved.getOwner()).isSameAs(owner);
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement().isInstanceOf(PetFed.class)
+                .extracting(event -> event.toPrimitives().body()).isEqualTo(row.toPetDto());
     }
 
     @Test
-    @DisplayName("Corner: not found -> throws NotFoundException and does not save")
+    @DisplayName("Not found: no row updated -> throws NotFoundException")
     void notFound_throws() {
         String petId = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
         String ownerId = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.empty());
+        when(petActionRepository.apply(petId, ownerId, PetAction.FEED)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Pet not found");
-
-        verify(petRepository, never()).save(any());
+        verifyNoInteractions(eventBus);
     }
 
     @Test
-    @DisplayName("Corner: repository.save throws -> propagate and do not swallow errors")
-    void repositorySaveThrows_propagate() {
+    @DisplayName("Repository throws -> propagate and do not swallow errors")
+    void repositoryThrows_propagate() {
         String petId = "33333333-3333-3333-3333-333333333333";
         String ownerId = "44444444-4444-4444-4444-444444444444";
-
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-
-        PetDto dto = new PetDto(petId, "Fluffy", ownerId, 50, 20, 50, PetType.DOG);
-        Pet domain = Pet.fromPrimitives(dto);
-
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(existing.getOwner()).thenReturn(owner);
-
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
-        doThrow(new RuntimeException("db error")).when(petRepository).save(any(PetPostgresEntity.class));
+        when(petActionRepository.apply(petId, ownerId, PetAction.FEED)).thenThrow(new RuntimeException("db error"));
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("db error");
     }
-
-    @Test
-    @DisplayName("Boundary: hunger does not go below 0 when feeding")
-    void boundary_hungerClampedAtZero() {
-        String petId = "55555555-5555-5555-5555-555555555555";
-        String ownerId = "66666666-6666-6666-6666-666666666666";
-
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-
-        // hunger 5 -> feed() should clamp to 0
-        PetDto dto = new PetDto(petId, "Tiny", ownerId, 50, 5, 50, PetType.CANARY);
-        Pet domain = Pet.fromPrimitives(dto);
-
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(existing.getOwner()).thenReturn(owner);
-
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
-
-        Pet result = service.execute(petId, ownerId);
-
-        assertThat(result.getHunger()).isEqualTo(0);
-        verify(petRepository).save(any(PetPostgresEntity.class));
-    }
 }
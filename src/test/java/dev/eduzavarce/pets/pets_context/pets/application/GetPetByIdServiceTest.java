@@ -1,12 +1,9 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
-import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
-import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
-import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.Timestamp;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,25 +28,15 @@ class GetPetByIdServiceTest {
     GetPetByIdService service;
 
     @Test
-    @DisplayName("Happy path: returns PetWithOwnerDto composed from domain pet and owner info")
+    @DisplayName("Happy path: returns the PetWithOwnerDto projected by the repository")
     void happyPath_returnsDto() {
         String petId = "11111111-1111-1111-1111-111111111111";
         String ownerId = "22222222-2222-2222-2222-222222222222";
 
-        // Arrange entity + owner
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-        when(owner.getId()).thenReturn(ownerId);
-        when(owner.getUsername()).thenReturn("johnny");
-
-        PetDto dto = new PetDto(petId, "Fluffy", ownerId, 70, 40, 90, PetType.DOG);
-        Pet domain = Pet.fromPrimitives(dto);
-
-        PetPostgresEntity entity = mock(PetPostgresEntity.class);
-        when(entity.getId()).thenReturn(petId);
-        when(entity.getOwner()).thenReturn(owner);
-        when(entity.toDomain()).thenReturn(domain);
-
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(entity));
+        // Arrange joined projection
+        PetWithOwnerView row = new PetWithOwnerView(petId, "Fluffy", ownerId, "johnny", 70, 40, 90, PetType.DOG,
+                Timestamp.valueOf("2025-01-01 10:00:00"), null);
+        when(petRepository.findWithOwnerByIdAndOwnerId(petId, ownerId)).thenReturn(Optional.of(row));
 
         // Act
         PetWithOwnerDto result = service.execute(petId, ownerId);
@@ -63,7 +51,7 @@ class GetPetByIdServiceTest {
         assertThat(result.stamina()).isEqualTo(90);
         assertThat(result.type()).isEqualTo(PetType.DOG);
 
-        verify(petRepository).findByIdAndOwner_Id(petId, ownerId);
+        verify(petRepository).findWithOwnerByIdAndOwnerId(petId, ownerId);
         verifyNoMoreInteractions(petRepository);
     }
 
@@ -73,13 +61,13 @@ class GetPetByIdServiceTest {
         String petId = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
         String ownerId = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
 
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.empty());
+        when(petRepository.findWithOwnerByIdAndOwnerId(petId, ownerId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Pet not found");
 
-        verify(petRepository).findByIdAndOwner_Id(petId, ownerId);
+        verify(petRepository).findWithOwnerByIdAndOwnerId(petId, ownerId);
         verifyNoMoreInteractions(petRepository);
     }
 }
\ No newline at end of file
@@ -1,12 +1,9 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
-import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
-import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
-import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,82 +32,58 @@ class GetUserPetsServiceTest {
     ArgumentCaptor<String> userIdCaptor;
 
     @Test
-    @DisplayName("Happy path: maps list of PetPostgresEntity to PetWithOwnerDto preserving repository ordering")
-    void mapsAndPreservesOrder() {
+    @DisplayName("Happy path: maps projected rows to PetWithOwnerDto preserving repository ordering")
+    void returnsProjectionPreservingOrder() {
         String userId = "11111111-1111-1111-1111-111111111111";
 
-        // Prepare owners
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-        when(owner.getId()).thenReturn(userId);
-        when(owner.getUsername()).thenReturn("johnny");
-
-        // Prepare two pets with descending created order simulated by list order
-        PetDto dto1 = new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2", "Beta", userId, 80, 20, 60, PetType.RABBIT);
-        PetDto dto0 = new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1", "Alpha", userId, 70, 30, 90, PetType.DOG);
-        Pet domain1 = Pet.fromPrimitives(dto1);
-        Pet domain0 = Pet.fromPrimitives(dto0);
-
-        PetPostgresEntity e1 = mock(PetPostgresEntity.class);
-        when(e1.getId()).thenReturn("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2");
-        when(e1.getOwner()).thenReturn(owner);
-        when(e1.toDomain()).thenReturn(domain1);
-
-        PetPostgresEntity e0 = mock(PetPostgresEntity.class);
-        when(e0.getId()).thenReturn("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1");
-        when(e0.getOwner()).thenReturn(owner);
-        when(e0.toDomain()).thenReturn(domain0);
-
-        // Repository returns in the expected (createdAt desc) order: e1, e0
-        when(petRepository.findByOwner_IdOrderByCreatedAtDesc(userId)).thenReturn(List.of(e1, e0));
+        // Repository returns the joined projection in createdAt desc order
+        Timestamp createdAt = Timestamp.valueOf("2025-01-01 10:00:00");
+        PetWithOwnerView view1 = new PetWithOwnerView("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2", "Beta", userId, "johnny", 80, 20, 60, PetType.RABBIT, createdAt, null);
+        PetWithOwnerView view0 = new PetWithOwnerView("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1", "Alpha", userId, "johnny", 70, 30, 90, PetType.DOG, createdAt, null);
+        when(petRepository.findWithOwnerByOwnerId(userId)).thenReturn(List.of(view1, view0));
 
         // Act
         List<PetWithOwnerDto> result = service.execute(userId);
 
-        // Assert size and order
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).id()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2");
-        assertThat(result.get(1).id()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1");
-
-        // Assert mapping for first
-        PetWithOwnerDto r0 = result.get(0);
-        assertThat(r0.name()).isEqualTo("Beta");
-        assertThat(r0.ownerId()).isEqualTo(userId);
-        assertThat(r0.ownerUsername()).isEqualTo("johnny");
-        assertThat(r0.health()).isEqualTo(80);
-        assertThat(r0.hunger()).isEqualTo(20);
-        assertThat(r0.stamina()).isEqualTo(60);
-        assertThat(r0.type()).isEqualTo(PetType.RABBIT);
-
-        // Assert mapping for second
-        PetWithOwnerDto r1 = result.get(1);
-        assertThat(r1.name()).isEqualTo("Alpha");
-        assertThat(r1.ownerId()).isEqualTo(userId);
-        assertThat(r1.ownerUsername()).isEqualTo("johnny");
-        assertThat(r1.health()).isEqualTo(70);
-        assertThat(r1.hunger()).isEqualTo(30);
-        assertThat(r1.stamina()).isEqualTo(90);
-        assertThat(r1.type()).isEqualTo(PetType.DOG);
-
-        // Verify repository interaction
-        verify(petRepository).findByOwner_IdOrderByCreatedAtDesc(userIdCaptor.capture());
+        // Assert size, order and mapping
+        assertThat(result).containsExactly(
+                new PetWithOwnerDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2", "Beta", userId, "johnny", 80, 20, 60, PetType.RABBIT),
+                new PetWithOwnerDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1", "Alpha", userId, "johnny", 70, 30, 90, PetType.DOG));
+
+        // Verify a single repository query, no per-pet owner loading
+        verify(petRepository).findWithOwnerByOwnerId(userIdCaptor.capture());
         assertThat(userIdCaptor.getValue()).isEqualTo(userId);
         verifyNoMoreInteractions(petRepository);
+    }
+
+    @Test
+    @DisplayName("Decay: stats are derived from the time elapsed since last evaluation")
+    void appliesDecaySinceLastEvaluation() {
+        String userId = "33333333-3333-3333-3333-333333333333";
+
+        // Three whole DOG decay periods (plus a partial one) have passed since the last evaluation
+        Instant lastEvaluatedAt = Instant.now().minus(PetType.DOG.decayPeriod().multipliedBy(3)).minusSeconds(30);
+        PetWithOwnerView view = new PetWithOwnerView("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa3", "Rex", userId, "johnny",
+                70, 30, 90, PetType.DOG, Timestamp.from(lastEvaluatedAt), Timestamp.from(lastEvaluatedAt));
+        when(petRepository.findWithOwnerByOwnerId(userId)).thenReturn(List.of(view));
+
+        PetWithOwnerDto result = service.execute(userId).getFirst();
 
-        // Ensure per-entity domain mapping was requested
-        verify(e1, atLeastOnce()).toDomain();
-        verify(e0, atLeastOnce()).toDomain();
+        assertThat(result.hunger()).isEqualTo(30 + 3 * PetType.DOG.hungerPerPeriod());
+        assertThat(result.stamina()).isEqualTo(90 - 3 * PetType.DOG.staminaPerPeriod());
+        assertThat(result.health()).isEqualTo(70);
     }
 
     @Test
     @DisplayName("Empty list: returns empty and only queries repository once")
     void emptyListReturnsEmpty() {
         String userId = "22222222-2222-2222-2222-222222222222";
-        when(petRepository.findByOwner_IdOrderByCreatedAtDesc(userId)).thenReturn(List.of());
+        when(petRepository.findWithOwnerByOwnerId(userId)).thenReturn(List.of());
 
         List<PetWithOwnerDto> result = service.execute(userId);
 
         assertThat(result).isEmpty();
-        verify(petRepository).findByOwner_IdOrderByCreatedAtDesc(userId);
+        verify(petRepository).findWithOwnerByOwnerId(userId);
         verifyNoMoreInteractions(petRepository);
     }
 }
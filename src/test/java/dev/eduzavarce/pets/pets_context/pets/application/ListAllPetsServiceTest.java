@@ -1,22 +1,33 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
-import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
-import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetStreamRepository;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetWithOwnerView;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.shared.core.domain.PaginatedResponseDto;
+import dev.eduzavarce.pets.shared.exceptions.InvalidCursorException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,12 +35,22 @@ class ListAllPetsServiceTest {
 
     @Mock
     PetRepository petRepository;
+    @Mock
+    PetStreamRepository petStreamRepository;
     @InjectMocks
     ListAllPetsService service;
 
+    @Captor
+    ArgumentCaptor<Pageable> windowCaptor;
+
+    private PetWithOwnerView view(PetsUserPostgresEntity owner, PetDto dto, Timestamp createdAt) {
+        return new PetWithOwnerView(dto.id(), dto.name(), owner.getId(), owner.getUsername(),
+                dto.health(), dto.hunger(), dto.stamina(), dto.type(), createdAt, null);
+    }
+
     @Test
-    @DisplayName("Happy path: maps all PetPostgresEntity to PetWithOwnerDto preserving repository ordering")
-    void mapsAllAndPreservesOrder() {
+    @DisplayName("First page: maps projected rows to PetWithOwnerDto preserving repository ordering and counts once")
+    void firstPageMapsAllAndPreservesOrder() {
         // Arrange owner
         PetsUserPostgresEntity ownerA = mock(PetsUserPostgresEntity.class);
         when(ownerA.getId()).thenReturn("11111111-1111-1111-1111-111111111111");
@@ -38,25 +59,25 @@ class ListAllPetsServiceTest {
         // Prepare two pets returned by repo in desc order
         PetDto dto1 = new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2", "Beta", ownerA.getId(), 80, 20, 60, PetType.RABBIT);
         PetDto dto0 = new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1", "Alpha", ownerA.getId(), 70, 30, 90, PetType.DOG);
-        Pet domain1 = Pet.fromPrimitives(dto1);
-        Pet domain0 = Pet.fromPrimitives(dto0);
+        PetWithOwnerView e1 = view(ownerA, dto1, Timestamp.valueOf("2025-01-02 10:00:00"));
+        PetWithOwnerView e0 = view(ownerA, dto0, Timestamp.valueOf("2025-01-01 10:00:00"));
 
-        PetPostgresEntity e1 = mock(PetPostgresEntity.class);
-        when(e1.getId()).thenReturn("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2");
-        when(e1.getOwner()).thenReturn(ownerA);
-        when(e1.toDomain()).thenReturn(domain1);
-
-        PetPostgresEntity e0 = mock(PetPostgresEntity.class);
-        when(e0.getId()).thenReturn("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1");
-        when(e0.getOwner()).thenReturn(ownerA);
-        when(e0.toDomain()).thenReturn(domain0);
-
-        when(petRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of(e1, e0));
+        when(petRepository.findFirstPage(any(Pageable.class))).thenReturn(List.of(e1, e0));
+        when(petRepository.count()).thenReturn(2L);
 
         // Act
-        List<PetWithOwnerDto> result = service.execute();
+        PaginatedResponseDto<List<PetWithOwnerDto>> page = service.execute(null, 10);
+
+        // Assert page metadata
+        assertThat(page.status()).isEqualTo("success");
+        assertThat(page.currentPage()).isEqualTo(1);
+        assertThat(page.totalPages()).isEqualTo(1);
+        assertThat(page.totalItems()).isEqualTo(2L);
+        assertThat(page.itemsPerPage()).isEqualTo(10);
+        assertThat(page.nextCursor()).isNull();
 
         // Assert size and order
+        List<PetWithOwnerDto> result = page.data();
         assertThat(result).hasSize(2);
         assertThat(result.get(0).id()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2");
         assertThat(result.get(1).id()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1");
@@ -81,22 +102,106 @@ class ListAllPetsServiceTest {
         assertThat(r1.stamina()).isEqualTo(90);
         assertThat(r1.type()).isEqualTo(PetType.DOG);
 
-        verify(petRepository).findAllByOrderByCreatedAtDesc();
+        // One extra row is requested to detect a following page
+        verify(petRepository).findFirstPage(windowCaptor.capture());
+        assertThat(windowCaptor.getValue().getPageSize()).isEqualTo(11);
+        verify(petRepository).count();
         verifyNoMoreInteractions(petRepository);
+    }
 
-        verify(e1, atLeastOnce()).toDomain();
-        verify(e0, atLeastOnce()).toDomain();
+    @Test
+    @DisplayName("Keyset: a full page returns a cursor that resumes after the last row without recounting")
+    void cursorResumesAfterLastRow() {
+        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
+        when(owner.getId()).thenReturn("11111111-1111-1111-1111-111111111111");
+        when(owner.getUsername()).thenReturn("johnny");
+
+        Timestamp t3 = Timestamp.valueOf("2025-01-03 10:00:00.123456");
+        Timestamp t2 = Timestamp.valueOf("2025-01-02 10:00:00");
+        Timestamp t1 = Timestamp.valueOf("2025-01-01 10:00:00");
+        PetWithOwnerView e3 = view(owner, new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa3", "Gamma", owner.getId(), 50, 50, 50, PetType.CAT), t3);
+        PetWithOwnerView e2 = view(owner, new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2", "Beta", owner.getId(), 50, 50, 50, PetType.CAT), t2);
+        PetWithOwnerView e1 = view(owner, new PetDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1", "Alpha", owner.getId(), 50, 50, 50, PetType.CAT), t1);
+
+        when(petRepository.findFirstPage(any(Pageable.class))).thenReturn(List.of(e3, e2));
+        when(petRepository.count()).thenReturn(3L);
+
+        PaginatedResponseDto<List<PetWithOwnerDto>> first = service.execute(null, 1);
+
+        assertThat(first.data()).extracting(PetWithOwnerDto::id).containsExactly("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa3");
+        assertThat(first.totalPages()).isEqualTo(3);
+        assertThat(first.nextCursor()).isNotBlank();
+
+        when(petRepository.findPageAfter(eq(t3), eq("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa3"), any(Pageable.class)))
+                .thenReturn(List.of(e2, e1));
+
+        PaginatedResponseDto<List<PetWithOwnerDto>> second = service.execute(first.nextCursor(), 1);
+
+        assertThat(second.data()).extracting(PetWithOwnerDto::id).containsExactly("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa2");
+        assertThat(second.currentPage()).isEqualTo(2);
+        assertThat(second.totalItems()).isEqualTo(3L);
+        assertThat(second.nextCursor()).isNotBlank();
+        verify(petRepository, times(1)).count();
     }
 
     @Test
-    @DisplayName("Empty list: returns empty collection and only queries repository once")
+    @DisplayName("Empty table: returns empty page without cursor")
     void emptyListReturnsEmpty() {
-        when(petRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of());
+        when(petRepository.findFirstPage(any(Pageable.class))).thenReturn(List.of());
+        when(petRepository.count()).thenReturn(0L);
 
-        List<PetWithOwnerDto> result = service.execute();
+        PaginatedResponseDto<List<PetWithOwnerDto>> page = service.execute(null, 50);
 
-        assertThat(result).isEmpty();
-        verify(petRepository).findAllByOrderByCreatedAtDesc();
-        verifyNoMoreInteractions(petRepository);
+        assertThat(page.data()).isEmpty();
+        assertThat(page.totalPages()).isZero();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Limit is clamped to the maximum page size")
+    void limitIsClamped() {
+        when(petRepository.findFirstPage(any(Pageable.class))).thenReturn(List.of());
+
+        PaginatedResponseDto<List<PetWithOwnerDto>> page = service.execute(null, 100_000);
+
+        assertThat(page.itemsPerPage()).isEqualTo(ListAllPetsService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Malformed cursor -> InvalidCursorException and no query")
+    void malformedCursorThrows() {
+        assertThatThrownBy(() -> service.execute("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(petRepository);
+    }
+
+    @Test
+    @DisplayName("Cursor with an id that is not a UUID -> InvalidCursorException and no query")
+    void cursorWithMalformedIdThrows() {
+        String cursor = new PetPageCursor(Timestamp.valueOf("2025-01-01 10:00:00"), "not-a-uuid", 2, 3).encode();
+
+        assertThatThrownBy(() -> service.execute(cursor, 10))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(petRepository);
+    }
+
+    @Test
+    @DisplayName("Stream: forwards every row from the cursor-backed repository to the consumer")
+    void streamForwardsRows() {
+        PetWithOwnerDto row = new PetWithOwnerDto("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaa1", "Alpha",
+                "11111111-1111-1111-1111-111111111111", "johnny", 50, 50, 50, PetType.DOG);
+        doAnswer(invocation -> {
+            Consumer<PetWithOwnerDto> consumer = invocation.getArgument(0);
+            consumer.accept(row);
+            return null;
+        }).when(petStreamRepository).forEachWithOwner(any());
+
+        List<PetWithOwnerDto> received = new ArrayList<>();
+        service.stream(received::add);
+
+        assertThat(received).containsExactly(row);
+        verifyNoInteractions(petRepository);
     }
 }
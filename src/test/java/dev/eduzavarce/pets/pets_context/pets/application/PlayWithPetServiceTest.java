@@ -1,9 +1,11 @@
 package dev.eduzavarce.pets.pets_context.pets.application;
 
 import dev.eduzavarce.pets.pets_context.pets.domain.*;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetActionRepository;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
-import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,132 +26,119 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PlayWithPetServiceTest {
 
+    @Mock
+    PetActionRepository petActionRepository;
     @Mock
     PetRepository petRepository;
+    @Mock
+    EventBus eventBus;
     @InjectMocks
     PlayWithPetService service;
 
     @Captor
-    ArgumentCaptor<PetPostgresEntity> entityCaptor;
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+
+    private PetPostgresEntity existing(PetDto dto) {
+        PetPostgresEntity entity = mock(PetPostgresEntity.class);
+        when(entity.toDomain()).thenReturn(Pet.fromPrimitives(dto));
+        when(petRepository.findByIdAndOwner_Id(dto.id(), dto.ownerId())).thenReturn(Optional.of(entity));
+        return entity;
+    }
 
     @Test
-    @DisplayName("Happy path: play decreases stamina by 10 and increases hunger by 10; saves updated entity")
-    void happyPath_playUpdatesAndSaves() {
+    @DisplayName("Happy path: one guarded update returns the played row without any read")
+    void happyPath_singleUpdate() {
         String petId = "11111111-1111-1111-1111-111111111111";
         String ownerId = "22222222-2222-2222-2222-222222222222";
 
-        // Initial: stamina 60, hunger 40 -> after play: stamina 50, hunger 50
-        PetDto dto = new PetDto(petId, "Fluffy", ownerId, 50, 40, 60, PetType.CAT);
-        Pet domain = Pet.fromPrimitives(dto);
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
+        PetWithOwnerDto row = new PetWithOwnerDto(petId, "Fluffy", ownerId, "johnny", 50, 50, 50, PetType.CAT);
+        when(petActionRepository.apply(petId, ownerId, PetAction.PLAY)).thenReturn(Optional.of(row));
 
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(existing.getOwner()).thenReturn(owner);
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
+        PetWithOwnerDto result = service.execute(petId, ownerId);
 
-        Pet result = service.execute(petId, ownerId);
+        assertThat(result).isEqualTo(row);
+        verify(petActionRepository).apply(petId, ownerId, PetAction.PLAY);
+        verifyNoInteractions(petRepository);
 
-        assertThat(result.getStamina()).isEqualTo(50);
-        assertThat(result.getHunger()).isEqualTo(50);
-
-        verify(petRepository).save(entityCaptor.capture());
-        PetPostgresEntity saved = entityCaptor.getValue();
-        assertThat(saved.getId()).isEqualTo(petId);
-        assertThat(saved.getOwner()).isSameAs(owner);
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement().isInstanceOf(PetPlayed.class)
+                .extracting(event -> event.toPrimitives().body()).isEqualTo(row.toPetDto());
     }
 
     @Test
-    @DisplayName("Not found: throws NotFoundException and does not save")
+    @DisplayName("Not found: update rejected and pet missing -> NotFoundException")
     void notFound_throws() {
         String petId = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
         String ownerId = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
+        when(petActionRepository.apply(petId, ownerId, PetAction.PLAY)).thenReturn(Optional.empty());
         when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Pet not found");
 
-        verify(petRepository, never()).save(any());
+        verify(petActionRepository, times(1)).apply(petId, ownerId, PetAction.PLAY);
     }
 
     @Test
-    @DisplayName("Domain guard: stamina depleted -> LowStaminaException; no save")
+    @DisplayName("Domain guard: stamina depleted -> LowStaminaException; update not retried")
     void staminaDepleted_throwsLowStamina() {
         String petId = "33333333-3333-3333-3333-333333333333";
         String ownerId = "44444444-4444-4444-4444-444444444444";
 
-        // stamina 0 triggers LowStaminaException on play()
-        PetDto dto = new PetDto(petId, "Tired", ownerId, 50, 40, 0, PetType.DOG);
-        Pet domain = Pet.fromPrimitives(dto);
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
+        // stamina 0 makes the update match no row and play() raise LowStaminaException
+        when(petActionRepository.apply(petId, ownerId, PetAction.PLAY)).thenReturn(Optional.empty());
+        existing(new PetDto(petId, "Tired", ownerId, 50, 40, 0, PetType.DOG));
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(LowStaminaException.class)
                 .hasMessageContaining("stamina");
+        verifyNoInteractions(eventBus);
 
-        verify(petRepository, never()).save(any());
+        verify(petActionRepository, times(1)).apply(petId, ownerId, PetAction.PLAY);
     }
 
     @Test
-    @DisplayName("Domain guard: hunger maxed -> TooHungryException; no save")
+    @DisplayName("Domain guard: hunger maxed -> TooHungryException; update not retried")
     void hungerMaxed_throwsTooHungry() {
         String petId = "55555555-5555-5555-5555-555555555555";
         String ownerId = "66666666-6666-6666-6666-666666666666";
 
-        // hunger 100 triggers TooHungryException on play()
-        PetDto dto = new PetDto(petId, "Hungry", ownerId, 50, 100, 50, PetType.RABBIT);
-        Pet domain = Pet.fromPrimitives(dto);
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
+        // hunger 100 makes the update match no row and play() raise TooHungryException
+        when(petActionRepository.apply(petId, ownerId, PetAction.PLAY)).thenReturn(Optional.empty());
+        existing(new PetDto(petId, "Hungry", ownerId, 50, 100, 50, PetType.RABBIT));
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(TooHungryException.class)
                 .hasMessageContaining("hungry");
 
-        verify(petRepository, never()).save(any());
+        verify(petActionRepository, times(1)).apply(petId, ownerId, PetAction.PLAY);
     }
 
     @Test
-    @DisplayName("Boundary: stamina floors at 0 and hunger caps at 100 on play")
-    void boundary_staminaFloorAndHungerCap() {
+    @DisplayName("Concurrent change: guard rejected but stats allow play on reload -> retries the update once")
+    void concurrentChange_retriesOnce() {
         String petId = "77777777-7777-7777-7777-777777777777";
         String ownerId = "88888888-8888-8888-8888-888888888888";
 
-        // stamina 10 -> 0; hunger 95 -> 100 after play
-        PetDto dto = new PetDto(petId, "Edge", ownerId, 50, 95, 10, PetType.CANARY);
-        Pet domain = Pet.fromPrimitives(dto);
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(existing.getOwner()).thenReturn(owner);
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
+        PetWithOwnerDto row = new PetWithOwnerDto(petId, "Edge", ownerId, "johnny", 50, 60, 40, PetType.CANARY);
+        when(petActionRepository.apply(petId, ownerId, PetAction.PLAY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(row));
+        existing(new PetDto(petId, "Edge", ownerId, 50, 50, 50, PetType.CANARY));
 
-        Pet result = service.execute(petId, ownerId);
+        PetWithOwnerDto result = service.execute(petId, ownerId);
 
-        assertThat(result.getStamina()).isEqualTo(0);
-        assertThat(result.getHunger()).isEqualTo(100);
-        verify(petRepository).save(any(PetPostgresEntity.class));
+        assertThat(result).isEqualTo(row);
+        verify(petActionRepository, times(2)).apply(petId, ownerId, PetAction.PLAY);
     }
 
     @Test
-    @DisplayName("Repository.save throws -> propagate error")
-    void repositorySaveThrows_propagate() {
+    @DisplayName("Repository throws -> propagate error")
+    void repositoryThrows_propagate() {
         String petId = "99999999-9999-9999-9999-999999999999";
         String ownerId = "00000000-0000-0000-0000-000000000000";
-
-        PetDto dto = new PetDto(petId, "Fluffy", ownerId, 50, 30, 40, PetType.DOG);
-        Pet domain = Pet.fromPrimitives(dto);
-        PetsUserPostgresEntity owner = mock(PetsUserPostgresEntity.class);
-        PetPostgresEntity existing = mock(PetPostgresEntity.class);
-        when(existing.toDomain()).thenReturn(domain);
-        when(existing.getOwner()).thenReturn(owner);
-
-        when(petRepository.findByIdAndOwner_Id(petId, ownerId)).thenReturn(Optional.of(existing));
-        doThrow(new RuntimeException("db error")).when(petRepository).save(any(PetPostgresEntity.class));
+        when(petActionRepository.apply(petId, ownerId, PetAction.PLAY)).thenThrow(new RuntimeException("db error"));
 
         assertThatThrownBy(() -> service.execute(petId, ownerId))
                 .isInstanceOf(RuntimeException.class)
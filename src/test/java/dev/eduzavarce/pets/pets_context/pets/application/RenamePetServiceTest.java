@@ -2,10 +2,13 @@ package dev.eduzavarce.pets.pets_context.pets.application;
 
 import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetRenamed;
 import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetPostgresEntity;
 import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetRepository;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
 import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,11 +31,15 @@ class RenamePetServiceTest {
 
     @Mock
     PetRepository petRepository;
+    @Mock
+    EventBus eventBus;
     @InjectMocks
     RenamePetService service;
 
     @Captor
     ArgumentCaptor<PetPostgresEntity> entityCaptor;
+    @Captor
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
 
     @Test
     @DisplayName("Happy path: renames pet and saves updated entity with same owner")
@@ -62,6 +70,11 @@ class RenamePetServiceTest {
         // Domain state updated
         Pet updated = existing.toDomain(); // our domain instance was mutated by service
         assertThat(updated.getName()).isEqualTo(newName);
+
+        // Published after the save, with the renamed state
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement().isInstanceOf(PetRenamed.class)
+                .extracting(event -> event.toPrimitives().body()).isEqualTo(updated.toPrimitives());
     }
 
     @Test
@@ -182,5 +195,6 @@ class RenamePetServiceTest {
 
         // Domain was updated before save attempt
         assertThat(domain.getName()).isEqualTo("New Name");
+        verifyNoInteractions(eventBus);
     }
 }
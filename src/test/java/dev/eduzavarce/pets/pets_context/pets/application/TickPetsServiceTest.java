@@ -0,0 +1,137 @@
+package dev.eduzavarce.pets.pets_context.pets.application;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetStarving;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.*;
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import dev.eduzavarce.pets.shared.core.domain.EventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TickPetsServiceTest {
+
+    @Mock
+    PetTickRepository petTickRepository;
+    @Mock
+    PetTickCheckpointRepository checkpointRepository;
+    @Mock
+    EventBus eventBus;
+
+    @Captor
+    ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+
+    SimpleMeterRegistry meterRegistry;
+    TickPetsService service;
+
+    @BeforeEach
+    void setUp() {
+        PetTickProperties properties = new PetTickProperties();
+        properties.setPartitions(2);
+        properties.setBatchSize(100);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TickPetsService(petTickRepository, checkpointRepository, eventBus,
+                new SyncTaskExecutor(), properties, meterRegistry);
+    }
+
+    private static final PetTickBatch EXHAUSTED = new PetTickBatch(null, List.of());
+    // Bounds of the two partitions the tests run with
+    private static final String NIL = "00000000-0000-0000-0000-000000000000";
+    private static final String LAST_OF_7F = "7fffffff-ffff-ffff-ffff-ffffffffffff";
+    private static final String FIRST_OF_80 = "80000000-0000-0000-0000-000000000000";
+    private static final String MAX = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+
+    @Test
+    @DisplayName("New sweep: creates one checkpoint per partition, settles each range and publishes starving pets")
+    void newSweepSettlesAllPartitions() {
+        when(checkpointRepository.findAll()).thenReturn(List.of());
+        when(checkpointRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PetDto starving = new PetDto("1aaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", "Fluffy",
+                "22222222-2222-2222-2222-222222222222", 40, 100, 0, PetType.CAT);
+        PetDto fine = new PetDto("2aaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", "Rex",
+                "22222222-2222-2222-2222-222222222222", 80, 60, 30, PetType.DOG);
+        when(petTickRepository.settleBatch(NIL, FIRST_OF_80, 100)).thenReturn(new PetTickBatch(fine.id(),
+                List.of(new SettledPet(starving, 42), new SettledPet(fine, 80))));
+        when(petTickRepository.settleBatch(fine.id(), FIRST_OF_80, 100)).thenReturn(EXHAUSTED);
+        when(petTickRepository.settleBatch(LAST_OF_7F, MAX, 100)).thenReturn(EXHAUSTED);
+
+        service.execute();
+
+        verify(checkpointRepository).deleteAllInBatch();
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement()
+                .isInstanceOfSatisfying(PetStarving.class, event -> assertThat(event.aggregateId()).isEqualTo(starving.id()));
+
+        assertThat(meterRegistry.get("pets.tick.settled").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("pets.tick.events").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pets.tick.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("pets.tick.lag").gauge().value()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Resume: an interrupted sweep continues each pending partition from its checkpoint")
+    void resumesFromCheckpoint() {
+        Timestamp sweepStartedAt = Timestamp.valueOf("2025-01-01 10:00:00");
+        PetTickCheckpointPostgresEntity done = new PetTickCheckpointPostgresEntity(0, sweepStartedAt, "7f000000-0000-0000-0000-000000000000");
+        done.complete();
+        PetTickCheckpointPostgresEntity pending = new PetTickCheckpointPostgresEntity(1, sweepStartedAt, "9c000000-0000-0000-0000-000000000000");
+        when(checkpointRepository.findAll()).thenReturn(List.of(done, pending));
+        when(petTickRepository.settleBatch(pending.getLastId(), MAX, 100)).thenReturn(EXHAUSTED);
+
+        service.execute();
+
+        verify(checkpointRepository, never()).deleteAllInBatch();
+        verify(petTickRepository).settleBatch("9c000000-0000-0000-0000-000000000000", MAX, 100);
+        verifyNoMoreInteractions(petTickRepository);
+        verifyNoInteractions(eventBus);
+        assertThat(pending.isCompleted()).isTrue();
+        verify(checkpointRepository).save(pending);
+    }
+
+    @Test
+    @DisplayName("Checkpoint advances after every batch so a restart does not redo finished batches")
+    void checkpointAdvancesPerBatch() {
+        when(checkpointRepository.findAll()).thenReturn(List.of());
+        when(checkpointRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(petTickRepository.settleBatch(NIL, FIRST_OF_80, 100)).thenReturn(new PetTickBatch("3f000000-0000-0000-0000-000000000000", List.of()));
+        when(petTickRepository.settleBatch("3f000000-0000-0000-0000-000000000000", FIRST_OF_80, 100)).thenReturn(EXHAUSTED);
+        when(petTickRepository.settleBatch(LAST_OF_7F, MAX, 100)).thenReturn(EXHAUSTED);
+
+        service.execute();
+
+        ArgumentCaptor<PetTickCheckpointPostgresEntity> saved = ArgumentCaptor.forClass(PetTickCheckpointPostgresEntity.class);
+        verify(checkpointRepository, times(3)).save(saved.capture());
+        assertThat(saved.getAllValues()).allSatisfy(checkpoint -> assertThat(checkpoint.isCompleted()).isTrue());
+        assertThat(saved.getAllValues().getFirst().getLastId()).isEqualTo("3f000000-0000-0000-0000-000000000000");
+    }
+
+    @Test
+    @DisplayName("Partitions: ranges cover the whole id space contiguously and clamp the count")
+    void partitionsCoverIdSpace() {
+        List<PetTickPartition> four = PetTickPartition.split(4);
+
+        assertThat(four).extracting(PetTickPartition::lowerBound).containsExactly(NIL,
+                "3fffffff-ffff-ffff-ffff-ffffffffffff", LAST_OF_7F, "bfffffff-ffff-ffff-ffff-ffffffffffff");
+        assertThat(four).extracting(PetTickPartition::upperBound).containsExactly("40000000-0000-0000-0000-000000000000",
+                FIRST_OF_80, "c0000000-0000-0000-0000-000000000000", MAX);
+        assertThat(PetTickPartition.split(0)).hasSize(1);
+        assertThat(PetTickPartition.split(10_000)).hasSize(256);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.eduzavarce.pets.pets_context.pets.domain;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PetTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T10:00:00Z");
+
+    private Pet pet(int health, int hunger, int stamina, PetType type, Instant lastEvaluatedAt) {
+        return Pet.fromPrimitives(new PetDto("11111111-1111-1111-1111-111111111111", "Fluffy",
+                "22222222-2222-2222-2222-222222222222", health, hunger, stamina, type), lastEvaluatedAt);
+    }
+
+    @Test
+    @DisplayName("Decay: each whole period raises hunger and lowers stamina; the partial period is kept")
+    void evaluateAt_appliesWholePeriodsAndKeepsRemainder() {
+        Duration period = PetType.CAT.decayPeriod();
+        Pet pet = pet(50, 40, 60, PetType.CAT, T0);
+
+        pet.evaluateAt(T0.plus(period.multipliedBy(5)).plusSeconds(10));
+
+        assertThat(pet.getHunger()).isEqualTo(40 + 5 * PetType.CAT.hungerPerPeriod());
+        assertThat(pet.getStamina()).isEqualTo(60 - 5 * PetType.CAT.staminaPerPeriod());
+        assertThat(pet.getHealth()).isEqualTo(50);
+        assertThat(pet.getLastEvaluatedAt()).isEqualTo(T0.plus(period.multipliedBy(5)));
+    }
+
+    @Test
+    @DisplayName("Decay: evaluating in several steps ends in the same state as evaluating once")
+    void evaluateAt_isPathIndependent() {
+        Duration period = PetType.DOG.decayPeriod();
+        Instant end = T0.plus(period.multipliedBy(7)).plusSeconds(42);
+        Pet once = pet(80, 95, 10, PetType.DOG, T0);
+        Pet stepped = pet(80, 95, 10, PetType.DOG, T0);
+
+        once.evaluateAt(end);
+        for (Instant t = T0.plusSeconds(100); t.isBefore(end); t = t.plus(period.dividedBy(3))) {
+            stepped.evaluateAt(t);
+        }
+        stepped.evaluateAt(end);
+
+        assertThat(stepped.toPrimitives()).isEqualTo(once.toPrimitives());
+        assertThat(stepped.getLastEvaluatedAt()).isEqualTo(once.getLastEvaluatedAt());
+    }
+
+    @Test
+    @DisplayName("Decay: health only drops for the periods spent with hunger maxed, floored at 0")
+    void evaluateAt_starvationDrainsHealth() {
+        Duration period = PetType.CANARY.decayPeriod();
+        // Hunger 98 reaches 100 after 2 periods; the remaining 3 periods drain health
+        Pet pet = pet(50, 98, 50, PetType.CANARY, T0);
+
+        pet.evaluateAt(T0.plus(period.multipliedBy(5)));
+
+        assertThat(pet.getHunger()).isEqualTo(PetHunger.MAX);
+        assertThat(pet.getHealth()).isEqualTo(50 - 3 * PetType.CANARY.healthPerStarvingPeriod());
+
+        pet.evaluateAt(T0.plus(period.multipliedBy(1_000)));
+        assertThat(pet.getHealth()).isEqualTo(PetHealth.MIN);
+        assertThat(pet.getStamina()).isEqualTo(PetStamina.MIN);
+    }
+
+    @Test
+    @DisplayName("Decay: pets without an evaluation checkpoint are left untouched")
+    void evaluateAt_withoutCheckpointIsNoop() {
+        Pet pet = pet(50, 40, 60, PetType.CAT, null);
+
+        pet.evaluateAt(T0.plus(Duration.ofDays(30)));
+
+        assertThat(pet.toPrimitives()).isEqualTo(new PetDto("11111111-1111-1111-1111-111111111111", "Fluffy",
+                "22222222-2222-2222-2222-222222222222", 50, 40, 60, PetType.CAT));
+        assertThat(pet.getLastEvaluatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Actions: each one records its event carrying the stats after the change")
+    void actions_recordEventsWithNewState() {
+        Pet pet = pet(50, 40, 60, PetType.CAT, null);
+
+        pet.feed();
+        pet.play();
+        pet.sleep();
+        pet.delete();
+
+        var events = pet.pullDomainEvents();
+        assertThat(events).extracting(DomainEvent::eventName)
+                .containsExactly("pet.fed", "pet.played", "pet.slept", "pet.deleted");
+        assertThat(events).extracting(event -> event.toPrimitives().body()).last().isEqualTo(pet.toPrimitives());
+        assertThat(events).extracting(DomainEvent::isStateSnapshot).containsExactly(true, true, true, false);
+        assertThat(pet.pullDomainEvents()).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class PetEventStreamTest {
+
+    private static final String OWNER = "22222222-2222-2222-2222-222222222222";
+    private static final String OTHER_OWNER = "33333333-3333-3333-3333-333333333333";
+    private static final String PET_ID = "11111111-1111-1111-1111-111111111111";
+
+    @Mock
+    PetsUserRepository petsUserRepository;
+
+    SimpleMeterRegistry meterRegistry;
+    List<Runnable> pendingWrites;
+    boolean writeInline;
+    PetEventStream stream;
+
+    /**
+     * Records what would be written to the client, or fails like a closed socket.
+     */
+    static class RecordingEmitter extends SseEmitter {
+        final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        boolean broken;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (broken) throw new IOException("Broken pipe");
+            sent.add(items);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pendingWrites = new ArrayList<>();
+        writeInline = true;
+        Executor writers = task -> {
+            if (writeInline) task.run();
+            else pendingWrites.add(task);
+        };
+        stream = new PetEventStream(petsUserRepository, meterRegistry, 2, Duration.ofMinutes(30), writers);
+    }
+
+    private static DomainEventDto fed(String ownerId, int hunger) {
+        return new DomainEventDto("evt-" + hunger, "pet.fed", "2025-01-01", PET_ID,
+                new PetDto(PET_ID, "Fluffy", ownerId, 50, hunger, 60, PetType.CAT));
+    }
+
+    private static List<Object> payloads(RecordingEmitter emitter) {
+        return emitter.sent.stream().flatMap(Set::stream).map(DataWithMediaType::getData).toList();
+    }
+
+    @Test
+    @DisplayName("A pet event reaches only its owner's connections, named after the event, with the pet row")
+    void deliversToOwnerOnly() {
+        RecordingEmitter mine = new RecordingEmitter();
+        RecordingEmitter theirs = new RecordingEmitter();
+        stream.register(OWNER, "johnny", mine);
+        stream.register(OTHER_OWNER, "jane", theirs);
+
+        stream.onEvent(fed(OWNER, 40));
+
+        assertThat(payloads(mine))
+                .contains(new PetWithOwnerDto(PET_ID, "Fluffy", OWNER, "johnny", 50, 40, 60, PetType.CAT))
+                .anySatisfy(part -> assertThat(part.toString()).contains("event:pet.fed"));
+        assertThat(theirs.sent).isEmpty();
+        assertThat(meterRegistry.get("pets.stream.events").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Events that are not about a pet are ignored")
+    void ignoresOtherEvents() {
+        RecordingEmitter mine = new RecordingEmitter();
+        stream.register(OWNER, "johnny", mine);
+
+        stream.onEvent(new DomainEventDto("evt-1", "user.created", "2025-01-01", OWNER, "not a pet"));
+
+        assertThat(mine.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A client that stops reading is disconnected once its buffer is full")
+    void slowConsumerIsEvicted() {
+        writeInline = false;
+        RecordingEmitter slow = new RecordingEmitter();
+        stream.register(OWNER, "johnny", slow);
+
+        stream.onEvent(fed(OWNER, 40));
+        stream.onEvent(fed(OWNER, 30));
+        assertThat(stream.openConnections()).isEqualTo(1);
+
+        stream.onEvent(fed(OWNER, 20));
+
+        assertThat(stream.openConnections()).isZero();
+        assertThat(meterRegistry.get("pets.stream.evicted").counter().count()).isEqualTo(1.0);
+        // One writer for both buffered events, plus the deferred complete() of the eviction
+        assertThat(pendingWrites).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("A failed write drops the connection")
+    void brokenConnectionIsRemoved() {
+        RecordingEmitter gone = new RecordingEmitter();
+        gone.broken = true;
+        stream.register(OWNER, "johnny", gone);
+
+        stream.onEvent(fed(OWNER, 40));
+
+        assertThat(stream.openConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("Heartbeats go to idle connections only")
+    void heartbeatsIdleConnections() {
+        RecordingEmitter idle = new RecordingEmitter();
+        stream.register(OWNER, "johnny", idle);
+
+        stream.heartbeat();
+
+        assertThat(payloads(idle)).singleElement().satisfies(part -> assertThat(part.toString()).contains(":heartbeat"));
+
+        writeInline = false;
+        RecordingEmitter busy = new RecordingEmitter();
+        stream.register(OTHER_OWNER, "jane", busy);
+        stream.onEvent(fed(OTHER_OWNER, 40));
+        stream.heartbeat();
+        pendingWrites.forEach(Runnable::run);
+
+        assertThat(payloads(busy)).noneSatisfy(part -> assertThat(part.toString()).contains(":heartbeat"));
+    }
+}
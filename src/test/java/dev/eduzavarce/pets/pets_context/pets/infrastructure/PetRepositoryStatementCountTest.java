@@ -0,0 +1,106 @@
+package dev.eduzavarce.pets.pets_context.pets.infrastructure;
+
+import dev.eduzavarce.pets.pets_context.pets.application.GetPetByIdService;
+import dev.eduzavarce.pets.pets_context.pets.application.GetUserPetsService;
+import dev.eduzavarce.pets.pets_context.pets.application.ListAllPetsService;
+import dev.eduzavarce.pets.pets_context.pets.domain.Pet;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetWithOwnerDto;
+import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the read paths against N+1 owner loading: the number of SQL statements
+ * must not grow with the number of owners in the result.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // The migrations are PostgreSQL; the H2 schema comes from the mappings
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PetRepositoryStatementCountTest {
+
+    @Autowired
+    TestEntityManager em;
+    @Autowired
+    PetRepository petRepository;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    private List<PetsUserPostgresEntity> seed(int owners, int petsPerOwner) {
+        List<PetsUserPostgresEntity> seeded = new ArrayList<>();
+        for (int o = 0; o < owners; o++) {
+            PetsUserPostgresEntity owner = new PetsUserPostgresEntity(
+                    new PetUserDto(UUID.randomUUID().toString(), "owner" + o));
+            em.persist(owner);
+            for (int p = 0; p < petsPerOwner; p++) {
+                Pet pet = Pet.fromPrimitives(new PetDto(UUID.randomUUID().toString(), "Pet" + o + "-" + p,
+                        owner.getId(), 50, 50, 50, PetType.CAT));
+                em.persist(new PetPostgresEntity(pet, owner));
+            }
+            seeded.add(owner);
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+        return seeded;
+    }
+
+    @Test
+    @DisplayName("Backoffice first page runs the page query and one count regardless of owner count")
+    void backofficePageIsConstant() {
+        seed(25, 2);
+        ListAllPetsService service = new ListAllPetsService(petRepository, null);
+
+        var page = service.execute(null, 50);
+
+        assertThat(page.data()).hasSize(50);
+        assertThat(page.data()).extracting(PetWithOwnerDto::ownerUsername).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("User pet list and single pet lookup run one statement each")
+    void userReadsAreSingleStatement() {
+        PetsUserPostgresEntity owner = seed(3, 10).getFirst();
+        GetUserPetsService listService = new GetUserPetsService(petRepository);
+        GetPetByIdService byIdService = new GetPetByIdService(petRepository);
+
+        List<PetWithOwnerDto> pets = listService.execute(owner.getId());
+
+        assertThat(pets).hasSize(10).allSatisfy(p -> assertThat(p.ownerUsername()).isEqualTo("owner0"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        PetWithOwnerDto pet = byIdService.execute(pets.getFirst().id(), owner.getId());
+
+        assertThat(pet.ownerUsername()).isEqualTo("owner0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -1,6 +1,8 @@
 package dev.eduzavarce.pets.pets_context.users.application;
 
 import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserBatchRepository;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserPostgresEntity;
 import dev.eduzavarce.pets.pets_context.users.infrastructure.PetsUserRepository;
 import dev.eduzavarce.pets.shared.core.domain.DomainEvent;
@@ -18,6 +20,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +29,8 @@ class CreatePetUserServiceTest {
     @Mock
     PetsUserRepository petsUserRepository;
     @Mock
+    PetsUserBatchRepository petsUserBatchRepository;
+    @Mock
     EventBus eventBus;
 
     @InjectMocks
@@ -35,6 +40,8 @@ class CreatePetUserServiceTest {
     ArgumentCaptor<PetsUserPostgresEntity> entityCaptor;
     @Captor
     ArgumentCaptor<List<DomainEvent>> eventsCaptor;
+    @Captor
+    ArgumentCaptor<List<PetUserDto>> batchCaptor;
 
     private static UserDto userDto(String id, String username, String email) {
         return new UserDto(id, username, email, "ROLE_USER");
@@ -117,4 +124,53 @@ class CreatePetUserServiceTest {
         verify(petsUserRepository).save(any(PetsUserPostgresEntity.class));
         verify(eventBus).publish(any());
     }
+
+    @Test
+    @DisplayName("Batch: inserts all valid users in one call and publishes events only for inserted rows")
+    void batchInsertsAndPublishesInserted() {
+        String a = "55555555-5555-5555-5555-555555555555";
+        String b = "66666666-6666-6666-6666-666666666666";
+        when(petsUserBatchRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<PetUserDto> users = invocation.getArgument(0);
+            return List.of(users.getFirst()); // second one already existed
+        });
+
+        service.executeAll(List.of(userDto(a, "ann", "ann@example.com"), userDto(b, "bob", "bob@example.com")));
+
+        verify(petsUserBatchRepository).insertAll(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).extracting(PetUserDto::id).containsExactly(a, b);
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement()
+                .satisfies(event -> assertThat(event.aggregateId()).isEqualTo(a));
+        verify(petsUserRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Batch: an invalid user is skipped without failing the rest of the batch")
+    void batchSkipsInvalidUsers() {
+        String a = "77777777-7777-7777-7777-777777777777";
+        when(petsUserBatchRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.executeAll(List.of(userDto(a, "carol", "carol@example.com"),
+                userDto("88888888-8888-8888-8888-888888888888", "   ", "blank@example.com")));
+
+        verify(petsUserBatchRepository).insertAll(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).extracting(PetUserDto::id).containsExactly(a);
+        verify(eventBus).publish(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Batch: users with a missing or malformed id are skipped as invalid input")
+    void batchSkipsUsersWithoutValidId() {
+        String a = "99999999-9999-9999-9999-999999999999";
+        when(petsUserBatchRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.executeAll(List.of(userDto(null, "dave", "dave@example.com"),
+                userDto("not-a-uuid", "erin", "erin@example.com"),
+                userDto(a, "frank", "frank@example.com")));
+
+        verify(petsUserBatchRepository).insertAll(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).extracting(PetUserDto::id).containsExactly(a);
+    }
 }
@@ -0,0 +1,125 @@
+package dev.eduzavarce.pets.pets_context.users.infrastructure;
+
+import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.pets_context.users.application.CreatePetUserService;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.infrastructure.DomainEventMessageConverter;
+import dev.eduzavarce.pets.shared.core.infrastructure.IdempotentConsumer;
+import dev.eduzavarce.pets.shared.core.infrastructure.RabbitConsumerMetrics;
+import dev.eduzavarce.pets.shared.core.infrastructure.RetryingMessageRecoverer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreatePetsUserOnUserCreatedTest {
+
+    private static final String QUEUE = "user-created-pets.q";
+
+    @Mock
+    CreatePetUserService createPetUserService;
+    @Mock
+    IdempotentConsumer idempotentConsumer;
+    @Mock
+    RabbitConsumerMetrics consumerMetrics;
+    @Mock
+    DomainEventMessageConverter converter;
+    @Mock
+    RetryingMessageRecoverer recoverer;
+
+    CreatePetsUserOnUserCreated listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CreatePetsUserOnUserCreated(createPetUserService, idempotentConsumer, consumerMetrics,
+                converter, recoverer, QUEUE);
+    }
+
+    private static Message message(String messageId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(messageId);
+        return new Message(new byte[0], properties);
+    }
+
+    private static UserDto user(String id) {
+        return new UserDto(id, "user-" + id.charAt(0), id.charAt(0) + "@example.com", "ROLE_USER");
+    }
+
+    private static DomainEventDto userCreated(UserDto user) {
+        return new DomainEventDto("evt-" + user.id(), "user.created", "2025-01-01 10:00:00", user.id(), user);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passFreshEventsThrough() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<DomainEventDto>>>getArgument(2).accept(invocation.getArgument(1));
+            return null;
+        }).when(idempotentConsumer).handleAll(eq(CreatePetsUserOnUserCreated.CONSUMER), anyList(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Mixed batch: only the unconvertible message is dead-lettered, its batch-mates are created")
+    void mixedBatchDeadLettersOnlyThePoisonMessage() {
+        UserDto ann = user("11111111-1111-1111-1111-111111111111");
+        UserDto bob = user("22222222-2222-2222-2222-222222222222");
+        Message first = message("m1");
+        Message poison = message("m2");
+        Message last = message("m3");
+        MessageConversionException malformed = new MessageConversionException("Malformed binary event m2");
+        when(converter.fromMessage(first)).thenReturn(userCreated(ann));
+        when(converter.fromMessage(poison)).thenThrow(malformed);
+        when(converter.fromMessage(last)).thenReturn(userCreated(bob));
+        passFreshEventsThrough();
+
+        listener.onMessages(List.of(first, poison, last));
+
+        verify(recoverer).recover(poison, malformed);
+        verify(recoverer, never()).recover(anyList(), any());
+        verify(createPetUserService).executeAll(List.of(ann, bob));
+    }
+
+    @Test
+    @DisplayName("Mixed batch: when the convertible messages fail they are thrown for the normal retry path")
+    void mixedBatchFailureIsRetried() {
+        UserDto ann = user("11111111-1111-1111-1111-111111111111");
+        Message first = message("m1");
+        Message poison = message("m2");
+        MessageConversionException malformed = new MessageConversionException("Malformed binary event m2");
+        when(converter.fromMessage(first)).thenReturn(userCreated(ann));
+        when(converter.fromMessage(poison)).thenThrow(malformed);
+        passFreshEventsThrough();
+        doThrow(new IllegalStateException("db down")).when(createPetUserService).executeAll(anyList());
+
+        assertThatThrownBy(() -> listener.onMessages(List.of(first, poison)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+
+        verify(recoverer).recover(poison, malformed);
+        verifyNoMoreInteractions(recoverer);
+    }
+
+    @Test
+    @DisplayName("A batch of only unconvertible messages dead-letters them without touching the database")
+    void onlyPoisonMessages() {
+        Message poison = message("m1");
+        MessageConversionException malformed = new MessageConversionException("Malformed binary event m1");
+        when(converter.fromMessage(poison)).thenThrow(malformed);
+
+        listener.onMessages(List.of(poison));
+
+        verify(recoverer).recover(poison, malformed);
+        verifyNoInteractions(idempotentConsumer, createPetUserService);
+    }
+}
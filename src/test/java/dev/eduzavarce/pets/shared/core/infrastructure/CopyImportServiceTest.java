@@ -0,0 +1,156 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn.Type;
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyImportResult.RejectedRow;
+import dev.eduzavarce.pets.shared.exceptions.AlreadyExistsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CopyImportServiceTest {
+
+    /**
+     * Two text columns; a row is valid when its name is not "bad", and is upper-cased by validation.
+     */
+    static class NamesTable implements CopyTable {
+        @Override
+        public String name() {
+            return "names";
+        }
+
+        @Override
+        public List<CopyColumn> columns() {
+            return List.of(new CopyColumn("id", Type.TEXT), new CopyColumn("name", Type.TEXT));
+        }
+
+        @Override
+        public String[] validate(String[] row) {
+            if ("bad".equals(row[1])) throw new IllegalArgumentException("Bad name");
+            return new String[]{row[0], row[1].toUpperCase()};
+        }
+
+        @Override
+        public String insertFromStage() {
+            return "INSERT INTO names SELECT * FROM copy_stage ON CONFLICT DO NOTHING";
+        }
+    }
+
+    @Mock
+    CopyJobRepository jobs;
+    @Mock
+    TableCopyRepository copyRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    NamesTable table = new NamesTable();
+    CopyImportService service;
+    List<String> loaded;
+
+    @BeforeEach
+    void setUp() {
+        service = new CopyImportService(new CopyTables(List.of(table)), jobs, copyRepository, transactionManager, 2, 2, 10);
+        loaded = new ArrayList<>();
+        lenient().when(copyRepository.load(eq(table), anyString())).thenAnswer(invocation -> {
+            String csv = invocation.getArgument(1);
+            loaded.add(csv);
+            return csv.lines().count();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    private static CopyJob job(long rowsRead, Timestamp completedAt) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return new CopyJob("job-1", "names", CopyFormat.CSV, rowsRead, 0, 0, 0, now, now, completedAt, null);
+    }
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Rows are loaded chunk by chunk in input order, each chunk advancing the job in its transaction")
+    void loadsChunksInOrder() {
+        when(jobs.startOrResume("job-1", "names", CopyFormat.CSV)).thenReturn(job(0, null));
+        when(jobs.find("job-1")).thenReturn(Optional.of(job(5, null)));
+
+        CopyImportResult result = service.importRows("job-1", "names", CopyFormat.CSV,
+                csv("id,name\n1,a\n2,bad\n3,c\n4,d\n5,e\n"));
+
+        assertThat(loaded).containsExactly("\"1\",\"A\"\n", "\"3\",\"C\"\n\"4\",\"D\"\n", "\"5\",\"E\"\n");
+        assertThat(result.rejectedRows()).containsExactly(new RejectedRow(2, "Bad name"));
+        verify(jobs).advance("job-1", 2, 1, 0, 1);
+        verify(jobs).advance("job-1", 2, 2, 0, 0);
+        verify(jobs).advance("job-1", 1, 1, 0, 0);
+        verify(transactionManager, times(3)).commit(any());
+        verify(jobs).complete("job-1");
+    }
+
+    @Test
+    @DisplayName("A resumed job skips the rows it already read")
+    void resumesAfterRowsRead() {
+        when(jobs.startOrResume("job-1", "names", CopyFormat.CSV)).thenReturn(job(3, null));
+        when(jobs.find("job-1")).thenReturn(Optional.of(job(5, null)));
+
+        service.importRows("job-1", "names", CopyFormat.CSV, csv("id,name\n1,a\n2,b\n3,c\n4,d\n5,e\n"));
+
+        assertThat(loaded).containsExactly("\"4\",\"D\"\n\"5\",\"E\"\n");
+        verify(jobs).advance("job-1", 2, 2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("A completed job is returned as is without reading the input")
+    void completedJob() {
+        CopyJob completed = job(5, new Timestamp(System.currentTimeMillis()));
+        when(jobs.startOrResume("job-1", "names", CopyFormat.CSV)).thenReturn(completed);
+
+        CopyImportResult result = service.importRows("job-1", "names", CopyFormat.CSV, csv("garbage"));
+
+        assertThat(result.job()).isEqualTo(completed);
+        verifyNoInteractions(copyRepository);
+    }
+
+    @Test
+    @DisplayName("Malformed input stops the job and records the error on it")
+    void malformedInputFailsJob() {
+        when(jobs.startOrResume("job-1", "names", CopyFormat.CSV)).thenReturn(job(0, null));
+
+        assertThatThrownBy(() -> service.importRows("job-1", "names", CopyFormat.CSV, csv("id,name\n1,a\n2,b\n3,\"c\n")))
+                .hasMessageContaining("unterminated");
+
+        verify(jobs).fail(eq("job-1"), contains("unterminated"));
+        verify(jobs, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("A job id of another table is refused")
+    void jobOfAnotherTable() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        when(jobs.startOrResume("job-1", "names", CopyFormat.CSV))
+                .thenReturn(new CopyJob("job-1", "pets", CopyFormat.CSV, 0, 0, 0, 0, now, now, null, null));
+
+        assertThatThrownBy(() -> service.importRows("job-1", "names", CopyFormat.CSV, csv("id,name\n")))
+                .isInstanceOf(AlreadyExistsException.class);
+    }
+}
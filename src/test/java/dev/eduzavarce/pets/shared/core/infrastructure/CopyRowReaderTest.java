@@ -0,0 +1,102 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.infrastructure.CopyColumn.Type;
+import dev.eduzavarce.pets.shared.exceptions.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CopyRowReaderTest {
+
+    private static final List<CopyColumn> COLUMNS = List.of(
+            new CopyColumn("id", Type.UUID),
+            new CopyColumn("name", Type.TEXT),
+            new CopyColumn("health", Type.INT4),
+            new CopyColumn("created_at", Type.TIMESTAMP));
+    private static final String PET_ID = "11111111-1111-1111-1111-111111111111";
+
+    private static List<String[]> readAll(CopyFormat format, byte[] data) throws IOException {
+        CopyRowReader reader = CopyRowReader.open(format, new ByteArrayInputStream(data), COLUMNS);
+        List<String[]> rows = new ArrayList<>();
+        String[] row;
+        while ((row = reader.next()) != null) rows.add(row);
+        return rows;
+    }
+
+    private static byte[] csv(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("CSV: quoted commas, doubled quotes and line breaks are kept; unquoted empty is NULL, quoted empty is ''")
+    void csvQuotingAndNulls() throws IOException {
+        List<String[]> rows = readAll(CopyFormat.CSV, csv("""
+                id,name,health,created_at\r
+                %s,"Flu,""ffy""
+                jr",50,
+                ,"",,2025-01-01 10:00:00
+                """.formatted(PET_ID)));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsExactly(PET_ID, "Flu,\"ffy\"\njr", "50", null);
+        assertThat(rows.get(1)).containsExactly(null, "", null, "2025-01-01 10:00:00");
+    }
+
+    @Test
+    @DisplayName("CSV: a header that does not name the table's columns is refused")
+    void csvHeaderMismatch() {
+        assertThatThrownBy(() -> readAll(CopyFormat.CSV, csv("id,health,name,created_at\n")))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("id,name,health,created_at");
+    }
+
+    @Test
+    @DisplayName("CSV: an unterminated quote is malformed data")
+    void csvUnterminatedQuote() {
+        assertThatThrownBy(() -> readAll(CopyFormat.CSV, csv("id,name,health,created_at\n" + PET_ID + ",\"Fluffy,50,\n")))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("record 2");
+    }
+
+    @Test
+    @DisplayName("Binary: tuples are decoded by column type up to the trailer")
+    void binaryTuples() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0});
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeShort(4);
+        out.writeInt(16);
+        out.writeLong(0x1111111111111111L);
+        out.writeLong(0x1111111111111111L);
+        byte[] name = "Rex".getBytes(StandardCharsets.UTF_8);
+        out.writeInt(name.length);
+        out.write(name);
+        out.writeInt(4);
+        out.writeInt(80);
+        out.writeInt(-1);
+        out.writeShort(-1);
+
+        List<String[]> rows = readAll(CopyFormat.BINARY, bytes.toByteArray());
+
+        assertThat(rows).singleElement().satisfies(row -> assertThat(row).containsExactly(PET_ID, "Rex", "80", null));
+    }
+
+    @Test
+    @DisplayName("Binary: data without the COPY signature is refused")
+    void binaryBadSignature() {
+        assertThatThrownBy(() -> readAll(CopyFormat.BINARY, csv("id,name,health,created_at\n")))
+                .isInstanceOf(CustomException.class);
+    }
+}
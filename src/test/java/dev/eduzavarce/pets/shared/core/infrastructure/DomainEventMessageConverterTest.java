@@ -0,0 +1,120 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.auth.users.infrastructure.UserDtoEventSchema;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import dev.eduzavarce.pets.pets_context.pets.infrastructure.PetDtoEventSchema;
+import dev.eduzavarce.pets.pets_context.users.domain.PetUserDto;
+import dev.eduzavarce.pets.pets_context.users.infrastructure.PetUserDtoEventSchema;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventMessageConverterTest {
+
+    private static final String EVENT_ID = "5b1f0d7e-2c1a-4e0b-9d55-0c8f7a3e2b91";
+    private static final String USER_ID = "3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e";
+
+    private final EventBodySchemas schemas = new EventBodySchemas(
+            List.of(new UserDtoEventSchema(), new PetDtoEventSchema(), new PetUserDtoEventSchema()));
+    private final DomainEventCodec codec = new DomainEventCodec(schemas);
+
+    private DomainEventMessageConverter converter(DomainEventMessageConverter.WireFormat format) {
+        return new DomainEventMessageConverter(new Jackson2JsonMessageConverter(), codec, schemas, new ObjectMapper(), format);
+    }
+
+    private DomainEventDto userCreated() {
+        return new DomainEventDto(EVENT_ID, "user.created", "2025-01-01", USER_ID,
+                new UserDto(USER_ID, "john.doe", "john@doe.com", "USER"));
+    }
+
+    @Test
+    @DisplayName("Binary: every body schema round-trips to the same typed event")
+    void binaryRoundTrip() {
+        DomainEventMessageConverter converter = converter(DomainEventMessageConverter.WireFormat.BINARY);
+        List<DomainEventDto> events = List.of(
+                userCreated(),
+                new DomainEventDto(EVENT_ID, "pet.created", "2025-01-01", "a1b2c3d4-e5f6-7890-abcd-ef0123456789",
+                        new PetDto("a1b2c3d4-e5f6-7890-abcd-ef0123456789", "Fluffy", USER_ID, 50, 0, 100, PetType.CAT)),
+                new DomainEventDto(EVENT_ID, "pets.users.created", "2025-01-01", USER_ID, new PetUserDto(USER_ID, "john.doe")),
+                new DomainEventDto("not-a-uuid", "user.deleted", "2025-01-01", "legacy-id", null));
+
+        for (DomainEventDto event : events) {
+            Message message = converter.toMessage(event, new MessageProperties());
+
+            assertThat(message.getMessageProperties().getContentType())
+                    .isEqualTo(DomainEventMessageConverter.BINARY_CONTENT_TYPE);
+            assertThat(converter.fromMessage(message)).isEqualTo(event);
+        }
+    }
+
+    @Test
+    @DisplayName("Binary: a user.created event is much smaller than its JSON form")
+    void binaryIsCompact() {
+        byte[] json = converter(DomainEventMessageConverter.WireFormat.JSON).toMessage(userCreated(), new MessageProperties()).getBody();
+        byte[] binary = converter(DomainEventMessageConverter.WireFormat.BINARY).toMessage(userCreated(), new MessageProperties()).getBody();
+
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("JSON: map bodies are decoded to the type registered for the event name")
+    void jsonBodiesAreTyped() {
+        DomainEventMessageConverter converter = converter(DomainEventMessageConverter.WireFormat.JSON);
+        DomainEventDto untyped = new DomainEventDto(EVENT_ID, "user.created", "2025-01-01", USER_ID,
+                Map.of("id", USER_ID, "username", "john.doe", "email", "john@doe.com", "role", "USER"));
+
+        Message message = converter.toMessage(untyped, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(converter.fromMessage(message)).isEqualTo(userCreated());
+    }
+
+    @Test
+    @DisplayName("Binary producer falls back to JSON for bodies without a schema, and a binary consumer reads both")
+    void unknownBodiesStayJson() {
+        DomainEventMessageConverter binary = converter(DomainEventMessageConverter.WireFormat.BINARY);
+        DomainEventDto event = new DomainEventDto(EVENT_ID, "audit.logged", "2025-01-01", USER_ID, Map.of("k", "v"));
+
+        Message message = binary.toMessage(event, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(binary.fromMessage(message)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Truncated or unknown binary payloads fail with a conversion error")
+    void malformedBinaryFails() {
+        DomainEventMessageConverter converter = converter(DomainEventMessageConverter.WireFormat.BINARY);
+        byte[] body = converter.toMessage(userCreated(), new MessageProperties()).getBody();
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(DomainEventMessageConverter.BINARY_CONTENT_TYPE);
+
+        assertThatThrownBy(() -> converter.fromMessage(new Message(Arrays.copyOf(body, body.length - 3), properties)))
+                .isInstanceOf(MessageConversionException.class);
+        byte[] unknownSchema = body.clone();
+        unknownSchema[1] = 99;
+        assertThatThrownBy(() -> converter.fromMessage(new Message(unknownSchema, properties)))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    @DisplayName("Two schemas claiming the same event name are rejected at startup")
+    void duplicateEventNamesAreRejected() {
+        assertThatThrownBy(() -> new EventBodySchemas(List.of(new UserDtoEventSchema(), new UserDtoEventSchema())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.auth.users.domain.UserDto;
+import dev.eduzavarce.pets.auth.users.infrastructure.UserDtoEventSchema;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
+import dev.eduzavarce.pets.shared.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventReplayServiceTest {
+
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+    private static final Timestamp NOW = Timestamp.valueOf("2025-01-01 10:00:00");
+
+    @Mock
+    EventStoreRepository eventStore;
+    @Mock
+    EventReplayCheckpointRepository checkpoints;
+
+    AtomicLong clock;
+    List<Long> sleeps;
+    List<DomainEventDto> received;
+    DomainEventListener listener;
+    EventReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        sleeps = new ArrayList<>();
+        received = new ArrayList<>();
+        listener = received::add;
+        service = new EventReplayService(eventStore, checkpoints, Map.of("recorder", listener), new ObjectMapper(),
+                new EventBodySchemas(List.of(new UserDtoEventSchema())), new SimpleMeterRegistry(),
+                2, SETTLE, 1000, clock::get, nanos -> {
+            sleeps.add(nanos);
+            clock.addAndGet(nanos);
+        });
+    }
+
+    private static StoredEvent stored(long seq) {
+        String id = "user-" + seq;
+        return new StoredEvent(seq, "evt-" + seq, id, "user.created", "2025-01-01",
+                "{\"id\":\"" + id + "\",\"username\":\"u" + seq + "\",\"email\":\"u" + seq + "@x.com\",\"role\":\"USER\"}", NOW);
+    }
+
+    private static EventReplayCheckpoint checkpoint(long lastSeq, long replayed) {
+        return new EventReplayCheckpoint("rebuild", "recorder", lastSeq, replayed, NOW, NOW, null, null);
+    }
+
+    @Test
+    @DisplayName("Replays from the checkpoint in seq order with typed bodies, checkpointing each batch until caught up")
+    void replaysInOrderAndCompletes() {
+        when(eventStore.readAfter(eq(10L), eq(SETTLE), anyCollection(), eq(2))).thenReturn(List.of(stored(11), stored(12)));
+        when(eventStore.readAfter(eq(12L), eq(SETTLE), anyCollection(), eq(2))).thenReturn(List.of(stored(15)));
+
+        long delivered = service.replay(checkpoint(10, 7), listener, List.of("user.created"), 1000);
+
+        assertThat(delivered).isEqualTo(3);
+        assertThat(received).extracting(DomainEventDto::eventId).containsExactly("evt-11", "evt-12", "evt-15");
+        assertThat(received.getFirst().body()).isEqualTo(new UserDto("user-11", "u11", "u11@x.com", "USER"));
+        InOrder inOrder = inOrder(checkpoints);
+        inOrder.verify(checkpoints).advance("rebuild", 12L, 9L, null);
+        inOrder.verify(checkpoints).advance("rebuild", 15L, 10L, null);
+        inOrder.verify(checkpoints).complete("rebuild");
+    }
+
+    @Test
+    @DisplayName("Events are paced to the requested rate")
+    void pacesToRate() {
+        when(eventStore.readAfter(anyLong(), any(), anyCollection(), anyInt()))
+                .thenReturn(List.of(stored(1), stored(2)))
+                .thenReturn(List.of(stored(3)));
+
+        service.replay(checkpoint(0, 0), listener, List.of(), 10);
+
+        // First event goes out at once, each following one waits for its 100ms slot
+        assertThat(sleeps).containsExactly(100_000_000L, 100_000_000L);
+        assertThat(clock.get()).isEqualTo(200_000_000L);
+    }
+
+    @Test
+    @DisplayName("A listener failure checkpoints the events before it and stops the replay")
+    void listenerFailureCheckpointsAndStops() {
+        when(eventStore.readAfter(anyLong(), any(), anyCollection(), anyInt())).thenReturn(List.of(stored(5), stored(6)));
+        DomainEventListener failing = event -> {
+            if (event.eventId().equals("evt-6")) throw new IllegalStateException("projection down");
+        };
+
+        assertThatThrownBy(() -> service.replay(checkpoint(4, 1), failing, List.of(), 1000))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(checkpoints).advance("rebuild", 5L, 2L, "seq 6: projection down");
+        verify(checkpoints, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("Start: unknown listener is rejected and a completed replay is not run again")
+    void startValidates() {
+        assertThatThrownBy(() -> service.start("rebuild", "nope", List.of(), null))
+                .isInstanceOf(NotFoundException.class);
+
+        EventReplayCheckpoint completed = new EventReplayCheckpoint("rebuild", "recorder", 9, 9, NOW, NOW, NOW, null);
+        when(checkpoints.startOrResume("rebuild", "recorder")).thenReturn(completed);
+
+        assertThat(service.start("rebuild", "recorder", List.of(), null)).isSameAs(completed);
+        verifyNoInteractions(eventStore);
+    }
+
+    @Test
+    @DisplayName("Status of an unknown replay -> NotFoundException")
+    void unknownStatus() {
+        when(checkpoints.find("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.status("missing")).isInstanceOf(NotFoundException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentConsumerTest {
+
+    @Mock
+    ProcessedEventStore store;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    IdempotentConsumer consumer;
+    List<DomainEventDto> handled;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new IdempotentConsumer(store, transactionManager);
+        handled = new ArrayList<>();
+    }
+
+    private static DomainEventDto event(String eventId) {
+        return new DomainEventDto(eventId, "user.created", "2025-01-01 10:00:00", "agg-" + eventId, null);
+    }
+
+    @Test
+    @DisplayName("Only events claimed for the first time reach the handler, in their original order")
+    void skipsAlreadyProcessed() {
+        when(store.claim("c", List.of("e1", "e2", "e3"))).thenReturn(Set.of("e1", "e3"));
+
+        consumer.handleAll("c", List.of(event("e1"), event("e2"), event("e3")), handled::addAll);
+
+        assertThat(handled).extracting(DomainEventDto::eventId).containsExactly("e1", "e3");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("A batch made only of duplicates does not call the handler")
+    void allDuplicates() {
+        when(store.claim("c", List.of("e1"))).thenReturn(Set.of());
+
+        consumer.handle("c", event("e1"), handled::add);
+
+        assertThat(handled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The same event twice in one batch is handled once; events without id are always handled")
+    void duplicateWithinBatchAndMissingIds() {
+        when(store.claim("c", List.of("e1"))).thenReturn(Set.of("e1"));
+
+        consumer.handleAll("c", List.of(event("e1"), event(null), event("e1")), handled::addAll);
+
+        assertThat(handled).extracting(DomainEventDto::eventId).containsExactly("e1", null);
+    }
+}
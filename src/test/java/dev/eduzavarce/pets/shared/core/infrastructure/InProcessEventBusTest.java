@@ -0,0 +1,158 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InProcessEventBusTest {
+
+    SimpleMeterRegistry meterRegistry;
+    InProcessEventBus bus;
+    CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (bus != null) bus.destroy();
+    }
+
+    private static DomainEventDto event(String aggregateId) {
+        return new DomainEventDto("evt-" + aggregateId, "user.created", "2025-01-01 10:00:00", aggregateId, null);
+    }
+
+    private static final class Recording implements DomainEventListener {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done;
+
+        Recording(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(DomainEventDto event) {
+            received.add(event.aggregateId());
+            done.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Every local listener receives every event and its latency is recorded per listener")
+    void fansOutToAllListeners() throws InterruptedException {
+        Recording first = new Recording(2);
+        Recording second = new Recording(2);
+        bus = new InProcessEventBus(List.of(first, second), meterRegistry, 16, 1, Duration.ofSeconds(1));
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a"), event("b")), Duration.ofSeconds(1));
+
+        assertThat(result.allConfirmed()).isTrue();
+        assertThat(first.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.received).containsExactlyInAnyOrder("a", "b");
+        assertThat(second.received).containsExactlyInAnyOrder("a", "b");
+        // Both listeners share a class, hence one timer; recording finishes just after onEvent returns
+        var timer = meterRegistry.get("events.dispatch.duration").tag("listener", "Recording").timer();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (timer.count() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(timer.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("An event is confirmed only after every listener has handled it")
+    void confirmsAfterListenersComplete() {
+        Recording first = new Recording(1);
+        Recording second = new Recording(1);
+        bus = new InProcessEventBus(List.of(first, second), meterRegistry, 16, 1, Duration.ofSeconds(1));
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a")), Duration.ofSeconds(1));
+
+        assertThat(result.confirmed()).extracting(DomainEventDto::aggregateId).containsExactly("a");
+        assertThat(first.received).containsExactly("a");
+        assertThat(second.received).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("An event a listener has not finished within the timeout is not confirmed")
+    void slowListenerIsNotConfirmed() {
+        Recording fast = new Recording(1);
+        DomainEventListener slow = event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        bus = new InProcessEventBus(List.of(fast, slow), meterRegistry, 16, 1, Duration.ofSeconds(1));
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a")), Duration.ofMillis(50));
+
+        assertThat(result.failed()).extracting(DomainEventDto::aggregateId).containsExactly("a");
+        assertThat(meterRegistry.get("events.dispatch.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Backpressure: with the capacity held by slow deliveries, further events are refused")
+    void refusesWhenSaturated() {
+        DomainEventListener slow = event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        bus = new InProcessEventBus(List.of(slow), meterRegistry, 1, 1, Duration.ofSeconds(1));
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a"), event("b")), Duration.ofMillis(50));
+
+        // "a" was accepted but is still being handled, "b" found no capacity
+        assertThat(result.confirmed()).isEmpty();
+        assertThat(result.failed()).extracting(DomainEventDto::aggregateId).containsExactly("a", "b");
+        assertThat(meterRegistry.get("events.dispatch.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("events.dispatch.in-flight").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("A failing listener is retried and counted once it runs out of attempts")
+    void retriesFailingListener() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch exhausted = new CountDownLatch(2);
+        DomainEventListener flaky = event -> {
+            calls.incrementAndGet();
+            exhausted.countDown();
+            throw new IllegalStateException("boom");
+        };
+        bus = new InProcessEventBus(List.of(flaky), meterRegistry, 4, 2, Duration.ofSeconds(1));
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a")), Duration.ofSeconds(1));
+
+        // Left in the outbox for a later relay instead of being confirmed
+        assertThat(result.failed()).extracting(DomainEventDto::aggregateId).containsExactly("a");
+        assertThat(exhausted.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("events.dispatch.failed").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("events.dispatch.failed").counter().count()).isEqualTo(1.0);
+    }
+}
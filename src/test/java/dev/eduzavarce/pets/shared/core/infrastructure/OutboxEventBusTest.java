@@ -0,0 +1,83 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDeleted;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetDto;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetFed;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetPlayed;
+import dev.eduzavarce.pets.pets_context.pets.domain.PetType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventBusTest {
+
+    private static final String PET_ID = "11111111-1111-1111-1111-111111111111";
+    private static final PetDto PET = new PetDto(PET_ID, "Fluffy", "22222222-2222-2222-2222-222222222222",
+            50, 40, 60, PetType.CAT);
+
+    @Mock
+    OutboxRepository outboxRepository;
+    @Mock
+    EventStoreRepository eventStoreRepository;
+
+    @Captor
+    ArgumentCaptor<List<OutboxRecord>> recordsCaptor;
+
+    OutboxProperties properties;
+    OutboxEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        bus = new OutboxEventBus(outboxRepository, eventStoreRepository, new ObjectMapper(), properties);
+    }
+
+    @Test
+    @DisplayName("State snapshots go to the coalescing append; the store still records each of them")
+    void snapshotsAreCoalesced() {
+        bus.publish(List.of(new PetFed(PET_ID, PET), new PetPlayed(PET_ID, PET)));
+
+        verify(outboxRepository).appendCoalescing(recordsCaptor.capture(), eq(Duration.ofSeconds(2)));
+        assertThat(recordsCaptor.getValue()).extracting(OutboxRecord::eventName).containsExactly("pet.fed", "pet.played");
+        verify(outboxRepository, never()).append(any());
+        verify(eventStoreRepository).append(recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Other events release the pending snapshot of their aggregate before being appended")
+    void otherEventsReleasePendingSnapshots() {
+        bus.publish(List.of(new PetFed(PET_ID, PET), new PetDeleted(PET_ID, PET)));
+
+        InOrder inOrder = inOrder(outboxRepository);
+        inOrder.verify(outboxRepository).appendCoalescing(any(), any());
+        inOrder.verify(outboxRepository).releaseCoalescing(List.of(PET_ID));
+        inOrder.verify(outboxRepository).append(recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue()).extracting(OutboxRecord::eventName).containsExactly("pet.deleted");
+    }
+
+    @Test
+    @DisplayName("A zero window disables coalescing")
+    void zeroWindowAppendsEverything() {
+        properties.setCoalesceWindow(Duration.ZERO);
+
+        bus.publish(List.of(new PetFed(PET_ID, PET)));
+
+        verify(outboxRepository).append(any());
+        verifyNoMoreInteractions(outboxRepository);
+    }
+}
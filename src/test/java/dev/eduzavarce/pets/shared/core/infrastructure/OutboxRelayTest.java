@@ -0,0 +1,173 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    OutboxRepository outboxRepository;
+    @Mock
+    DomainEventPublisher eventPublisher;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Captor
+    ArgumentCaptor<List<DomainEventDto>> eventsCaptor;
+
+    SimpleMeterRegistry meterRegistry;
+    OutboxProperties properties;
+    OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        relay = new OutboxRelay(outboxRepository, eventPublisher, new ObjectMapper(), new EventBodySchemas(List.of()), transactionManager,
+                properties, meterRegistry);
+    }
+
+    private OutboxRecord record(String id, int attempts) {
+        return new OutboxRecord(id, "11111111-1111-1111-1111-111111111111", "user.created", "2025-01-01 10:00:00",
+                "{\"id\":\"11111111-1111-1111-1111-111111111111\",\"username\":\"john\"}",
+                Timestamp.valueOf("2025-01-01 10:00:00"), attempts);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("Drain: publishes full batches with confirms, deletes them and stops at the first short batch")
+    void drainsUntilShortBatch() {
+        when(outboxRepository.lockDue(2))
+                .thenReturn(List.of(record("e1", 0), record("e2", 0)))
+                .thenReturn(List.of(record("e3", 0)));
+        when(outboxRepository.oldestCreatedAt()).thenReturn(Optional.empty());
+        when(eventPublisher.publishConfirmed(anyList(), any()))
+                .thenAnswer(invocation -> new BatchPublishResult(invocation.getArgument(0), List.of()));
+
+        relay.drain();
+
+        verify(eventPublisher, times(2)).publishConfirmed(eventsCaptor.capture(), eq(properties.getConfirmTimeout()));
+        DomainEventDto first = eventsCaptor.getAllValues().getFirst().getFirst();
+        assertThat(first.eventId()).isEqualTo("e1");
+        assertThat(first.eventName()).isEqualTo("user.created");
+        assertThat(first.body()).isEqualTo(Map.of("id", "11111111-1111-1111-1111-111111111111", "username", "john"));
+        verify(outboxRepository).delete(List.of("e1", "e2"));
+        verify(outboxRepository).delete(List.of("e3"));
+        verify(outboxRepository, times(2)).lockDue(2);
+        assertThat(counter("events.outbox.relayed")).isEqualTo(3.0);
+        assertThat(meterRegistry.get("events.outbox.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Broker failure: the batch is kept, rescheduled with exponential backoff and counted as retries")
+    void failedBatchIsRescheduled() {
+        when(outboxRepository.lockDue(2)).thenReturn(List.of(record("e1", 3), record("e2", 3)));
+        when(outboxRepository.oldestCreatedAt()).thenReturn(Optional.of(Timestamp.valueOf("2025-01-01 10:00:00")));
+        doThrow(new AmqpIOException(new IOException("nack"))).when(eventPublisher).publishConfirmed(anyList(), any());
+
+        relay.drain();
+
+        verify(outboxRepository).reschedule(eq(List.of("e1", "e2")), eq(Duration.ofSeconds(8)), any());
+        verify(outboxRepository, never()).delete(anyList());
+        assertThat(counter("events.outbox.retries")).isEqualTo(2.0);
+        assertThat(counter("events.outbox.relayed")).isZero();
+        assertThat(meterRegistry.get("events.outbox.lag").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Partial confirm: acked events are deleted, only the nacked ones are rescheduled")
+    void partialConfirmReschedulesOnlyFailures() {
+        when(outboxRepository.lockDue(2)).thenReturn(List.of(record("e1", 0), record("e2", 0)));
+        when(outboxRepository.oldestCreatedAt()).thenReturn(Optional.empty());
+        when(eventPublisher.publishConfirmed(anyList(), any())).thenAnswer(invocation -> {
+            List<DomainEventDto> events = invocation.getArgument(0);
+            return new BatchPublishResult(List.of(events.get(0)), List.of(events.get(1)));
+        });
+
+        relay.drain();
+
+        verify(outboxRepository).delete(List.of("e1"));
+        verify(outboxRepository).reschedule(eq(List.of("e2")), eq(properties.getRetryBackoff()), any());
+        verify(outboxRepository, times(1)).lockDue(2);
+        assertThat(counter("events.outbox.relayed")).isEqualTo(1.0);
+        assertThat(counter("events.outbox.retries")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Corrupt row: it is rescheduled on its own and the good rows of its batch are still published")
+    void corruptRowDoesNotStallTheBatch() {
+        OutboxRecord corrupt = new OutboxRecord("e2", "11111111-1111-1111-1111-111111111111", "user.created",
+                "2025-01-01 10:00:00", "{not json", Timestamp.valueOf("2025-01-01 10:00:00"), 0);
+        when(outboxRepository.lockDue(2)).thenReturn(List.of(record("e1", 0), corrupt, record("e3", 0)));
+        when(eventPublisher.publishConfirmed(anyList(), any()))
+                .thenAnswer(invocation -> new BatchPublishResult(invocation.getArgument(0), List.of()));
+
+        int handled = relay.relayBatch();
+
+        assertThat(handled).isEqualTo(3);
+        verify(outboxRepository).reschedule(eq(List.of("e2")), eq(properties.getRetryBackoff()),
+                argThat(error -> error.contains("e2")));
+        verify(eventPublisher).publishConfirmed(eventsCaptor.capture(), any());
+        assertThat(eventsCaptor.getValue()).extracting(DomainEventDto::eventId).containsExactly("e1", "e3");
+        verify(outboxRepository).delete(List.of("e1", "e3"));
+        assertThat(counter("events.outbox.retries")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Backoff is capped at the configured maximum")
+    void backoffIsCapped() {
+        when(outboxRepository.lockDue(2)).thenReturn(List.of(record("e1", 30)));
+        doThrow(new AmqpIOException(new IOException("down"))).when(eventPublisher).publishConfirmed(anyList(), any());
+
+        relay.relayBatch();
+
+        verify(outboxRepository).reschedule(eq(List.of("e1")), eq(properties.getMaxRetryBackoff()), any());
+    }
+
+    @Test
+    @DisplayName("Due snapshot rows are released from coalescing and committed before the batch is locked")
+    void releasesCoalescingBeforeLocking() {
+        when(outboxRepository.lockDue(2)).thenReturn(List.of(record("e1", 0)));
+        when(eventPublisher.publishConfirmed(anyList(), any()))
+                .thenAnswer(invocation -> new BatchPublishResult(invocation.getArgument(0), List.of()));
+
+        relay.relayBatch();
+
+        InOrder inOrder = inOrder(outboxRepository, transactionManager, eventPublisher);
+        inOrder.verify(outboxRepository).releaseDueCoalescing();
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(outboxRepository).lockDue(2);
+        inOrder.verify(eventPublisher).publishConfirmed(anyList(), any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+}
@@ -0,0 +1,122 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import dev.eduzavarce.pets.shared.core.domain.DomainEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitMqEventBusTest {
+
+    @Mock
+    RabbitTemplate rabbitTemplate;
+    @Mock
+    RabbitOperations operations;
+
+    SimpleMeterRegistry meterRegistry;
+    RabbitMqEventBus bus;
+    List<String> sentKeys;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new RabbitMqEventBus(rabbitTemplate, meterRegistry, "events", 2, Duration.ofMillis(200));
+        sentKeys = new ArrayList<>();
+    }
+
+    private DomainEventDto event(String aggregateId) {
+        return new DomainEventDto("evt-" + aggregateId, "user.created", "2025-01-01 10:00:00", aggregateId, null);
+    }
+
+    /**
+     * Routes every send through the mocked channel and confirms it according to {@code ack}, or
+     * leaves every confirm outstanding.
+     */
+    private void confirmWith(Predicate<String> ack, boolean leaveUnconfirmed) {
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(operations);
+        });
+        doAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            CorrelationData correlation = invocation.getArgument(3);
+            sentKeys.add(key);
+            if (!leaveUnconfirmed) {
+                correlation.getFuture().complete(new CorrelationData.Confirm(ack.test(key), null));
+            }
+            return null;
+        }).when(operations).convertAndSend(anyString(), (Object) any(), any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    private double counter(String name, String reason) {
+        var search = meterRegistry.get(name);
+        return (reason == null ? search : search.tag("reason", reason)).counter().count();
+    }
+
+    @Test
+    @DisplayName("Batch: all events go through one channel and are confirmed together")
+    void pipelinesBatchOnOneChannel() {
+        confirmWith(key -> true, false);
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a"), event("b"), event("c")), Duration.ofSeconds(1));
+
+        assertThat(result.allConfirmed()).isTrue();
+        assertThat(result.confirmed()).extracting(DomainEventDto::aggregateId).containsExactly("a", "b", "c");
+        verify(rabbitTemplate, times(1)).invoke(any(RabbitOperations.OperationsCallback.class));
+        assertThat(sentKeys).containsExactly("events.a.user.created", "events.b.user.created", "events.c.user.created");
+        assertThat(counter("events.publish.confirmed", null)).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Nack: only the nacked event is resent, and reported failed once attempts run out")
+    void retriesOnlyNackedEvents() {
+        confirmWith(key -> !key.contains(".b."), false);
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a"), event("b")), Duration.ofSeconds(1));
+
+        assertThat(result.confirmed()).extracting(DomainEventDto::aggregateId).containsExactly("a");
+        assertThat(result.failed()).extracting(DomainEventDto::aggregateId).containsExactly("b");
+        assertThat(sentKeys).containsExactly("events.a.user.created", "events.b.user.created", "events.b.user.created");
+        assertThat(counter("events.publish.failed", "nack")).isEqualTo(2.0);
+        assertThat(counter("events.publish.retries", null)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Missing confirm: events not confirmed within the timeout are reported as timed out")
+    void unconfirmedEventsTimeOut() {
+        confirmWith(key -> true, true);
+
+        BatchPublishResult result = bus.publishConfirmed(List.of(event("a")), Duration.ofMillis(20));
+
+        assertThat(result.failed()).hasSize(1);
+        assertThat(counter("events.publish.failed", "timeout")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Routing key: unsafe aggregate id characters are replaced, safe ids are reused as-is")
+    void routingKeySanitizesAggregateId() {
+        String uuid = "3f2a0c83-6c2a-4c3a-a3b3-9f1a2b2c3d4e";
+
+        assertThat(RabbitMqEventBus.safe(uuid)).isSameAs(uuid);
+        assertThat(bus.routingKeyFor(event("a b/c#d"))).isEqualTo("events.a-b-c-d.user.created");
+        assertThat(bus.routingKeyFor(event(null))).isEqualTo("events.unknown.user.created");
+    }
+}
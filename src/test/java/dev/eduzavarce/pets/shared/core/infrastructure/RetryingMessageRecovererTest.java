@@ -0,0 +1,219 @@
+package dev.eduzavarce.pets.shared.core.infrastructure;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ReturnListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingMessageRecovererTest {
+
+    private static final String QUEUE = "user-created-pets.q";
+
+    @Mock
+    RabbitTemplate rabbitTemplate;
+    @Mock
+    Channel channel;
+
+    @Captor
+    ArgumentCaptor<ReturnListener> returnListener;
+
+    SimpleMeterRegistry meterRegistry;
+    ConsumerRetryPolicy policy;
+    RetryingMessageRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        policy = new ConsumerRetryPolicy("domain-events", 3, Duration.ofSeconds(1), 4.0, Duration.ofSeconds(10));
+        recoverer = new RetryingMessageRecoverer(rabbitTemplate, policy, meterRegistry);
+    }
+
+    private Message delivery(Integer retries) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(QUEUE);
+        properties.setMessageId("evt-1");
+        if (retries != null) properties.setHeader(RetryingMessageRecoverer.RETRY_COUNT_HEADER, retries);
+        return new Message("{}".getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void withChannel() {
+        when(rabbitTemplate.execute(any(ChannelCallback.class)))
+                .thenAnswer(invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+    }
+
+    private void verifyPublished(String exchange, String routingKey, Message message) throws IOException {
+        verify(channel).basicPublish(eq(exchange), eq(routingKey), eq(true), any(AMQP.BasicProperties.class),
+                eq(message.getBody()));
+    }
+
+    private double counter(String name) {
+        var counter = meterRegistry.find(name).tag("queue", QUEUE).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("Policy: delays grow by the multiplier, are capped, and name one delay queue each")
+    void policyDelays() {
+        assertThat(policy.delayFor(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(policy.delayFor(2)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(policy.delayFor(3)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(policy.delays()).containsExactly(Duration.ofSeconds(1), Duration.ofSeconds(4), Duration.ofSeconds(10));
+        assertThat(policy.retryQueue(QUEUE, Duration.ofSeconds(4))).isEqualTo("user-created-pets.q.retry.4000ms");
+        assertThat(policy.deadLetterQueue(QUEUE)).isEqualTo("user-created-pets.q.dlq");
+    }
+
+    @Test
+    @DisplayName("First failure goes to the shortest delay queue with the retry count set")
+    void firstFailureIsDelayed() throws IOException {
+        withChannel();
+        Message message = delivery(null);
+
+        recoverer.recover(message, new ListenerExecutionFailedException("failed", new IllegalStateException("db down"), message));
+
+        verifyPublished("domain-events.retry", "user-created-pets.q.retry.1000ms", message);
+        assertThat(RetryingMessageRecoverer.retryCount(message.getMessageProperties())).isEqualTo(1);
+        assertThat(counter(RetryingMessageRecoverer.RETRIED_COUNTER)).isEqualTo(1.0);
+        assertThat(counter(RetryingMessageRecoverer.DEAD_LETTERED_COUNTER)).isZero();
+    }
+
+    @Test
+    @DisplayName("Later failures wait longer")
+    void laterFailuresBackOff() throws IOException {
+        withChannel();
+        Message message = delivery(1);
+
+        recoverer.recover(message, new IllegalStateException("db down"));
+
+        verifyPublished("domain-events.retry", "user-created-pets.q.retry.4000ms", message);
+        assertThat(RetryingMessageRecoverer.retryCount(message.getMessageProperties())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Exhausted retries dead-letter the message with the root failure")
+    void exhaustedRetriesAreDeadLettered() throws IOException {
+        withChannel();
+        Message message = delivery(3);
+
+        recoverer.recover(message, new ListenerExecutionFailedException("failed", new IllegalStateException("db down"), message));
+
+        verifyPublished("domain-events.dlx", QUEUE, message);
+        MessageProperties properties = message.getMessageProperties();
+        assertThat((String) properties.getHeader(RetryingMessageRecoverer.ERROR_HEADER)).isEqualTo("db down");
+        assertThat((String) properties.getHeader(RetryingMessageRecoverer.ERROR_TYPE_HEADER))
+                .isEqualTo(IllegalStateException.class.getName());
+        assertThat((String) properties.getHeader(RetryingMessageRecoverer.DEAD_LETTERED_AT_HEADER)).isNotBlank();
+        assertThat(counter(RetryingMessageRecoverer.DEAD_LETTERED_COUNTER)).isEqualTo(1.0);
+        assertThat(counter(RetryingMessageRecoverer.RETRIED_COUNTER)).isZero();
+    }
+
+    @Test
+    @DisplayName("A payload that cannot be converted is dead-lettered without retries")
+    void conversionFailureSkipsRetries() throws IOException {
+        withChannel();
+        Message message = delivery(null);
+
+        recoverer.recover(message, new ListenerExecutionFailedException("failed",
+                new MessageConversionException("Malformed binary event"), message));
+
+        verifyPublished("domain-events.dlx", QUEUE, message);
+        assertThat(counter(RetryingMessageRecoverer.RETRIED_COUNTER)).isZero();
+        assertThat(counter(RetryingMessageRecoverer.DEAD_LETTERED_COUNTER)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("A failed batch moves every message one retry step")
+    void batchFailureRetriesEachMessage() throws IOException {
+        withChannel();
+        Message fresh = delivery(null);
+        Message exhausted = delivery(3);
+
+        recoverer.recover(List.of(fresh, exhausted), new IllegalStateException("db down"));
+
+        verifyPublished("domain-events.retry", "user-created-pets.q.retry.1000ms", fresh);
+        verifyPublished("domain-events.dlx", QUEUE, exhausted);
+    }
+
+    @Test
+    @DisplayName("A failed batch skips the messages its listener already dead-lettered on their own")
+    void batchFailureSkipsDeadLetteredMessages() throws IOException {
+        withChannel();
+        Message poison = delivery(null);
+        Message fresh = delivery(null);
+        recoverer.recover(poison, new MessageConversionException("Malformed binary event"));
+
+        recoverer.recover(List.of(poison, fresh), new IllegalStateException("db down"));
+
+        verify(channel, times(1)).basicPublish(eq("domain-events.dlx"), eq(QUEUE), eq(true),
+                any(AMQP.BasicProperties.class), any(byte[].class));
+        verifyPublished("domain-events.retry", "user-created-pets.q.retry.1000ms", fresh);
+        assertThat(RetryingMessageRecoverer.retryCount(poison.getMessageProperties())).isZero();
+    }
+
+    @Test
+    @DisplayName("Without a consumer queue the message is rejected for the broker to dead-letter")
+    void missingQueueIsRejected() {
+        Message message = new Message(new byte[0], new MessageProperties());
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("boom")))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("A republish the broker nacks is rejected, so the source queue's DLX parks the delivery")
+    void nackedRepublishIsRejected() throws Exception {
+        withChannel();
+        doThrow(new IOException("nack received")).when(channel).waitForConfirmsOrDie(anyLong());
+        Message message = delivery(null);
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("db down")))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class)
+                .hasMessageContaining("nack received");
+        assertThat(counter(RetryingMessageRecoverer.RETRIED_COUNTER)).isZero();
+    }
+
+    @Test
+    @DisplayName("An unroutable republish is returned by the broker and rejected even though it is confirmed")
+    void returnedRepublishIsRejected() throws Exception {
+        withChannel();
+        doAnswer(invocation -> {
+            verify(channel).addReturnListener(returnListener.capture());
+            returnListener.getValue().handleReturn(312, "NO_ROUTE", invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(3), invocation.getArgument(4));
+            return null;
+        }).when(channel).basicPublish(anyString(), anyString(), anyBoolean(), any(AMQP.BasicProperties.class), any(byte[].class));
+        Message message = delivery(3);
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("db down")))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class)
+                .hasMessageContaining("NO_ROUTE");
+        assertThat(counter(RetryingMessageRecoverer.DEAD_LETTERED_COUNTER)).isZero();
+        verify(channel).removeReturnListener(returnListener.getValue());
+    }
+}